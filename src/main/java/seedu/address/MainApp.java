@@ -2,7 +2,10 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
 
@@ -28,14 +31,25 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.ActivityBookStorage;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryActivityBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.DataFormatConverter;
 import seedu.address.storage.InternalStateStorage;
+import seedu.address.storage.JournaledActivityBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonActivityBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonInternalStateStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.MappedActivityBookStorage;
+import seedu.address.storage.ShardedActivityBookStorage;
+import seedu.address.storage.SqlActivityBookStorage;
+import seedu.address.storage.SqlAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WarmStartImage;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -49,7 +63,7 @@ public class MainApp extends Application {
 
     protected Ui ui;
     protected Logic logic;
-    protected Storage storage;
+    protected WriteBehindStorage storage;
     protected Model model;
     protected Config config;
 
@@ -71,84 +85,230 @@ public class MainApp extends Application {
         InternalStateStorage internalStateStorage = new JsonInternalStateStorage(
             userPrefs.getInternalStateFilePath()
         );
-        InternalState internalState = initState(internalStateStorage);
 
-        ActivityBookStorage activityBookStorage = new JsonActivityBookStorage(userPrefs.getActivityBookFilePath());
-
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(
-            userPrefs.getAddressBookFilePath()
-        );
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        ActivityBookStorage activityBookStorage = initActivityBookStorage(userPrefs);
 
         storage =
-            new StorageManager(
+            new WriteBehindStorage(new StorageManager(
                 addressBookStorage,
                 userPrefsStorage,
                 internalStateStorage,
                 activityBookStorage
-            );
+            ));
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs, internalState, activityBookStorage);
+        model = initModelManager(storage, userPrefs, internalStateStorage, activityBookStorage);
         logic = new LogicManager(model, storage);
         ui = new UiManager(logic);
+        storage.setSaveFailureHandler(e -> ui.showStatusMessage(LogicManager.FILE_OPS_ERROR_MESSAGE + e));
     }
 
     /**
     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+    * <br>
+    * The internal state, the address book and the activity book are kept in separate files, which are read at
+    * the same time. If warm start is enabled, the address book and the activity book are restored from the image
+    * saved when the app last exited instead, as long as their files have not changed since.
     */
     private Model initModelManager(
         Storage storage,
         ReadOnlyUserPrefs userPrefs,
-        InternalState internalState,
+        InternalStateStorage internalStateStorage,
         ActivityBookStorage activityBookStorage
     ) {
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        Optional<ActivityBook> activityBookOptional;
-        ReadOnlyAddressBook initialData;
-        ActivityBook initialActivityBook;
+        CompletableFuture<InternalState> internalStateRead =
+            CompletableFuture.supplyAsync(() -> initState(internalStateStorage));
+
+        if (userPrefs.isWarmStartEnabled()) {
+            Optional<WarmStartImage.Contents> restored = getWarmStartImage(userPrefs).restore(
+                List.of(storage.getAddressBookFilePath(), storage.getActivityBookFilePath())
+            );
+            if (restored.isPresent()) {
+                return ModelManager.withOwnBooks(restored.get().getAddressBook(), userPrefs,
+                    internalStateRead.join(), restored.get().getActivityBook());
+            }
+        }
+
+        CompletableFuture<Optional<AddressBook>> addressBookRead =
+            CompletableFuture.supplyAsync(() -> readAddressBook(storage));
+        CompletableFuture<ActivityBook> activityBookRead =
+            CompletableFuture.supplyAsync(() -> readActivityBook(activityBookStorage));
+
+        // the sample persons take their primary keys from the internal state, so they are only created once it
+        // has been applied
+        InternalState internalState = internalStateRead.join();
+        AddressBook initialData =
+            addressBookRead.join().orElseGet(
+                SampleDataUtil::getSampleAddressBook
+            );
+        // Update initial state after initialising sample list of contacts
+        internalState.updateInternalState();
+
+        // the books were read for the model alone, so it takes them as they are rather than copying them
+        return ModelManager.withOwnBooks(initialData, userPrefs, internalState, activityBookRead.join());
+    }
+
+    private static WarmStartImage getWarmStartImage(ReadOnlyUserPrefs userPrefs) {
+        return new WarmStartImage(WarmStartImage.getImageFilePath(userPrefs.getAddressBookFilePath()));
+    }
+
+    /**
+    * Returns the address book in {@code storage}, or {@code Optional.empty()} if it is not found.
+    * An empty address book is returned instead if errors occur when reading it.
+    */
+    private Optional<AddressBook> readAddressBook(Storage storage) {
         try {
-            addressBookOptional = storage.readAddressBook();
+            Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBook();
             if (!addressBookOptional.isPresent()) {
                 logger.info(
                     "Data file not found. Will be starting with a sample AddressBook"
                 );
             }
-            initialData =
-                addressBookOptional.orElseGet(
-                    SampleDataUtil::getSampleAddressBook
-                );
-            // Update initial state after initialising sample list of contacts
-            internalState.updateInternalState();
+            return addressBookOptional.map(addressBook -> addressBook instanceof AddressBook
+                ? (AddressBook) addressBook
+                : new AddressBook(addressBook));
         } catch (DataConversionException e) {
             logger.warning(
                 "Data file not in the correct format. Will be starting with an empty AddressBook"
             );
-            initialData = new AddressBook();
         } catch (IOException e) {
             logger.warning(
                 "Problem while reading from the file. Will be starting with an empty AddressBook"
             );
-            initialData = new AddressBook();
         }
+        return Optional.of(new AddressBook());
+    }
 
+    /**
+    * Returns the activity book in {@code activityBookStorage}, or an empty activity book if it is not found or
+    * errors occur when reading it.
+    */
+    private ActivityBook readActivityBook(ActivityBookStorage activityBookStorage) {
         try {
-            activityBookOptional = activityBookStorage.readActivityBook();
+            Optional<ActivityBook> activityBookOptional = activityBookStorage.readActivityBook();
             if (!activityBookOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with an empty ActivityBook");
             }
-            initialActivityBook = activityBookOptional.orElseGet(() -> new ActivityBook());
+            return activityBookOptional.orElseGet(() -> new ActivityBook());
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty ActivityBook");
-            initialActivityBook = new ActivityBook();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty ActivityBook");
-            initialActivityBook = new ActivityBook();
+        }
+        return new ActivityBook();
+    }
+
+    /**
+    * Returns the storage for the address book in the format selected in {@code userPrefs}, after converting the
+    * address book from another format if its file in that format is newer, such as right after the format is
+    * switched.
+    */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage jsonStorage = new JsonAddressBookStorage(
+            jsonFilePath,
+            userPrefs.isCompactJsonEnabled(),
+            userPrefs.isCompressionEnabled()
+        );
+        AddressBookStorage binaryStorage = new BinaryAddressBookStorage(
+            DataFormatConverter.getBinaryFilePath(jsonFilePath),
+            userPrefs.isCompressionEnabled()
+        );
+        if (userPrefs.isJournalEnabled()) {
+            jsonStorage = new JournaledAddressBookStorage(jsonStorage);
+            binaryStorage = new JournaledAddressBookStorage(binaryStorage);
         }
 
-        return new ModelManager(initialData, userPrefs, internalState, initialActivityBook);
+        // the database writes each change in a transaction of its own, so it is never journaled
+        AddressBookStorage sqlStorage = new SqlAddressBookStorage(
+            DataFormatConverter.getSqlFilePath(jsonFilePath)
+        );
+
+        AddressBookStorage selected;
+        if (userPrefs.isSqlStorageEnabled()) {
+            selected = sqlStorage;
+        } else if (userPrefs.isBinaryFormatEnabled()) {
+            selected = binaryStorage;
+        } else {
+            selected = jsonStorage;
+        }
+        List<AddressBookStorage> others = new ArrayList<>(List.of(jsonStorage, binaryStorage, sqlStorage));
+        others.remove(selected);
+        try {
+            DataFormatConverter.convertAddressBook(others, selected);
+        } catch (DataConversionException | IOException e) {
+            logger.warning(
+                "Failed to convert address book " + StringUtil.getDetails(e)
+            );
+        }
+        return selected;
+    }
+
+    /**
+    * Returns the storage for the activity book in the format selected in {@code userPrefs}, after converting the
+    * activity book from another format if its file in that format is newer, such as right after the format is
+    * switched.
+    */
+    private ActivityBookStorage initActivityBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getActivityBookFilePath();
+        ActivityBookStorage jsonStorage = new JsonActivityBookStorage(
+            jsonFilePath,
+            userPrefs.isCompactJsonEnabled(),
+            userPrefs.isCompressionEnabled()
+        );
+        ActivityBookStorage binaryStorage = new BinaryActivityBookStorage(
+            DataFormatConverter.getBinaryFilePath(jsonFilePath),
+            userPrefs.isCompressionEnabled()
+        );
+        if (userPrefs.isJournalEnabled()) {
+            jsonStorage = new JournaledActivityBookStorage(jsonStorage);
+            binaryStorage = new JournaledActivityBookStorage(binaryStorage);
+        }
+        // the expense store, the activity files and the database only ever write what changed, so they are never
+        // journaled
+        ActivityBookStorage mappedStorage = new MappedActivityBookStorage(
+            DataFormatConverter.getMappedFilePath(jsonFilePath)
+        );
+
+        ActivityBookStorage shardedStorage = new ShardedActivityBookStorage(
+            DataFormatConverter.getShardedFilePath(jsonFilePath),
+            userPrefs.isCompactJsonEnabled(),
+            userPrefs.isLazyLoadingEnabled(),
+            userPrefs.isCompressionEnabled()
+        );
+
+        ActivityBookStorage sqlStorage = new SqlActivityBookStorage(
+            DataFormatConverter.getSqlFilePath(jsonFilePath)
+        );
+
+        ActivityBookStorage selected;
+        if (userPrefs.isSqlStorageEnabled()) {
+            selected = sqlStorage;
+        } else if (userPrefs.isMappedStorageEnabled()) {
+            selected = mappedStorage;
+        } else if (userPrefs.isShardedStorageEnabled()) {
+            selected = shardedStorage;
+        } else if (userPrefs.isBinaryFormatEnabled()) {
+            selected = binaryStorage;
+        } else {
+            selected = jsonStorage;
+        }
+        List<ActivityBookStorage> others = new ArrayList<>(
+            List.of(jsonStorage, binaryStorage, mappedStorage, shardedStorage, sqlStorage)
+        );
+        others.remove(selected);
+        try {
+            DataFormatConverter.convertActivityBook(others, selected);
+        } catch (DataConversionException | IOException e) {
+            logger.warning(
+                "Failed to convert activity book " + StringUtil.getDetails(e)
+            );
+        }
+        return selected;
     }
 
     private void initLogging(Config config) {
@@ -296,5 +456,31 @@ public class MainApp extends Application {
                 "Failed to save preferences " + StringUtil.getDetails(e)
             );
         }
+        try {
+            storage.compactAddressBook();
+            storage.compactActivityBook();
+        } catch (IOException e) {
+            logger.warning(
+                "Failed to compact data " + StringUtil.getDetails(e)
+            );
+        }
+        try {
+            storage.close();
+        } catch (IOException e) {
+            logger.severe(
+                "Failed to save data " + StringUtil.getDetails(e)
+            );
+            return;
+        }
+        if (model.getUserPrefs().isWarmStartEnabled()) {
+            try {
+                getWarmStartImage(model.getUserPrefs()).save(model.getAddressBook(), model.getActivityBook(),
+                    List.of(storage.getAddressBookFilePath(), storage.getActivityBookFilePath()));
+            } catch (IOException e) {
+                logger.warning(
+                    "Failed to save warm start image " + StringUtil.getDetails(e)
+                );
+            }
+        }
     }
 }
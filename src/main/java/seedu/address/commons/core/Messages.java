@@ -12,5 +12,6 @@ public class Messages {
     public static final String MESSAGE_INVALID_PERSON_DISPLAY_INDEX = "The person index provided is invalid!";
     public static final String MESSAGE_FOUND_BY_KEYWORD = "Found %d %s using the following search term: %s";
     public static final String MESSAGE_WARNING = "Warnings:\n%s";
+    public static final String MESSAGE_DID_YOU_MEAN = "Did you mean: %s?";
     public static final String MESSAGE_INVALID_INDEX = "This index could not be found in the current context.";
 }
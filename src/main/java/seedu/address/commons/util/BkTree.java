@@ -0,0 +1,96 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A Burkhard-Keller tree of strings under the {@link StringUtil#editDistance(String, String) edit distance}.
+ * Finding every term within a small distance of a query only visits the branches whose distance to each
+ * visited node can still satisfy the triangle inequality, instead of comparing the query against every term.
+ */
+public class BkTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code term} to the tree. Does nothing if the tree already contains it.
+     */
+    public void add(String term) {
+        requireNonNull(term);
+        if (root == null) {
+            root = new Node(term);
+            size++;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.editDistance(term, node.term);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(term));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns every term within {@code maxDistance} edits of {@code query}, mapped to its distance from it.
+     */
+    public Map<String, Integer> search(String query, int maxDistance) {
+        requireNonNull(query);
+        Map<String, Integer> matches = new LinkedHashMap<>();
+        if (root == null) {
+            return matches;
+        }
+
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            int distance = StringUtil.editDistance(query, node.term);
+            if (distance <= maxDistance) {
+                matches.put(node.term, distance);
+            }
+            for (int d = Math.max(1, distance - maxDistance); d <= distance + maxDistance; d++) {
+                Node child = node.children.get(d);
+                if (child != null) {
+                    toVisit.push(child);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Removes every term from the tree.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static class Node {
+        private final String term;
+        private final HashMap<Integer, Node> children = new HashMap<>();
+
+        Node(String term) {
+            this.term = term;
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
@@ -12,6 +18,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final int BUFFER_SIZE = 8192;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +87,59 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Returns true if {@code file} is compressed, as found from its first bytes.
+     * Assumes file exists
+     */
+    public static boolean isCompressed(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return isCompressed(in);
+        }
+    }
+
+    /**
+     * Opens a buffered stream to read the contents of a file, which are decompressed as they are read if the file is
+     * compressed. Whether it is compressed is found from its first bytes, so either kind of file can be read.
+     * Assumes file exists
+     */
+    public static InputStream openInputStream(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+        try {
+            in.mark(2);
+            boolean isCompressed = isCompressed(in);
+            in.reset();
+            return isCompressed ? new BufferedInputStream(new GZIPInputStream(in, BUFFER_SIZE), BUFFER_SIZE) : in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a buffered stream to write to a file, compressing what is written if {@code isCompressed} is true.
+     * Will create the file if it does not exist yet, and overwrite it otherwise.
+     */
+    public static OutputStream openOutputStream(Path file, boolean isCompressed) throws IOException {
+        OutputStream out = Files.newOutputStream(file);
+        if (!isCompressed) {
+            return new BufferedOutputStream(out, BUFFER_SIZE);
+        }
+        try {
+            return new BufferedOutputStream(new GZIPOutputStream(out, BUFFER_SIZE), BUFFER_SIZE);
+        } catch (IOException e) {
+            out.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true if the next bytes of {@code in} start a GZIP stream.
+     */
+    private static boolean isCompressed(InputStream in) throws IOException {
+        int first = in.read();
+        int second = in.read();
+        // the magic number is written low byte first
+        return first == (GZIPInputStream.GZIP_MAGIC & 0xff) && second == (GZIPInputStream.GZIP_MAGIC >>> 8);
+    }
+
 }
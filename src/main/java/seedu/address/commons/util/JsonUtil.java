@@ -3,18 +3,28 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +32,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -39,18 +50,25 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Writes the elements of a streamed array, leaving the generator to decide when to flush
+    private static final ObjectWriter elementWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = FileUtil.openInputStream(jsonFile)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
      * Returns the Json object from the given file or {@code Optional.empty()} object if the file is not found.
      * If any values are missing from the file, default values will be used, as long as the file is a valid json file.
+     * The file is decompressed as it is read if it is compressed.
      * @param filePath cannot be null.
      * @param classOfObjectToDeserialize Json file has to correspond to the structure in the class given here.
      * @throws DataConversionException if the file format is not as expected.
@@ -76,6 +94,54 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads the elements of the array field {@code arrayFieldName} of the JSON object in the given file, passing each
+     * element to {@code elementHandler} as soon as it is read. Only one element is held in memory at a time, rather
+     * than the whole file and the object read from it. Other fields of the object are skipped, and a missing array
+     * field is read as an empty array. The file is decompressed as it is read if it is compressed.
+     * @param filePath cannot be null.
+     * @param elementClass each element has to correspond to the structure in the class given here.
+     * @return false if the file is not found, true otherwise.
+     * @throws DataConversionException if the file format is not as expected.
+     * @throws IllegalValueException if {@code elementHandler} rejects an element.
+     */
+    public static <T> boolean readJsonArrayFile(Path filePath, String arrayFieldName, Class<T> elementClass,
+            ArrayElementHandler<T> elementHandler) throws DataConversionException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elementClass);
+        requireNonNull(elementHandler);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return false;
+        }
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(FileUtil.openInputStream(filePath))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!fieldName.equals(arrayFieldName)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array for " + arrayFieldName);
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    elementHandler.handle(objectMapper.readValue(parser, elementClass));
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+        return true;
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -90,6 +156,65 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Saves the Json object to the specified file, written through a buffer straight to the file.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @param isCompact whether to leave out the line breaks and indentation
+     * @param isCompressed whether to compress the file as it is written
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isCompact, boolean isCompressed)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        try (OutputStream out = FileUtil.openOutputStream(filePath, isCompressed)) {
+            ObjectWriter writer = isCompact ? objectMapper.writer() : objectMapper.writerWithDefaultPrettyPrinter();
+            writer.writeValue(out, jsonFile);
+        }
+    }
+
+    /**
+     * Saves {@code elements} to the specified file as a JSON object with the single array field
+     * {@code arrayFieldName}, converting each element with {@code adapter} only as it is written. Only one converted
+     * element is held in memory at a time, and the JSON is written through a buffer straight to the file, compressed
+     * as it is written if {@code isCompressed} is true.
+     * The JSON is written to a temporary file next to the specified file, which then replaces it in a single move,
+     * so the file is never left half written. Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @param filePath cannot be null
+     * @param isCompact whether to leave out the line breaks and indentation
+     * @param isCompressed whether to compress the file as it is written
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <E> void saveJsonArrayFile(Path filePath, String arrayFieldName, Iterable<E> elements,
+            Function<? super E, ?> adapter, boolean isCompact, boolean isCompressed) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elements);
+        requireNonNull(adapter);
+
+        Path temporaryFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try {
+            try (OutputStream out = FileUtil.openOutputStream(temporaryFilePath, isCompressed);
+                    JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                if (!isCompact) {
+                    generator.useDefaultPrettyPrinter();
+                }
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(arrayFieldName);
+                for (E element : elements) {
+                    elementWriter.writeValue(generator, adapter.apply(element));
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            Files.move(temporaryFilePath, filePath, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaryFilePath);
+            throw e;
+        }
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -110,6 +235,27 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Handles an element read from a JSON array.
+     */
+    @FunctionalInterface
+    public interface ArrayElementHandler<T> {
+        /**
+         * @throws IllegalValueException if the element is not valid.
+         */
+        void handle(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -5,6 +5,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.text.CollationKey;
+import java.text.Collator;
 import java.util.Arrays;
 
 /**
@@ -12,6 +14,14 @@ import java.util.Arrays;
  */
 public class StringUtil {
 
+    // Collators are not thread-safe, so each thread has its own. Their keys compare alike, as they are all made
+    // with the same rules.
+    private static final ThreadLocal<Collator> COLLATOR = ThreadLocal.withInitial(() -> {
+        Collator collator = Collator.getInstance();
+        collator.setStrength(Collator.SECONDARY);
+        return collator;
+    });
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -38,6 +48,52 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns a key that orders {@code text} alphabetically in the default locale, ignoring case.
+     * Comparing keys is much cheaper than collating the strings themselves, so callers that sort or
+     * index the same strings repeatedly should keep the key.
+     * @param text cannot be null
+     */
+    public static CollationKey getCollationKey(String text) {
+        requireNonNull(text);
+        return COLLATOR.get().getCollationKey(text);
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, i.e. the minimum number of
+     * single character insertions, deletions and substitutions needed to turn one into the other.
+     *   <br>examples:<pre>
+     *       editDistance("alice", "alice") == 0
+     *       editDistance("alcie", "alice") == 2
+     *       editDistance("meier", "meyer") == 1
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static int editDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return previous[second.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -8,6 +8,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Page;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.activity.Activity;
 import seedu.address.model.person.Person;
@@ -38,6 +39,20 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of activities */
     ObservableList<Activity> getFilteredActivityList();
 
+    /**
+     * Returns a page of the filtered list of persons.
+     *
+     * @see seedu.address.model.Model#getFilteredPersonPage(int, int)
+     */
+    Page<Person> getFilteredPersonPage(int offset, int limit);
+
+    /**
+     * Returns a page of the filtered list of activities.
+     *
+     * @see seedu.address.model.Model#getFilteredActivityPage(int, int)
+     */
+    Page<Activity> getFilteredActivityPage(int offset, int limit);
+
     /**
      * Returns an unmodifiable list of {@code Person} containing all participants of a
      * specified {@code Activity}.
@@ -13,9 +13,12 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ActivityBook;
 import seedu.address.model.Model;
+import seedu.address.model.Page;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.activity.Activity;
+import seedu.address.model.activity.exceptions.ExpenseLoadException;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
 
@@ -24,16 +27,28 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String FILE_LOAD_ERROR_MESSAGE = "Could not read data from file: ";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    // The books last written to storage and their versions at the time, so that unchanged books are not
+    // written again. They start as the books the model was created with, which were just read from storage.
+    private ReadOnlyAddressBook savedAddressBook;
+    private long savedAddressBookVersion;
+    private ActivityBook savedActivityBook;
+    private long savedActivityBookVersion;
+
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedAddressBook = model.getAddressBook();
+        savedAddressBookVersion = savedAddressBook.getVersion();
+        savedActivityBook = model.getActivityBook();
+        savedActivityBookVersion = savedActivityBook.getVersion();
     }
 
     @Override
@@ -42,18 +57,34 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            commandResult = command.execute(model);
+        } catch (ExpenseLoadException ele) {
+            throw new CommandException(FILE_LOAD_ERROR_MESSAGE + ele.getMessage(), ele);
         }
 
-        try {
-            storage.saveActivityBook(model.getActivityBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        if (addressBook != savedAddressBook || addressBook.getVersion() != savedAddressBookVersion) {
+            long version = addressBook.getVersion();
+            try {
+                storage.saveAddressBook(addressBook);
+            } catch (IOException ioe) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            }
+            savedAddressBook = addressBook;
+            savedAddressBookVersion = version;
+        }
+
+        ActivityBook activityBook = model.getActivityBook();
+        if (activityBook != savedActivityBook || activityBook.getVersion() != savedActivityBookVersion) {
+            long version = activityBook.getVersion();
+            try {
+                storage.saveActivityBook(activityBook);
+            } catch (IOException ioe) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            }
+            savedActivityBook = activityBook;
+            savedActivityBookVersion = version;
         }
 
         return commandResult;
@@ -74,6 +105,16 @@ public class LogicManager implements Logic {
         return model.getFilteredActivityList();
     }
 
+    @Override
+    public Page<Person> getFilteredPersonPage(int offset, int limit) {
+        return model.getFilteredPersonPage(offset, limit);
+    }
+
+    @Override
+    public Page<Activity> getFilteredActivityPage(int offset, int limit) {
+        return model.getFilteredActivityPage(offset, limit);
+    }
+
     @Override
     public List<Person> getAssociatedPersons(Activity activity) {
         return model.getAssociatedPersons(activity);
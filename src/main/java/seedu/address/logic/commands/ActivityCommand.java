@@ -11,7 +11,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Context;
@@ -73,10 +72,10 @@ public class ActivityCommand extends Command {
         // Participant will only be added if the keyword has a unique match.
         for (String searchTerm : participants) {
 
-            //Check for exact match case
-            Optional<Person> exactMatch = model.findPersonByName(searchTerm);
-            if (exactMatch.isPresent()) {
-                toAddPerson = exactMatch.get();
+            //Check for exact match case, which must be unique
+            List<Person> exactMatches = model.findPersonByName(searchTerm);
+            if (exactMatches.size() == 1) {
+                toAddPerson = exactMatches.get(0);
             } else {
 
                 keywords = Arrays.asList(searchTerm.split(" "));
@@ -85,7 +84,10 @@ public class ActivityCommand extends Command {
 
                 // Non-unique match (0 or more than 1) - this argument is skipped
                 if (findResult.size() != 1) {
-                    updateWarningNotSingleMatch(warningMessage, searchTerm, findResult.size());
+                    List<Person> similarPersons = findResult.isEmpty()
+                            ? model.findPersonSimilar(keywords)
+                            : List.of();
+                    updateWarningNotSingleMatch(warningMessage, searchTerm, findResult.size(), similarPersons);
                     continue;
                 }
                 toAddPerson = findResult.get(0);
@@ -153,9 +155,14 @@ public class ActivityCommand extends Command {
      * @param stringBuilder StringBuilder that contains the warning message
      * @param searchTerm Search term that was used to find a person
      * @param matchCount Number of valid matches
+     * @param similarPersons Persons with similar names to suggest, closest first
      */
-    private void updateWarningNotSingleMatch(StringBuilder stringBuilder, String searchTerm, int matchCount) {
-        stringBuilder.append(String.format(WARNING_SEARCH_RESULTS, searchTerm, matchCount));
+    private void updateWarningNotSingleMatch(StringBuilder stringBuilder, String searchTerm, int matchCount,
+            List<Person> similarPersons) {
+        String warning = String.format(WARNING_SEARCH_RESULTS, searchTerm, matchCount);
+        stringBuilder.append(warning.stripTrailing())
+                .append(getSuggestion(similarPersons))
+                .append("\n");
     }
 
     /**
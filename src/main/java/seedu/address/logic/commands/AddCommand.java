@@ -49,7 +49,7 @@ public class AddCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        if (model.findPersonByName(toAdd.getName().fullName).isPresent()) {
+        if (!model.findPersonByName(toAdd.getName().fullName).isEmpty()) {
             throw new CommandException(MESSAGE_DUPLICATE_NAME);
         }
 
@@ -1,13 +1,22 @@
 package seedu.address.logic.commands;
 
+import static seedu.address.commons.core.Messages.MESSAGE_DID_YOU_MEAN;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.Person;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
  */
 public abstract class Command {
 
+    /** Maximum number of similar names suggested when a name search has no result. */
+    protected static final int MAX_SUGGESTIONS = 3;
+
     /**
      * Executes the command and returns the result message.
      *
@@ -17,4 +26,19 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns a hint naming the closest of {@code similarPersons}, preceded by a space,
+     * or an empty string if there are none.
+     */
+    protected static String getSuggestion(List<Person> similarPersons) {
+        if (similarPersons.isEmpty()) {
+            return "";
+        }
+        String names = similarPersons.stream()
+                .limit(MAX_SUGGESTIONS)
+                .map(Person::getNameStr)
+                .collect(Collectors.joining(", "));
+        return " " + String.format(MESSAGE_DID_YOU_MEAN, names);
+    }
+
 }
@@ -7,15 +7,14 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PARTICIPANT;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Context;
 import seedu.address.model.ContextType;
 import seedu.address.model.Model;
 import seedu.address.model.activity.Activity;
-import seedu.address.model.person.NameContainsAllKeywordsPredicate;
+import seedu.address.model.activity.ParticipantNameResolver;
 import seedu.address.model.person.Person;
 
 /**
@@ -76,8 +75,9 @@ public class DisinviteCommand extends Command {
 
         Activity activityToDisinviteFrom = model.getContext().getActivity().get();
         List<Integer> participantIds = activityToDisinviteFrom.getParticipantIds();
-        model.updateFilteredPersonList(x -> participantIds.contains(x.getPrimaryKey()));
-        List<Person> searchScope = model.getFilteredPersonList();
+        model.updateFilteredPersonList(Set.copyOf(participantIds));
+        ParticipantNameResolver participantResolver =
+                activityToDisinviteFrom.getParticipantResolver(model.getAddressBook());
 
         List<String> keywords;
         List<Person> findResult;
@@ -95,20 +95,21 @@ public class DisinviteCommand extends Command {
             Person personToDisinvite;
             Integer idOfPersonToDisinvite;
 
-            Optional<Person> person = model.findPersonByName(name.trim());
+            List<Person> exactMatches = model.findPersonByName(name.trim());
 
-            if (person.isPresent()) {
-                personToDisinvite = person.get();
+            if (exactMatches.size() == 1) {
+                personToDisinvite = exactMatches.get(0);
             } else {
                 keywords = Arrays.asList(name.split(" "));
-                NameContainsAllKeywordsPredicate predicate = new NameContainsAllKeywordsPredicate(keywords);
-
-                findResult = searchScope.stream().filter(predicate).collect(Collectors.toList());
+                findResult = participantResolver.findPersonAll(keywords);
 
                 assert findResult != null : "List of people should not be null.";
 
                 if (findResult.size() != 1) { //not in activity or duplicate
                     String warning = String.format(MESSAGE_NON_UNIQUE_SEARCH_RESULT, name);
+                    if (findResult.isEmpty()) {
+                        warning += getSuggestion(participantResolver.findPersonSimilar(keywords));
+                    }
                     warningMessage.append(warning).append("\n");
                     continue;
                 }
@@ -131,10 +132,13 @@ public class DisinviteCommand extends Command {
             namesToRemove.add(name);
         }
 
+        if (!idsToRemove.isEmpty()) {
+            activityToDisinviteFrom.disinvite(idsToRemove.toArray(Integer[]::new));
+        }
+
         for (int i = 0; i < idsToRemove.size(); i++) {
             Integer id = idsToRemove.get(i);
             String name = namesToRemove.get(i);
-            activityToDisinviteFrom.disinvite(id);
             if (participantIds.contains(id)) { // not removed, has existing expenses
                 String warning = String.format(MESSAGE_UNSUCCESSFUL_DISINVITE_HAS_EXPENSE, name);
                 warningMessage.append(warning).append("\n");
@@ -144,7 +148,7 @@ public class DisinviteCommand extends Command {
             }
         }
 
-        model.updateFilteredPersonList(x -> participantIds.contains(x.getPrimaryKey()));
+        model.updateFilteredPersonList(Set.copyOf(participantIds));
 
         String result;
 
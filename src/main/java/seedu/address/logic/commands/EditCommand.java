@@ -83,7 +83,7 @@ public class EditCommand extends Command {
             Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
 
             boolean isNameDuplicated = editPersonDescriptor.getName().isPresent()
-                    && model.findPersonByName(editPersonDescriptor.getName().get().toString()).isPresent();
+                    && !model.findPersonByName(editPersonDescriptor.getName().get().toString()).isEmpty();
 
             if (isNameDuplicated) {
                 throw new CommandException(MESSAGE_DUPLICATE_PERSON);
@@ -19,6 +19,7 @@ import seedu.address.model.Model;
 import seedu.address.model.activity.Activity;
 import seedu.address.model.activity.Amount;
 import seedu.address.model.activity.Expense;
+import seedu.address.model.activity.ParticipantNameResolver;
 import seedu.address.model.activity.Title;
 import seedu.address.model.activity.exceptions.PersonNotInActivityException;
 import seedu.address.model.person.NameContainsAllKeywordsPredicate;
@@ -64,6 +65,8 @@ public class ExpenseCommand extends Command {
 
     protected List<Person> searchScope;
     protected Activity activity;
+    // Only set when viewing an activity, in which case names are only resolved among its participants.
+    protected ParticipantNameResolver participantResolver;
     protected List<Integer> personList = new ArrayList<>();
     protected StringBuilder successMessage = new StringBuilder();
     protected StringBuilder warningMessage = new StringBuilder();
@@ -85,9 +88,8 @@ public class ExpenseCommand extends Command {
             searchScope = model.getAddressBook().getPersonList();
         } else {
             activity = model.getContext().getActivity().get();
-            searchScope = model.getAddressBook().getPersonList().stream()
-                    .filter(x -> activity.hasPerson(x.getPrimaryKey()))
-                    .collect(Collectors.toList());
+            participantResolver = activity.getParticipantResolver(model.getAddressBook());
+            searchScope = participantResolver.getParticipants();
         }
     }
 
@@ -99,7 +101,7 @@ public class ExpenseCommand extends Command {
     protected void getInvolved(Model model, int payingId) throws CommandException {
         if (persons.size() > 1) {
             for (String keyword : persons.subList(1, persons.size())) {
-                Person person = searchPerson(keyword, searchScope);
+                Person person = searchPerson(keyword, model);
                 int personPriKey = person.getPrimaryKey();
                 if (personList.contains(personPriKey) || personPriKey == payingId) {
                     warningMessage.append(String.format(WARNING_DUPLICATE_PERSON, person.getName()));
@@ -140,7 +142,7 @@ public class ExpenseCommand extends Command {
         // For each participant argument passed through, the argument is broken up into keywords
         // which are then used to search through the searchScope (context dependent).
         // Expenses will only be added if every keyword string has a unique match.
-        Person payingPerson = searchPerson(persons.get(0), searchScope);
+        Person payingPerson = searchPerson(persons.get(0), model);
         int payingId = payingPerson.getPrimaryKey();
 
         // Contextual behaviour
@@ -186,23 +188,32 @@ public class ExpenseCommand extends Command {
      * Searches for a {@code Person} object from a given list of people using a name search string.
      * If an exact match is found (non-case sensitive), it will return the exact match.
      * Otherwise, it will use keyword based matching to look for names.
+     * Only people in the search scope (context dependent) are considered.
      * @param str The search string
-     * @param searchScope The {@code Person} list to search from
+     * @param model The model whose name index is used outside of an activity
      * @return The search result as a {@code Person} object
      * @throws CommandException if the search result is not unique
      */
-    protected Person searchPerson(String str, List<Person> searchScope) throws CommandException {
-        List<Person> findResult = searchScope.stream()
-                .filter(x -> str.toLowerCase().equals(x.getName().toString().toLowerCase()))
-                .collect(Collectors.toList());
-
-        if (findResult.size() == 1) {
-            return findResult.get(0);
+    protected Person searchPerson(String str, Model model) throws CommandException {
+        List<Person> exactMatches = participantResolver != null
+                ? participantResolver.findPersonByName(str)
+                : model.findPersonByName(str);
+        if (exactMatches.size() == 1) {
+            return exactMatches.get(0);
         }
 
         List<String> keywords = Arrays.asList(str.split(" "));
-        NameContainsAllKeywordsPredicate predicate = new NameContainsAllKeywordsPredicate(keywords);
-        findResult = searchScope.stream().filter(predicate).collect(Collectors.toList());
+        List<Person> findResult = participantResolver != null
+                ? participantResolver.findPersonAll(keywords)
+                : model.findPersonAll(new NameContainsAllKeywordsPredicate(keywords));
+
+        if (findResult.isEmpty()) {
+            List<Person> similarPersons = participantResolver != null
+                    ? participantResolver.findPersonSimilar(keywords)
+                    : model.findPersonSimilar(keywords);
+            throw new CommandException(String.format(MESSAGE_NON_UNIQUE_SEARCH_RESULT, str)
+                    + getSuggestion(similarPersons));
+        }
 
         if (findResult.size() != 1) {
             throw new CommandException(String.format(MESSAGE_NON_UNIQUE_SEARCH_RESULT, str));
@@ -1,35 +1,113 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.Messages;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.ContextType;
 import seedu.address.model.Model;
+import seedu.address.model.activity.Activity;
 import seedu.address.model.activity.TitleContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsAllKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameTokenIndex;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.AmountBound;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryTerms;
+import seedu.address.model.tag.TagFilter;
 
 /**
  * Finds and lists all contacts in SplitWiser whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive. Contact keywords ending with {@code ~} also match names with small typos.
+ * Contacts can also be filtered by a combination of tags. Activity keywords ending with {@code *} match
+ * any title word starting with them.
+ *
+ * Keywords, tags and the structured {@link QueryTerms} are combined into a {@link Query}, which looks up the
+ * terms that have an index and only tests the rest on the entries found by the most selective lookup.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String FUZZY_SUFFIX = "~";
+    public static final String PREFIX_SUFFIX = "*";
+    public static final String TAG_OR = "|";
+    public static final String TAG_NOT = "!";
+
+    public static final String TERM_NAME = "name:";
+    public static final String TERM_TAG = "tag:";
+    public static final String TERM_IN = "in:";
+    public static final String TERM_OWES = "owes";
+    public static final String TERM_SPENT = "spent";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Parameters: [KEYWORD]... [" + PREFIX_TAG + "TAG[" + TAG_OR + "TAG]...]...\n"
+            + "When searching contacts, end a keyword with " + FUZZY_SUFFIX
+            + " to also match names with small typos.\n"
+            + "Contacts must have at least one of the tags given in each " + PREFIX_TAG + " filter, "
+            + "and none of the tags given after " + PREFIX_TAG + TAG_NOT + ".\n"
+            + "When searching activities, end a keyword with " + PREFIX_SUFFIX
+            + " to match any title word starting with it.\n"
+            + "Every one of these terms must also hold: " + TERM_NAME + "WORD (contact name has the word), "
+            + TERM_TAG + "TAG (same as " + PREFIX_TAG + "TAG), " + TERM_IN + "\"TITLE\" (contact is in the activity), "
+            + TERM_OWES + ">AMOUNT or " + TERM_OWES + "<AMOUNT (contact owes others in total), "
+            + TERM_SPENT + ">AMOUNT or " + TERM_SPENT + "<AMOUNT (activity spending).\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " alcie~\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "friends" + TAG_OR + "family "
+            + PREFIX_TAG + TAG_NOT + "colleagues\n"
+            + "Example: " + COMMAND_WORD + " din" + PREFIX_SUFFIX + "\n"
+            + "Example: " + COMMAND_WORD + " " + TERM_TAG + "friends " + TERM_IN + "\"Bali trip\" "
+            + TERM_OWES + ">10";
     public static final String WARNING_INVALID_CONTEXT = "This command can only be used"
             + "while viewing the list of activities/contacts.";
+    public static final String WARNING_TAGS_FOR_CONTACTS_ONLY = "Tag filters can only be used "
+            + "while viewing the list of contacts.";
+    public static final String WARNING_TERMS_FOR_CONTACTS_ONLY = "The terms " + TERM_NAME + ", " + TERM_IN
+            + " and " + TERM_OWES + " can only be used while viewing the list of contacts.";
+    public static final String WARNING_TERMS_FOR_ACTIVITIES_ONLY = "The term " + TERM_SPENT
+            + " can only be used while viewing the list of activities.";
     private final String searchTerm;
     private final String[] keywords;
+    private final TagFilter tagFilter;
+    private final QueryTerms queryTerms;
 
     public FindCommand(String[] keywords, String searchTerm) {
+        this(keywords, TagFilter.EMPTY, searchTerm);
+    }
+
+    /**
+     * Creates a FindCommand that also filters contacts by {@code tagFilter}.
+     */
+    public FindCommand(String[] keywords, TagFilter tagFilter, String searchTerm) {
+        this(keywords, tagFilter, QueryTerms.EMPTY, searchTerm);
+    }
+
+    /**
+     * Creates a FindCommand that also filters contacts by {@code tagFilter}, and requires every one of
+     * {@code queryTerms} to hold.
+     */
+    public FindCommand(String[] keywords, TagFilter tagFilter, QueryTerms queryTerms, String searchTerm) {
         this.keywords = keywords;
+        this.tagFilter = tagFilter;
+        this.queryTerms = queryTerms;
         this.searchTerm = searchTerm;
     }
 
@@ -39,28 +117,217 @@ public class FindCommand extends Command {
         ContextType type = model.getContext().getType();
         switch (type) {
         case LIST_CONTACT:
-            model.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
+            if (queryTerms.hasActivityTerms()) {
+                throw new CommandException(WARNING_TERMS_FOR_ACTIVITIES_ONLY);
+            }
+            // Resolve the matches through the name index, then filter by primary key so that
+            // edited contacts stay in the list.
+            Set<Integer> matchingIds = findContactIds(model);
+            model.updateFilteredPersonList(matchingIds);
+            int contactCount = model.getFilteredPersonList().size();
             return new CommandResult(String.format(Messages.MESSAGE_FOUND_BY_KEYWORD,
-                    model.getFilteredPersonList().size(),
-                    pluralize("contact", model.getFilteredPersonList().size()),
-                    searchTerm));
+                    contactCount, pluralize("contact", contactCount), searchTerm));
 
         case LIST_ACTIVITY:
-            model.updateFilteredActivityList(new TitleContainsKeywordsPredicate(Arrays.asList(keywords)));
+            if (!tagFilter.isEmpty()) {
+                throw new CommandException(WARNING_TAGS_FOR_CONTACTS_ONLY);
+            }
+            if (queryTerms.hasContactTerms()) {
+                throw new CommandException(WARNING_TERMS_FOR_CONTACTS_ONLY);
+            }
+            // Resolve the matches through the title index, then show them by primary key, so that activities
+            // changed in place stay in the list.
+            Set<Activity> matchingActivities = findActivities(model);
+            model.updateFilteredActivityList(matchingActivities);
+            int activityCount = model.getFilteredActivityList().size();
             return new CommandResult(String.format(Messages.MESSAGE_FOUND_BY_KEYWORD,
-                    model.getFilteredActivityList().size(),
-                    pluralize("activity", model.getFilteredActivityList().size()),
-                    searchTerm));
+                    activityCount, pluralize("activity", activityCount), searchTerm));
         default:
             throw new CommandException(WARNING_INVALID_CONTEXT);
         }
     }
 
+    /**
+     * Returns the primary keys of the contacts matching any of the keywords, if there are keywords,
+     * passing the tag filter and meeting every query term.
+     */
+    private Set<Integer> findContactIds(Model model) {
+        Query<Person> query = new Query<>(() -> model.getAddressBook().getPersonList());
+        if (keywords.length > 0) {
+            List<String> exactKeywords = new ArrayList<>();
+            List<String> fuzzyKeywords = new ArrayList<>();
+            splitKeywords(FUZZY_SUFFIX, exactKeywords, fuzzyKeywords);
+            NameContainsKeywordsPredicate hasExactKeyword = new NameContainsKeywordsPredicate(exactKeywords);
+            // Similar names cannot be counted without looking them up, so that lookup is only made as a last resort.
+            query.withLookup(() -> fuzzyKeywords.isEmpty()
+                            ? model.estimatePersonAny(hasExactKeyword)
+                            : model.getAddressBook().getPersonList().size(),
+                    () -> findContacts(model, hasExactKeyword, fuzzyKeywords),
+                    person -> hasExactKeyword.test(person) || fuzzyKeywords.stream()
+                            .anyMatch(keyword -> NameTokenIndex.hasSimilarWord(person, keyword)));
+        }
+        if (!tagFilter.isEmpty()) {
+            query.withLookup(() -> model.estimatePersonByTags(tagFilter), () -> model.findPersonByTags(tagFilter),
+                    person -> tagFilter.test(person.getTags()));
+        }
+        if (!queryTerms.getNameWords().isEmpty()) {
+            NameContainsAllKeywordsPredicate hasNameWords =
+                    new NameContainsAllKeywordsPredicate(queryTerms.getNameWords());
+            query.withLookup(() -> model.estimatePersonAll(hasNameWords), () -> model.findPersonAll(hasNameWords),
+                    hasNameWords);
+        }
+        for (String activityTitle : queryTerms.getActivityTitles()) {
+            List<String> titleWords = List.of(activityTitle.trim().split("\\s+"));
+            query.withLookup(() -> estimateParticipants(model, titleWords),
+                    () -> findParticipants(model, titleWords),
+                    person -> model.getAssociatedActivities(person).stream()
+                            .anyMatch(activity -> hasTitleWords(activity, titleWords)));
+        }
+        if (!queryTerms.getOwedBounds().isEmpty()) {
+            // Without a lookup, every contact is tested, so the balances of all contacts are worked out at once.
+            // Otherwise, only those of the candidates are, from the activities each is in.
+            ToDoubleFunction<Person> amountOwed;
+            if (query.hasLookups()) {
+                amountOwed = person -> getAmountOwed(model, person);
+            } else {
+                Map<Integer, Long> balancesInCents = model.getActivityBook().getBalancesInCents();
+                amountOwed = person -> -balancesInCents.getOrDefault(person.getPrimaryKey(), 0L) / 100.0;
+            }
+            for (AmountBound bound : queryTerms.getOwedBounds()) {
+                query.withFilter(person -> bound.test(amountOwed.applyAsDouble(person)));
+            }
+        }
+
+        return query.execute().stream()
+                .map(Person::getPrimaryKey)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    /**
+     * Returns about how many contacts are in the activities whose title contains every one of {@code titleWords},
+     * counting the participants of the activities having the rarest of the words.
+     */
+    private static int estimateParticipants(Model model, List<String> titleWords) {
+        String rarestWord = titleWords.stream()
+                .min(Comparator.comparingInt(word ->
+                        model.estimateActivityAny(new TitleContainsKeywordsPredicate(List.of(word)))))
+                .orElseThrow();
+        return model.findActivityAny(new TitleContainsKeywordsPredicate(List.of(rarestWord))).stream()
+                .mapToInt(Activity::getParticipantCount)
+                .sum();
+    }
+
+    /**
+     * Returns the participants of the activities whose title contains every one of {@code titleWords}.
+     */
+    private static List<Person> findParticipants(Model model, List<String> titleWords) {
+        Query<Activity> activityQuery = new Query<>(() -> model.getActivityBook().getActivityList());
+        for (String word : titleWords) {
+            TitleContainsKeywordsPredicate hasWord = new TitleContainsKeywordsPredicate(List.of(word));
+            activityQuery.withLookup(() -> model.estimateActivityAny(hasWord), () -> model.findActivityAny(hasWord),
+                    hasWord);
+        }
+        return activityQuery.execute().stream()
+                .flatMap(activity -> activity.getParticipantIds().stream())
+                .distinct()
+                .map(model::getPersonByPrimaryKey)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns true if the title of {@code activity} contains every one of {@code titleWords}.
+     */
+    private static boolean hasTitleWords(Activity activity, List<String> titleWords) {
+        return titleWords.stream()
+                .allMatch(word -> StringUtil.containsWordIgnoreCase(activity.getTitle().title, word));
+    }
+
+    /**
+     * Returns the total amount that {@code person} owes the other participants of their activities.
+     * The amount is negative if they are owed money instead.
+     */
+    private static double getAmountOwed(Model model, Person person) {
+        double owed = 0;
+        for (Activity activity : model.getAssociatedActivities(person)) {
+            owed -= activity.getTransferAmount(person.getPrimaryKey());
+        }
+        return owed;
+    }
+
+    /**
+     * Splits the keywords into those ending with {@code suffix}, without it, and the rest.
+     */
+    private void splitKeywords(String suffix, List<String> plainKeywords, List<String> suffixedKeywords) {
+        for (String keyword : keywords) {
+            if (keyword.endsWith(suffix) && keyword.length() > suffix.length()) {
+                suffixedKeywords.add(keyword.substring(0, keyword.length() - suffix.length()));
+            } else {
+                plainKeywords.add(keyword);
+            }
+        }
+    }
+
+    /**
+     * Returns the contacts with a name word in {@code hasExactKeyword}, or similar to one of {@code fuzzyKeywords}.
+     */
+    private static Set<Person> findContacts(Model model, NameContainsKeywordsPredicate hasExactKeyword,
+            List<String> fuzzyKeywords) {
+        Set<Person> matches = new HashSet<>();
+        for (String fuzzyKeyword : fuzzyKeywords) {
+            matches.addAll(model.findPersonSimilar(List.of(fuzzyKeyword)));
+        }
+        matches.addAll(model.findPersonAny(hasExactKeyword));
+        return matches;
+    }
+
+    /**
+     * Returns the activities matching any of the keywords, if there are keywords, and meeting every query term.
+     * Keywords ending with {@code PREFIX_SUFFIX} match title words starting with them, the rest require an exact
+     * word match.
+     */
+    private Set<Activity> findActivities(Model model) {
+        Query<Activity> query = new Query<>(() -> model.getActivityBook().getActivityList());
+        if (keywords.length > 0) {
+            List<String> exactKeywords = new ArrayList<>();
+            List<String> prefixes = new ArrayList<>();
+            splitKeywords(PREFIX_SUFFIX, exactKeywords, prefixes);
+            TitleContainsKeywordsPredicate hasExactKeyword = new TitleContainsKeywordsPredicate(exactKeywords);
+            query.withLookup(() -> prefixes.isEmpty()
+                            ? model.estimateActivityAny(hasExactKeyword)
+                            : model.getActivityBook().getActivityList().size(),
+                    () -> {
+                        Set<Activity> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+                        matches.addAll(model.findActivityAny(hasExactKeyword));
+                        matches.addAll(model.findActivityByPrefix(prefixes));
+                        return matches;
+                    }, activity -> hasExactKeyword.test(activity) || hasWordStartingWith(activity, prefixes));
+        }
+        for (AmountBound bound : queryTerms.getSpentBounds()) {
+            // The spending kept by the activity book, which does not load the expenses of the activity.
+            query.withFilter(activity ->
+                    bound.test(model.getActivityBook().getSpendingInCents(activity) / 100.0));
+        }
+        return query.execute();
+    }
+
+    /**
+     * Returns true if the title of {@code activity} has a word starting with any of {@code prefixes}, ignoring case.
+     */
+    private static boolean hasWordStartingWith(Activity activity, List<String> prefixes) {
+        return Arrays.stream(activity.getTitle().title.toLowerCase().split("\\s+"))
+                .anyMatch(word -> prefixes.stream()
+                        .map(prefix -> prefix.trim().toLowerCase())
+                        .anyMatch(prefix -> !prefix.isEmpty() && word.startsWith(prefix)));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
                 && Arrays.equals(this.keywords, ((FindCommand) other).keywords)
+                && tagFilter.equals(((FindCommand) other).tagFilter)
+                && queryTerms.equals(((FindCommand) other).queryTerms)
                 && searchTerm.equals(((FindCommand) other).searchTerm));
     }
 
@@ -1,13 +1,17 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PARTICIPANT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 
@@ -17,9 +21,11 @@ import seedu.address.model.Model;
 import seedu.address.model.activity.Activity;
 import seedu.address.model.person.NameContainsAllKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagFilter;
 
 /**
- * Invites a person to the activity.
+ * Invites a person, or everyone with one of the given tags, to the activity.
  */
 public class InviteCommand extends Command {
 
@@ -27,8 +33,10 @@ public class InviteCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Invites participant(s) into current viewed Activity.\n"
             + "Parameters: "
-            + "[" + PREFIX_PARTICIPANT + "PARTICIPANT]...\n"
-            + "Example: invite p/Ben p/David";
+            + "[" + PREFIX_PARTICIPANT + "PARTICIPANT]... "
+            + "[" + PREFIX_TAG + "TAG]...\n"
+            + "Example: invite p/Ben p/David\n"
+            + "Example: invite " + PREFIX_TAG + "finance";
 
     public static final String MESSAGE_RESULT = "%s\n%s";
 
@@ -48,22 +56,33 @@ public class InviteCommand extends Command {
     public static final String MESSAGE_NO_VIEWED_ACTIVITY = "There is no viewed activity currently.";
     public static final String MESSAGE_DUPLICATE_ENTRY = "\"%s\" has duplicate entries, the first one will be added.";
     public static final String MESSAGE_INVALID_PERSON = "Blank name encountered.";
+    public static final String MESSAGE_NO_ONE_TAGGED =
+            "There is no one else tagged %s to invite.";
 
     private final List<String> peopleToInvite;
+    private final Set<Tag> tagsToInvite;
 
     /**
      * Creates an InviteCommand to invite the specified {@code Person(s)}
      */
     public InviteCommand(List<String> peopleToInvite) {
-        requireNonNull(peopleToInvite);
+        this(peopleToInvite, new HashSet<>());
+    }
+
+    /**
+     * Creates an InviteCommand to invite the specified {@code Person(s)} and everyone having any of {@code tags}
+     */
+    public InviteCommand(List<String> peopleToInvite, Set<Tag> tagsToInvite) {
+        requireAllNonNull(peopleToInvite, tagsToInvite);
         this.peopleToInvite = peopleToInvite;
+        this.tagsToInvite = tagsToInvite;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        if (peopleToInvite.size() == 0) {
+        if (peopleToInvite.size() == 0 && tagsToInvite.isEmpty()) {
             throw new CommandException(MESSAGE_NO_ONE_TO_INVITE);
         }
 
@@ -90,10 +109,10 @@ public class InviteCommand extends Command {
             Person personToInvite;
             Integer idOfPersonToInvite;
 
-            Optional<Person> person = model.findPersonByName(name.trim());
+            List<Person> exactMatches = model.findPersonByName(name.trim());
 
-            if (person.isPresent()) {
-                personToInvite = person.get();
+            if (exactMatches.size() == 1) {
+                personToInvite = exactMatches.get(0);
             } else {
                 keywords = Arrays.asList(name.split(" "));
                 NameContainsAllKeywordsPredicate predicate = new NameContainsAllKeywordsPredicate(keywords);
@@ -103,6 +122,9 @@ public class InviteCommand extends Command {
 
                 if (findResult.size() != 1) {
                     String warning = String.format(MESSAGE_NON_UNIQUE_SEARCH_RESULT, name);
+                    if (findResult.isEmpty()) {
+                        warning += getSuggestion(model.findPersonSimilar(keywords));
+                    }
                     warningMessage.append(warning).append("\n");
                     continue;
                 }
@@ -126,11 +148,15 @@ public class InviteCommand extends Command {
             successMessage.append(String.format(MESSAGE_SUCCESS_INVITE, personToInvite.getName()) + "\n");
         }
 
-        for (Integer id : idsToInvite) {
-            activityToInviteTo.invite(id);
+        if (!tagsToInvite.isEmpty()) {
+            inviteTagged(model, activityToInviteTo, idsToInvite, successMessage, warningMessage);
         }
 
-        model.updateFilteredPersonList(x -> participantIds.contains(x.getPrimaryKey()));
+        if (!idsToInvite.isEmpty()) {
+            activityToInviteTo.invite(idsToInvite.toArray(Integer[]::new));
+        }
+
+        model.updateFilteredPersonList(Set.copyOf(participantIds));
 
         String result;
 
@@ -145,12 +171,37 @@ public class InviteCommand extends Command {
         }
     }
 
+    /**
+     * Adds everyone having any of the tags to invite to {@code idsToInvite}, skipping those who are
+     * already in the activity or already being invited by name.
+     */
+    private void inviteTagged(Model model, Activity activityToInviteTo, List<Integer> idsToInvite,
+            StringBuilder successMessage, StringBuilder warningMessage) {
+        TagFilter anyOfTags = new TagFilter(List.of(tagsToInvite), Set.of());
+        int invitedCount = 0;
+        for (Person person : model.findPersonByTags(anyOfTags)) {
+            Integer id = person.getPrimaryKey();
+            if (activityToInviteTo.hasPerson(id) || idsToInvite.contains(id)) {
+                continue;
+            }
+            idsToInvite.add(id);
+            successMessage.append(String.format(MESSAGE_SUCCESS_INVITE, person.getName()) + "\n");
+            invitedCount++;
+        }
+
+        if (invitedCount == 0) {
+            String tags = tagsToInvite.stream().map(Tag::toString).collect(Collectors.joining(" "));
+            warningMessage.append(String.format(MESSAGE_NO_ONE_TAGGED, tags)).append("\n");
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof InviteCommand // instanceof handles nulls
                 && peopleToInvite.containsAll(((InviteCommand) other).peopleToInvite)
-                && ((InviteCommand) other).peopleToInvite.containsAll(peopleToInvite));
+                && ((InviteCommand) other).peopleToInvite.containsAll(peopleToInvite)
+                && tagsToInvite.equals(((InviteCommand) other).tagsToInvite));
     }
 
 }
@@ -23,7 +23,7 @@ public class ListCommand extends Command {
             + "Parameters: " + PREFIX_CONTACT + " OR " + PREFIX_ACTIVITY + "\n"
             + "Example: list " + PREFIX_CONTACT;
 
-    public static final String MESSAGE_SUCCESS = "Listed all %s";
+    public static final String MESSAGE_SUCCESS = "Listed all %s (%d in total)";
     public static final String MESSAGE_UNKNOWN_LIST_TYPE = "List command has unknown type!";
 
     private final CommandSubType type;
@@ -44,15 +44,18 @@ public class ListCommand extends Command {
 
             model.setContext(newContactContext);
             model.updateFilteredPersonList(PREDICATE_SHOW_ALL_ENTRIES);
+            int contactCount = model.getFilteredPersonList().size();
 
-            return new CommandResult(String.format(MESSAGE_SUCCESS, "contacts"), newContactContext);
+            return new CommandResult(String.format(MESSAGE_SUCCESS, "contacts", contactCount), newContactContext);
         case ACTIVITY:
             Context newActivityContext = Context.newListActivityContext();
 
             model.setContext(newActivityContext);
             model.updateFilteredActivityList(PREDICATE_SHOW_ALL_ENTRIES);
+            int activityCount = model.getFilteredActivityList().size();
 
-            return new CommandResult(String.format(MESSAGE_SUCCESS, "activities"), newActivityContext);
+            return new CommandResult(String.format(MESSAGE_SUCCESS, "activities", activityCount),
+                    newActivityContext);
         default:
             throw new CommandException(MESSAGE_UNKNOWN_LIST_TYPE);
         }
@@ -75,8 +75,8 @@ public class SettleCommand extends ExpenseCommand {
 
         getScope(model);
         // The parser gurantees our persons array has 2 unique people
-        Person payingPerson = searchPerson(persons.get(0), searchScope);
-        Person receivingPerson = searchPerson(persons.get(1), searchScope);
+        Person payingPerson = searchPerson(persons.get(0), model);
+        Person receivingPerson = searchPerson(persons.get(1), model);
         int payingId = payingPerson.getPrimaryKey();
         int receivingId = receivingPerson.getPrimaryKey();
 
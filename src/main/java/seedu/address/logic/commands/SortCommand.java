@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ACTIVITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ENTRIES;
+
+import java.util.Objects;
+
+import seedu.address.model.Context;
+import seedu.address.model.Model;
+import seedu.address.model.activity.ActivitySortKey;
+import seedu.address.model.person.PersonSortKey;
+
+/**
+ * Sorts all contacts or all activities and lists them to the user.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Sorts and lists all contacts or activities.\n"
+            + "Parameters: " + PREFIX_CONTACT + "name|balance|added OR " + PREFIX_ACTIVITY
+            + "title|spending|recent|added\n"
+            + "Example: sort " + PREFIX_CONTACT + "name";
+
+    public static final String MESSAGE_SUCCESS = "Sorted all %s by %s";
+
+    // Exactly one of these is set.
+    private final PersonSortKey personSortKey;
+    private final ActivitySortKey activitySortKey;
+
+    /**
+     * Creates a SortCommand that sorts the contacts by {@code personSortKey}.
+     */
+    public SortCommand(PersonSortKey personSortKey) {
+        requireNonNull(personSortKey);
+        this.personSortKey = personSortKey;
+        this.activitySortKey = null;
+    }
+
+    /**
+     * Creates a SortCommand that sorts the activities by {@code activitySortKey}.
+     */
+    public SortCommand(ActivitySortKey activitySortKey) {
+        requireNonNull(activitySortKey);
+        this.personSortKey = null;
+        this.activitySortKey = activitySortKey;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        if (personSortKey != null) {
+            model.sortPersons(personSortKey);
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_ENTRIES);
+
+            Context newContactContext = Context.newListContactContext();
+            model.setContext(newContactContext);
+            return new CommandResult(String.format(MESSAGE_SUCCESS, "contacts", personSortKey.getKeyword()),
+                    newContactContext);
+        } else {
+            model.sortActivities(activitySortKey);
+            model.updateFilteredActivityList(PREDICATE_SHOW_ALL_ENTRIES);
+
+            Context newActivityContext = Context.newListActivityContext();
+            model.setContext(newActivityContext);
+            return new CommandResult(String.format(MESSAGE_SUCCESS, "activities", activitySortKey.getKeyword()),
+                    newActivityContext);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortCommand // instanceof handles nulls
+                && Objects.equals(personSortKey, ((SortCommand) other).personSortKey)
+                && Objects.equals(activitySortKey, ((SortCommand) other).activitySortKey)); // state check
+    }
+}
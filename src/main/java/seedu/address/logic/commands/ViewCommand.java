@@ -68,6 +68,8 @@ public class ViewCommand extends Command {
             }
 
             Activity activityToView = listedActivities.get(targetIndex.getZeroBased());
+            // the details of the activity show its expenses, which are loaded here so that a failure is reported
+            activityToView.loadExpenses();
             Context newActivityContext = new Context(activityToView);
             model.setContext(newActivityContext);
 
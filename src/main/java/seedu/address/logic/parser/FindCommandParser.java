@@ -1,17 +1,32 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.query.AmountBound;
+import seedu.address.model.query.QueryTerms;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagFilter;
 
 /**
  * Parses input arguments and creates a new {@code FindCommand} object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    /**
+     * A word, where any part in double quotes may contain spaces, such as {@code in:"Bali trip"}.
+     */
+    private static final Pattern WORD_FORMAT = Pattern.compile("\\S*\"[^\"]*\"\\S*|\\S+");
+
     /**
      * Parses the given {@code String} of arguments in the context of a {@code FindCommand}
      * and returns a {@code FindCommand} object for execution.
@@ -24,16 +39,79 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
         ArrayList<String> validKeywords = new ArrayList<String>();
-        for (String keyword : nameKeywords) {
+        List<Set<Tag>> anyOfGroups = new ArrayList<>();
+        Set<Tag> noneOf = new HashSet<>();
+        List<String> nameWords = new ArrayList<>();
+        List<String> activityTitles = new ArrayList<>();
+        List<AmountBound> owedBounds = new ArrayList<>();
+        List<AmountBound> spentBounds = new ArrayList<>();
+        Matcher matcher = WORD_FORMAT.matcher(trimmedArgs);
+        while (matcher.find()) {
+            String keyword = matcher.group().replace("\"", "");
             if (keyword.length() == 0) {
                 continue;
             }
-            validKeywords.add(keyword);
+            if (keyword.startsWith(PREFIX_TAG.getPrefix())) {
+                parseTagFilter(keyword.substring(PREFIX_TAG.getPrefix().length()), anyOfGroups, noneOf);
+            } else if (keyword.startsWith(FindCommand.TERM_TAG)) {
+                parseTagFilter(keyword.substring(FindCommand.TERM_TAG.length()), anyOfGroups, noneOf);
+            } else if (keyword.startsWith(FindCommand.TERM_NAME)) {
+                nameWords.addAll(parseTermValue(keyword.substring(FindCommand.TERM_NAME.length())));
+            } else if (keyword.startsWith(FindCommand.TERM_IN)) {
+                activityTitles.add(String.join(" ", parseTermValue(keyword.substring(FindCommand.TERM_IN.length()))));
+            } else if (isBoundTerm(keyword, FindCommand.TERM_OWES)) {
+                owedBounds.add(ParserUtil.parseAmountBound(keyword.substring(FindCommand.TERM_OWES.length())));
+            } else if (isBoundTerm(keyword, FindCommand.TERM_SPENT)) {
+                spentBounds.add(ParserUtil.parseAmountBound(keyword.substring(FindCommand.TERM_SPENT.length())));
+            } else {
+                validKeywords.add(keyword);
+            }
         }
 
-        return new FindCommand(validKeywords.toArray(new String[0]), trimmedArgs);
+        return new FindCommand(validKeywords.toArray(new String[0]), new TagFilter(anyOfGroups, noneOf),
+                new QueryTerms(nameWords, activityTitles, owedBounds, spentBounds), trimmedArgs);
+    }
+
+    /**
+     * Returns true if {@code keyword} compares {@code term} to an amount, such as {@code owes>10}.
+     */
+    private static boolean isBoundTerm(String keyword, String term) {
+        return keyword.startsWith(term + ">") || keyword.startsWith(term + "<");
+    }
+
+    /**
+     * Splits the value of a query term into its words.
+     * @throws ParseException if the value has no words
+     */
+    private static List<String> parseTermValue(String value) throws ParseException {
+        String trimmedValue = value.trim();
+        if (trimmedValue.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return List.of(trimmedValue.split("\\s+"));
+    }
+
+    /**
+     * Parses a single tag filter such as {@code friends|family} or {@code !colleagues}, adding it to
+     * {@code anyOfGroups} or {@code noneOf} respectively.
+     * @throws ParseException if any of the tags is invalid
+     */
+    private static void parseTagFilter(String filter, List<Set<Tag>> anyOfGroups, Set<Tag> noneOf)
+            throws ParseException {
+        boolean isNegated = filter.startsWith(FindCommand.TAG_NOT);
+        String tagNames = isNegated ? filter.substring(FindCommand.TAG_NOT.length()) : filter;
+
+        Set<Tag> tags = new HashSet<>();
+        for (String tagName : tagNames.split(Pattern.quote(FindCommand.TAG_OR), -1)) {
+            tags.add(ParserUtil.parseTag(tagName));
+        }
+
+        if (isNegated) {
+            noneOf.addAll(tags);
+        } else {
+            anyOfGroups.add(tags);
+        }
     }
 
 }
@@ -18,6 +18,7 @@ import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
+import seedu.address.model.query.AmountBound;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -135,6 +136,21 @@ public class ParserUtil {
         return new Tag(trimmedTag);
     }
 
+    /**
+     * Parses a {@code String bound} such as {@code >10} into an {@code AmountBound}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code bound} is invalid.
+     */
+    public static AmountBound parseAmountBound(String bound) throws ParseException {
+        requireNonNull(bound);
+        String trimmedBound = bound.trim();
+        if (!AmountBound.isValidBound(trimmedBound)) {
+            throw new ParseException(AmountBound.MESSAGE_CONSTRAINTS);
+        }
+        return new AmountBound(trimmedBound);
+    }
+
     /**
      * Parses {@code Collection<String> tags} into a {@code Set<Tag>}.
      */
@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ACTIVITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.activity.ActivitySortKey;
+import seedu.address.model.person.PersonSortKey;
+
+/**
+ * Parses input arguments and creates a new {@code SortCommand} object
+ */
+public class SortCommandParser implements Parser<SortCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of a {@code SortCommand}
+     * and returns a {@code SortCommand} object for execution.
+     * @throws ParseException if the user input does not conform to the expected format,
+     *                        or has missing compulsory arguments.
+     */
+    public SortCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CONTACT, PREFIX_ACTIVITY);
+        Optional<String> contactKey = argMultimap.getValue(PREFIX_CONTACT);
+        Optional<String> activityKey = argMultimap.getValue(PREFIX_ACTIVITY);
+
+        if (contactKey.isPresent() == activityKey.isPresent() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        }
+
+        if (contactKey.isPresent()) {
+            return PersonSortKey.fromKeyword(contactKey.get().trim())
+                    .map(SortCommand::new)
+                    .orElseThrow(() -> new ParseException(
+                            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE)));
+        } else {
+            return ActivitySortKey.fromKeyword(activityKey.get().trim())
+                    .map(SortCommand::new)
+                    .orElseThrow(() -> new ParseException(
+                            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE)));
+        }
+    }
+}
@@ -3,11 +3,23 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.text.CollationKey;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.activity.Activity;
+import seedu.address.model.activity.TitleContainsKeywordsPredicate;
+import seedu.address.model.activity.TitleTokenIndex;
 import seedu.address.model.activity.exceptions.ActivityNotFoundException;
 
 /**
@@ -19,13 +31,51 @@ public class ActivityBook implements ReadOnlyActivityBook {
     private final ObservableList<Activity> unmodifiableActivityList =
             FXCollections.unmodifiableObservableList(activityList);
 
+    // Maps each case-folded word of an activity's title to the activities having it, kept in sync with the list.
+    private final TitleTokenIndex titleTokenIndex = new TitleTokenIndex();
+
+    // Maps each activity's primary key to the activity, kept in sync with the list.
+    private final Map<Integer, Activity> primaryKeyIndex = new HashMap<>();
+
+    // The total spending in cents of each activity in the list, by identity. Worked out for an activity when first
+    // asked for, which does not load its expenses, and dropped when it changes.
+    private final Map<Activity, Long> spendingInCents = new IdentityHashMap<>();
+
+    // The amount owed to each person over all activities in the list in cents, by primary key, and the amounts that
+    // each activity adds to it. The amounts of an activity are only worked out, loading its expenses, once balances
+    // are asked for, and then again only after it changes.
+    private final Map<Integer, Long> balancesInCents = new HashMap<>();
+    private final Map<Activity, Map<Integer, Long>> balanceContributions = new IdentityHashMap<>();
+    private final Set<Activity> activitiesWithoutBalances = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    // Told of the new balances of the persons whose balances have changed once balances are tracked, along with
+    // the primary keys of the persons whose balances have changed since it was last told.
+    private Consumer<Map<Integer, Long>> balanceListener;
+    private final Set<Integer> changedBalanceIds = new HashSet<>();
+
+    // The activities in the order of their titles, of their spending, the largest first, and of their creation,
+    // the newest first. Each is built when first asked for, and then kept in sync with the list.
+    private OrderedIndex<CollationKey, Activity> titleOrder;
+    private OrderedIndex<Long, Activity> spendingOrder;
+    private OrderedIndex<Integer, Activity> recentOrder;
+
+    // Maps the primary key of each person to the activities they are in, in list order. Built when first needed
+    // and dropped when the list or any activity in it changes.
+    private Map<Integer, List<Activity>> participationIndex;
+
+    // Counts the changes to the activity list and to the activities in it.
+    private long version;
+
+    // Counts a change to an activity in this book. The activities only hold it weakly, so it is kept here.
+    private final Consumer<Activity> activityChangeListener = this::activityChanged;
+
     public ActivityBook() { }
 
     /**
      * Creates an ActivityBook using the Activities in the {@code previousActivityBook}
      */
     public ActivityBook(ActivityBook previousActivityBook) {
-        activityList.addAll(previousActivityBook.getActivityList());
+        setActivities(previousActivityBook.getActivityList());
     }
 
     // ================ List overwrite operations ================
@@ -34,20 +84,25 @@ public class ActivityBook implements ReadOnlyActivityBook {
      * Returns true if an activity with the same primary key as {@code primaryKey} exists in the activity book.
      */
     public boolean hasPrimaryKey(int primaryKey) {
-        for (Activity activity : activityList) {
-            if (activity.getPrimaryKey() == primaryKey) {
-                return true;
-            }
-        }
-        return false;
+        return primaryKeyIndex.containsKey(primaryKey);
+    }
+
+    /**
+     * Returns true if {@code activity} itself, rather than an equal activity, is in the activity book.
+     */
+    public boolean hasActivity(Activity activity) {
+        requireNonNull(activity);
+        return primaryKeyIndex.get(activity.getPrimaryKey()) == activity;
     }
 
     /**
      * Replaces the contents of the activity list with {@code activityList}.
      */
     public void setActivities(List<Activity> activities) {
-        activityList.clear();
-        activityList.addAll(activities);
+        version++;
+        activityList.setAll(activities);
+        rebuildIndexes(activities);
+        publishBalances();
     }
 
     /**
@@ -58,6 +113,84 @@ public class ActivityBook implements ReadOnlyActivityBook {
         setActivities(newData.getActivityList());
     }
 
+    // ================ Sort key operations ================
+
+    /**
+     * Returns the total spending of {@code activity} in cents. The expenses of the activity are not loaded for it.
+     */
+    public long getSpendingInCents(Activity activity) {
+        requireNonNull(activity);
+        if (!hasActivity(activity)) {
+            return toCents(activity.getTotalSpending());
+        }
+        return spendingInCents.computeIfAbsent(activity, a -> toCents(a.getTotalSpending()));
+    }
+
+    /**
+     * Returns the amount owed to each person over all activities in cents, by primary key. A negative amount means
+     * the person owes others. Only the activities added or changed since balances were last asked for are worked
+     * out again.
+     */
+    public Map<Integer, Long> getBalancesInCents() {
+        workOutBalances();
+        return new HashMap<>(balancesInCents);
+    }
+
+    /**
+     * Tells {@code listener} of the balances in cents of all persons, by primary key, and from then on of the new
+     * balances of the persons whose balances change, in place of any listener given before. Balances are then
+     * worked out as soon as an activity is added or changes, loading its expenses.
+     */
+    public void trackBalances(Consumer<Map<Integer, Long>> listener) {
+        requireNonNull(listener);
+        balanceListener = listener;
+        changedBalanceIds.clear();
+        listener.accept(getBalancesInCents());
+    }
+
+    /**
+     * Stops telling the balance listener of changes to balances.
+     */
+    public void stopTrackingBalances() {
+        balanceListener = null;
+        changedBalanceIds.clear();
+    }
+
+    private void workOutBalances() {
+        for (Activity activity : activitiesWithoutBalances) {
+            Map<Integer, Long> contribution = new HashMap<>();
+            for (Integer participantId : activity.getParticipantIds()) {
+                contribution.put(participantId, toCents(activity.getTransferAmount(participantId)));
+            }
+            contribution.forEach((id, amount) -> balancesInCents.merge(id, amount, Long::sum));
+            balanceContributions.put(activity, contribution);
+            if (balanceListener != null) {
+                changedBalanceIds.addAll(contribution.keySet());
+            }
+        }
+        activitiesWithoutBalances.clear();
+    }
+
+    /**
+     * Tells the balance listener, if there is one, of the balances changed since it was last told.
+     */
+    private void publishBalances() {
+        if (balanceListener == null) {
+            return;
+        }
+        workOutBalances();
+        Map<Integer, Long> changedBalances = new HashMap<>();
+        changedBalanceIds.forEach(id -> changedBalances.put(id, balancesInCents.getOrDefault(id, 0L)));
+        changedBalanceIds.clear();
+        if (!changedBalances.isEmpty()) {
+            balanceListener.accept(changedBalances);
+        }
+    }
+
+    private static long toCents(double amount) {
+        return Math.round(amount * 100);
+    }
+
     // ================ Activity-level operations ================
 
     /**
@@ -65,7 +198,11 @@ public class ActivityBook implements ReadOnlyActivityBook {
      */
     public void addActivity(Activity a) {
         requireNonNull(a);
+        version++;
         activityList.add(a);
+        addToIndexes(a);
+        getOrders().forEach(order -> order.add(a));
+        publishBalances();
     }
 
     /**
@@ -74,9 +211,16 @@ public class ActivityBook implements ReadOnlyActivityBook {
      */
     public void removeActivity(Activity key) {
         requireNonNull(key);
-        if (!activityList.remove(key)) {
+        int index = activityList.indexOf(key);
+        if (index == -1) {
             throw new ActivityNotFoundException();
         }
+
+        Activity removed = activityList.remove(index);
+        removeFromIndexes(removed);
+        getOrders().forEach(order -> order.remove(removed));
+        version++;
+        publishBalances();
     }
 
     /**
@@ -91,11 +235,179 @@ public class ActivityBook implements ReadOnlyActivityBook {
             throw new ActivityNotFoundException();
         }
 
-        activityList.set(index, editedActivity);
+        Activity replaced = activityList.set(index, editedActivity);
+        version++;
+        removeFromIndexes(replaced);
+        getOrders().forEach(order -> order.remove(replaced));
+        addToIndexes(editedActivity);
+        getOrders().forEach(order -> order.add(editedActivity));
+        publishBalances();
+    }
+
+    /**
+     * Finds activities whose title contains any of the keywords, returning all matches in an ArrayList.
+     */
+    public ArrayList<Activity> findActivity(TitleContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return new ArrayList<>(titleTokenIndex.findAny(predicate.getKeywords()));
+    }
+
+    /**
+     * Returns about how many activities {@link #findActivity(TitleContainsKeywordsPredicate)} finds, without
+     * finding them.
+     */
+    public int estimateActivity(TitleContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return titleTokenIndex.estimateAny(predicate.getKeywords());
+    }
+
+    /**
+     * Finds activities whose title contains a word starting with any of the prefixes,
+     * returning all matches in an ArrayList.
+     */
+    public ArrayList<Activity> findActivityByPrefix(List<String> prefixes) {
+        requireNonNull(prefixes);
+        return new ArrayList<>(titleTokenIndex.findAnyByPrefix(prefixes));
+    }
+
+    /**
+     * Returns the activities that the person with primary key {@code personId} is in, in list order.
+     */
+    public List<Activity> getActivitiesOf(int personId) {
+        if (participationIndex == null) {
+            participationIndex = new HashMap<>();
+            for (Activity activity : activityList) {
+                for (Integer participantId : activity.getParticipantIds()) {
+                    participationIndex.computeIfAbsent(participantId, k -> new ArrayList<>()).add(activity);
+                }
+            }
+        }
+        return Collections.unmodifiableList(participationIndex.getOrDefault(personId, List.of()));
+    }
+
+    // ================ Orders ================
+
+    /**
+     * Returns the activities in alphabetical order of title, ignoring case.
+     */
+    public OrderedIndex<CollationKey, Activity> getTitleOrder() {
+        if (titleOrder == null) {
+            titleOrder = new OrderedIndex<>(activity -> activity.getTitle().getCollationKey(),
+                    Comparator.naturalOrder(), Activity::getPrimaryKey);
+            titleOrder.setAll(activityList);
+        }
+        return titleOrder;
+    }
+
+    /**
+     * Returns the activities in order of total spending, the largest first.
+     */
+    public OrderedIndex<Long, Activity> getSpendingOrder() {
+        if (spendingOrder == null) {
+            spendingOrder = new OrderedIndex<>(this::getSpendingInCents, Comparator.reverseOrder(),
+                    Activity::getPrimaryKey);
+            spendingOrder.setAll(activityList);
+        }
+        return spendingOrder;
+    }
+
+    /**
+     * Returns the activities in order of creation, the newest first.
+     */
+    public OrderedIndex<Integer, Activity> getRecentOrder() {
+        if (recentOrder == null) {
+            recentOrder = new OrderedIndex<>(Activity::getPrimaryKey, Comparator.reverseOrder(),
+                    Activity::getPrimaryKey);
+            recentOrder.setAll(activityList);
+        }
+        return recentOrder;
+    }
+
+    /**
+     * Returns the orders built so far.
+     */
+    private List<OrderedIndex<?, Activity>> getOrders() {
+        List<OrderedIndex<?, Activity>> orders = new ArrayList<>();
+        if (titleOrder != null) {
+            orders.add(titleOrder);
+        }
+        if (spendingOrder != null) {
+            orders.add(spendingOrder);
+        }
+        if (recentOrder != null) {
+            orders.add(recentOrder);
+        }
+        return orders;
     }
 
     // ================ Utility methods ================
 
+    private void rebuildIndexes(List<Activity> activities) {
+        participationIndex = null;
+        primaryKeyIndex.values().forEach(activity -> activity.removeChangeListener(activityChangeListener));
+        primaryKeyIndex.clear();
+        titleTokenIndex.clear();
+        spendingInCents.clear();
+        if (balanceListener != null) {
+            changedBalanceIds.addAll(balancesInCents.keySet());
+        }
+        balancesInCents.clear();
+        balanceContributions.clear();
+        activitiesWithoutBalances.clear();
+        for (Activity activity : activities) {
+            addToIndexes(activity);
+        }
+        getOrders().forEach(order -> order.setAll(activities));
+    }
+
+    private void addToIndexes(Activity activity) {
+        participationIndex = null;
+        activity.addChangeListener(activityChangeListener);
+        primaryKeyIndex.put(activity.getPrimaryKey(), activity);
+        titleTokenIndex.add(activity);
+        activitiesWithoutBalances.add(activity);
+    }
+
+    private void removeFromIndexes(Activity activity) {
+        participationIndex = null;
+        activity.removeChangeListener(activityChangeListener);
+        primaryKeyIndex.remove(activity.getPrimaryKey(), activity);
+        titleTokenIndex.remove(activity);
+        spendingInCents.remove(activity);
+        removeBalanceContribution(activity);
+        activitiesWithoutBalances.remove(activity);
+    }
+
+    /**
+     * Counts a change to {@code activity}, which has just changed, and drops what was worked out from it.
+     */
+    private void activityChanged(Activity activity) {
+        version++;
+        participationIndex = null;
+        spendingInCents.remove(activity);
+        if (spendingOrder != null) {
+            spendingOrder.update(activity);
+        }
+        removeBalanceContribution(activity);
+        activitiesWithoutBalances.add(activity);
+        publishBalances();
+    }
+
+    private void removeBalanceContribution(Activity activity) {
+        Map<Integer, Long> contribution = balanceContributions.remove(activity);
+        if (contribution != null) {
+            contribution.forEach((id, amount) -> balancesInCents.merge(id, -amount, Long::sum));
+            if (balanceListener != null) {
+                changedBalanceIds.addAll(contribution.keySet());
+            }
+        }
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String toString() {
         return activityList.size() + " activities";
@@ -2,15 +2,25 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.text.CollationKey;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.person.NameContainsAllKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameTokenIndex;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.TagFilter;
+import seedu.address.model.tag.TagIndex;
 
 /**
  * Wraps all data at the address-book level
@@ -20,6 +30,29 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
 
+    // Maps each person's primary key to the person, kept in sync with the person list.
+    private final HashMap<Integer, Person> primaryKeyIndex;
+
+    // Maps each case-folded word of a person's name to the persons having it, kept in sync with the person list.
+    private final NameTokenIndex nameTokenIndex;
+
+    // Maps each person's lower-cased full name to the persons having it, kept in sync with the person list.
+    private final HashMap<String, List<Person>> fullNameIndex;
+
+    // Maps each tag to a bitmap of the persons having it, kept in sync with the person list.
+    private final TagIndex tagIndex;
+
+    // The persons in the order of their names and of the amounts owed to them, the most owed by them first. Each
+    // is built when first asked for, and then kept in sync with the person list.
+    private OrderedIndex<CollationKey, Person> nameOrder;
+    private OrderedIndex<Long, Person> balanceOrder;
+
+    // The amount owed to each person in cents, by primary key, as last set. The balance order is kept by it.
+    private final Map<Integer, Long> balancesInCents = new HashMap<>();
+
+    // Incremented on every change to the person list.
+    private long version;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -29,6 +62,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        primaryKeyIndex = new HashMap<>();
+        nameTokenIndex = new NameTokenIndex();
+        fullNameIndex = new HashMap<>();
+        tagIndex = new TagIndex();
     }
 
     public AddressBook() {}
@@ -49,6 +86,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version++;
+        rebuildIndexes(persons);
     }
 
     /**
@@ -71,55 +110,124 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Finds Person objects with matching keywords, returning all matches in an ArrayList.
+     * Finds Person objects whose name contains any of the keywords, returning all matches in an ArrayList.
      */
     public ArrayList<Person> findPerson(NameContainsKeywordsPredicate predicate) {
-        ArrayList<Person> matches = new ArrayList<Person>();
-        for (Person person : persons.asUnmodifiableObservableList()) {
-            if (predicate.test(person)) {
-                matches.add(person);
-            }
-        }
-
-        return matches;
+        return new ArrayList<>(nameTokenIndex.findAny(predicate.getKeywords()));
     }
 
     /**
-     * Finds Person objects with matching keywords, returning all matches in an ArrayList.
+     * Finds Person objects whose name contains all of the keywords, returning all matches in an ArrayList.
      */
     public ArrayList<Person> findPerson(NameContainsAllKeywordsPredicate predicate) {
-        ArrayList<Person> matches = new ArrayList<Person>();
-        for (Person person : persons.asUnmodifiableObservableList()) {
-            if (predicate.test(person)) {
-                matches.add(person);
-            }
-        }
+        return new ArrayList<>(nameTokenIndex.findAll(predicate.getKeywords()));
+    }
 
-        return matches;
+    /**
+     * Finds Person objects whose name is similar to the keywords despite small typos, closest match first.
+     */
+    public ArrayList<Person> findPersonSimilar(List<String> keywords) {
+        requireNonNull(keywords);
+        return new ArrayList<>(nameTokenIndex.findSimilar(keywords));
     }
 
     /**
-     * Finds Person object by name, using exact match.
+     * Finds Person objects whose tags pass {@code filter}, in order of their primary keys.
      */
-    public Optional<Person> findPersonByName(String searchTerm) {
-        for (Person person: persons.asUnmodifiableObservableList()) {
-            if (person.getName().fullName.toLowerCase().equals(searchTerm.toLowerCase())) {
-                return Optional.of(person);
-            }
-        }
-        return Optional.empty();
+    public ArrayList<Person> findPersonByTags(TagFilter filter) {
+        requireNonNull(filter);
+        return Arrays.stream(tagIndex.filter(filter))
+                .mapToObj(primaryKeyIndex::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * Returns about how many persons {@link #findPerson(NameContainsKeywordsPredicate)} finds, without finding them.
+     */
+    public int estimatePerson(NameContainsKeywordsPredicate predicate) {
+        return nameTokenIndex.estimateAny(predicate.getKeywords());
+    }
+
+    /**
+     * Returns about how many persons {@link #findPerson(NameContainsAllKeywordsPredicate)} finds, without finding
+     * them.
+     */
+    public int estimatePerson(NameContainsAllKeywordsPredicate predicate) {
+        return nameTokenIndex.estimateAll(predicate.getKeywords());
+    }
+
+    /**
+     * Returns about how many persons {@link #findPersonByTags(TagFilter)} finds, without finding them.
+     */
+    public int estimatePersonByTags(TagFilter filter) {
+        requireNonNull(filter);
+        return tagIndex.estimate(filter);
+    }
+
+    /**
+     * Finds the persons whose name is exactly {@code searchTerm}, ignoring case, in the order they were added.
+     */
+    public List<Person> findPersonByName(String searchTerm) {
+        requireNonNull(searchTerm);
+        return List.copyOf(fullNameIndex.getOrDefault(searchTerm.toLowerCase(), List.of()));
     }
 
     /**
      * Returns true if a person with the same primary key as {@code primaryKey} exists in the address book.
      */
     public boolean hasPrimaryKey(int primaryKey) {
-        for (Person person : persons) {
-            if (person.getPrimaryKey() == primaryKey) {
-                return true;
-            }
+        return primaryKeyIndex.containsKey(primaryKey);
+    }
+
+    @Override
+    public Optional<Person> getPersonByPrimaryKey(int primaryKey) {
+        return Optional.ofNullable(primaryKeyIndex.get(primaryKey));
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the persons in alphabetical order of name, ignoring case.
+     */
+    public OrderedIndex<CollationKey, Person> getNameOrder() {
+        if (nameOrder == null) {
+            nameOrder = new OrderedIndex<>(person -> person.getName().getCollationKey(), Comparator.naturalOrder(),
+                    Person::getPrimaryKey);
+            nameOrder.setAll(persons.asUnmodifiableObservableList());
+        }
+        return nameOrder;
+    }
+
+    /**
+     * Returns the persons in order of the balances last set by {@link #setBalances(Map)}, those owing the most
+     * first.
+     */
+    public OrderedIndex<Long, Person> getBalanceOrder() {
+        if (balanceOrder == null) {
+            balanceOrder = new OrderedIndex<>(person -> balancesInCents.getOrDefault(person.getPrimaryKey(), 0L),
+                    Comparator.naturalOrder(), Person::getPrimaryKey);
+            balanceOrder.setAll(persons.asUnmodifiableObservableList());
+        }
+        return balanceOrder;
+    }
+
+    /**
+     * Sets the amounts owed to the persons with the given primary keys in cents, moving them in the balance order.
+     * A negative amount means the person owes others.
+     */
+    public void setBalances(Map<Integer, Long> changedBalancesInCents) {
+        requireNonNull(changedBalancesInCents);
+        balancesInCents.putAll(changedBalancesInCents);
+        if (balanceOrder != null) {
+            changedBalancesInCents.keySet().stream()
+                    .map(primaryKeyIndex::get)
+                    .filter(Objects::nonNull)
+                    .forEach(balanceOrder::update);
         }
-        return false;
     }
 
     /**
@@ -128,6 +236,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        addToIndexes(p);
+        addToOrders(p);
+        version++;
     }
 
     /**
@@ -139,6 +250,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        removeFromIndexes(target);
+        removeFromOrders(target);
+        addToIndexes(editedPerson);
+        addToOrders(editedPerson);
+        version++;
     }
 
     /**
@@ -147,6 +263,72 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        removeFromIndexes(key);
+        removeFromOrders(key);
+        version++;
+    }
+
+    private void rebuildIndexes(List<Person> persons) {
+        primaryKeyIndex.clear();
+        nameTokenIndex.clear();
+        fullNameIndex.clear();
+        tagIndex.clear();
+        for (Person person : persons) {
+            addToIndexes(person);
+        }
+        for (OrderedIndex<?, Person> order : getOrders()) {
+            order.setAll(persons);
+        }
+    }
+
+    private void addToIndexes(Person person) {
+        primaryKeyIndex.put(person.getPrimaryKey(), person);
+        nameTokenIndex.add(person);
+        tagIndex.add(person);
+        fullNameIndex.computeIfAbsent(person.getName().fullName.toLowerCase(), k -> new ArrayList<>()).add(person);
+    }
+
+    private void addToOrders(Person person) {
+        for (OrderedIndex<?, Person> order : getOrders()) {
+            order.add(person);
+        }
+    }
+
+    private void removeFromIndexes(Person person) {
+        primaryKeyIndex.remove(person.getPrimaryKey(), person);
+        nameTokenIndex.remove(person);
+        tagIndex.remove(person);
+        removeFromBucket(fullNameIndex, person.getName().fullName.toLowerCase(), person);
+    }
+
+    private void removeFromOrders(Person person) {
+        for (OrderedIndex<?, Person> order : getOrders()) {
+            order.remove(person);
+        }
+    }
+
+    /**
+     * Returns the orders built so far.
+     */
+    private List<OrderedIndex<?, Person>> getOrders() {
+        List<OrderedIndex<?, Person>> orders = new ArrayList<>();
+        if (nameOrder != null) {
+            orders.add(nameOrder);
+        }
+        if (balanceOrder != null) {
+            orders.add(balanceOrder);
+        }
+        return orders;
+    }
+
+    private static <K> void removeFromBucket(Map<K, List<Person>> buckets, K key, Person person) {
+        List<Person> bucket = buckets.get(key);
+        if (bucket != null) {
+            bucket.remove(person);
+            if (bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
     }
 
     //// util methods
@@ -0,0 +1,308 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * An unmodifiable view of the entries of a source list that pass a filter, in the order of the source or of an
+ * {@code OrderedIndex} of the same entries. Unlike a {@code FilteredList}, the filter is not tested on the whole
+ * source whenever it or the source changes: entries are only tested, in order, until enough of them pass to give the
+ * entry asked for. The number of passing entries can be given with the filter, such as when it was found through an
+ * index, in which case it is kept up to date by testing only the entries that change. Otherwise all entries are
+ * tested the first time the size is asked for.
+ *
+ * Invalidation listeners are told whenever the entries may have changed. List change listeners are told of a
+ * change replacing all entries, so while there are any, all entries are read after every change.
+ */
+public class LazyFilteredList<E> extends AbstractList<E> implements ObservableList<E> {
+
+    /** Stands for a number of passing entries that is not known. */
+    public static final int UNKNOWN_COUNT = -1;
+
+    private final ObservableList<E> source;
+    private final List<InvalidationListener> listeners = new ArrayList<>();
+    private final List<ListChangeListener<? super E>> changeListeners = new ArrayList<>();
+    private final OrderedIndex.ChangeListener<E> orderListener = this::orderChanged;
+
+    // The filter, or null if every entry passes, and the order, or null for the order of the source.
+    private Predicate<? super E> predicate;
+    private OrderedIndex<?, E> order;
+
+    // The number of source entries that pass the filter, or UNKNOWN_COUNT. Not used if every entry passes.
+    private int passingCount = UNKNOWN_COUNT;
+
+    // The passing entries found so far, in order, and the entries not yet tested, or null if testing has not
+    // started. Dropped whenever the entries, the filter or the order change.
+    private final List<E> found = new ArrayList<>();
+    private Iterator<E> untested;
+
+    /**
+     * Creates a view of every entry of {@code source}, in source order.
+     */
+    public LazyFilteredList(ObservableList<E> source) {
+        requireNonNull(source);
+        this.source = source;
+        source.addListener((ListChangeListener<E>) this::sourceChanged);
+    }
+
+    /**
+     * Shows the entries passing {@code predicate}, or every entry if it is null.
+     */
+    public void setPredicate(Predicate<? super E> predicate) {
+        setPredicate(predicate, UNKNOWN_COUNT);
+    }
+
+    /**
+     * Shows the entries passing {@code predicate}, of which there are {@code passingCount} in the source, or an
+     * unknown number if it is {@code UNKNOWN_COUNT}. Shows every entry if {@code predicate} is null.
+     */
+    public void setPredicate(Predicate<? super E> predicate, int passingCount) {
+        checkArgument(passingCount >= 0 || passingCount == UNKNOWN_COUNT);
+        this.predicate = predicate;
+        this.passingCount = passingCount;
+        invalidate();
+    }
+
+    /**
+     * Shows the entries in the order of {@code order}, or as in the source if it is null. The index must hold the
+     * same entries as the source, and is followed instead of the source while it is set.
+     */
+    public void setOrder(OrderedIndex<?, E> order) {
+        if (this.order != null) {
+            this.order.removeListener(orderListener);
+        }
+        this.order = order;
+        if (order != null) {
+            order.addListener(orderListener);
+        }
+        invalidate();
+    }
+
+    @Override
+    public E get(int index) {
+        if (predicate == null && order == null) {
+            return source.get(index);
+        }
+        findUpTo(index + 1);
+        if (index < 0 || index >= found.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + found.size());
+        }
+        return found.get(index);
+    }
+
+    @Override
+    public int size() {
+        if (predicate == null) {
+            return order == null ? source.size() : order.size();
+        }
+        if (passingCount == UNKNOWN_COUNT) {
+            findUpTo(Integer.MAX_VALUE);
+        }
+        return passingCount;
+    }
+
+    /**
+     * Returns up to {@code limit} entries from position {@code from}, reading no further than the last of them.
+     */
+    public List<E> getEntries(int from, int limit) {
+        checkArgument(from >= 0 && limit >= 0);
+        int to = (int) Math.min((long) from + limit, Integer.MAX_VALUE);
+        List<E> entries;
+        if (predicate == null && order == null) {
+            entries = source;
+        } else {
+            findUpTo(to);
+            entries = found;
+        }
+        return new ArrayList<>(entries.subList(Math.min(from, entries.size()), Math.min(to, entries.size())));
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public void addListener(ListChangeListener<? super E> listener) {
+        requireNonNull(listener);
+        if (changeListeners.isEmpty()) {
+            // the entries read now are those removed by the next change
+            findUpTo(Integer.MAX_VALUE);
+        }
+        changeListeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(ListChangeListener<? super E> listener) {
+        changeListeners.remove(listener);
+    }
+
+    @Override
+    @SafeVarargs
+    public final boolean addAll(E... elements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @SafeVarargs
+    public final boolean setAll(E... elements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends E> col) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @SafeVarargs
+    public final boolean removeAll(E... elements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @SafeVarargs
+    public final boolean retainAll(E... elements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void remove(int from, int to) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Tests the entries in order until {@code wanted} passing entries are found, or all of them are.
+     */
+    private void findUpTo(int wanted) {
+        if (untested == null) {
+            untested = order == null ? source.iterator() : order.iterator();
+        }
+        while (found.size() < wanted && untested.hasNext()
+                && (predicate == null || passingCount == UNKNOWN_COUNT || found.size() < passingCount)) {
+            E entry = untested.next();
+            if (passes(entry)) {
+                found.add(entry);
+            }
+        }
+        if (!untested.hasNext() && predicate != null) {
+            passingCount = found.size();
+        }
+    }
+
+    private boolean passes(E entry) {
+        return predicate == null || predicate.test(entry);
+    }
+
+    /**
+     * Keeps the number of passing entries up to date by testing the entries added to or removed from the source.
+     * Ignored while ordered by an index, which tells of the same changes once it has been updated.
+     */
+    private void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        if (order != null) {
+            return;
+        }
+        while (predicate != null && passingCount != UNKNOWN_COUNT && change.next()) {
+            if (change.wasUpdated()) {
+                passingCount = UNKNOWN_COUNT;
+            } else if (!change.wasPermutated()) {
+                change.getRemoved().stream().filter(this::passes).forEach(entry -> passingCount--);
+                change.getAddedSubList().stream().filter(this::passes).forEach(entry -> passingCount++);
+            }
+        }
+        invalidate();
+    }
+
+    /**
+     * Keeps the number of passing entries up to date by testing the entries added to or removed from the order.
+     */
+    private void orderChanged(List<E> removed, List<E> added) {
+        if (predicate != null && passingCount != UNKNOWN_COUNT) {
+            passingCount += (int) (added.stream().filter(this::passes).count()
+                    - removed.stream().filter(this::passes).count());
+        }
+        invalidate();
+    }
+
+    private void invalidate() {
+        List<E> removed = changeListeners.isEmpty() ? List.of() : new ArrayList<>(found);
+        found.clear();
+        untested = null;
+        new ArrayList<>(listeners).forEach(listener -> listener.invalidated(this));
+        if (!changeListeners.isEmpty()) {
+            findUpTo(Integer.MAX_VALUE);
+            if (!removed.isEmpty() || !found.isEmpty()) {
+                ReplacementChange change = new ReplacementChange(removed);
+                for (ListChangeListener<? super E> listener : new ArrayList<>(changeListeners)) {
+                    change.reset();
+                    listener.onChanged(change);
+                }
+            }
+        }
+    }
+
+    /**
+     * A change replacing all entries of this list.
+     */
+    private class ReplacementChange extends ListChangeListener.Change<E> {
+        private final List<E> removed;
+        private boolean isRead;
+
+        ReplacementChange(List<E> removed) {
+            super(LazyFilteredList.this);
+            this.removed = Collections.unmodifiableList(removed);
+        }
+
+        @Override
+        public boolean next() {
+            if (isRead) {
+                return false;
+            }
+            isRead = true;
+            return true;
+        }
+
+        @Override
+        public void reset() {
+            isRead = false;
+        }
+
+        @Override
+        public int getFrom() {
+            return 0;
+        }
+
+        @Override
+        public int getTo() {
+            return found.size();
+        }
+
+        @Override
+        public List<E> getRemoved() {
+            return removed;
+        }
+
+        @Override
+        protected int[] getPermutation() {
+            return new int[0];
+        }
+    }
+}
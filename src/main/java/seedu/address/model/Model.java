@@ -2,16 +2,22 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.activity.Activity;
+import seedu.address.model.activity.ActivitySortKey;
+import seedu.address.model.activity.TitleContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsAllKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortKey;
+import seedu.address.model.tag.TagFilter;
 
 /**
  * The API of the Model component.
@@ -20,6 +26,9 @@ public interface Model {
     /** {@code Predicate} that always evaluate to true */
     Predicate<Object> PREDICATE_SHOW_ALL_ENTRIES = unused -> true;
 
+    /** Number of entries fetched at a time by paginated queries */
+    int PAGE_SIZE = 50;
+
     /**
      * Replaces internal state with the state in {@code internalState}.
      */
@@ -99,9 +108,43 @@ public interface Model {
     ArrayList<Person> findPersonAll(NameContainsAllKeywordsPredicate predicate);
 
     /**
-     * Finds Person object that has exact matching name as the search term provided, returning an Optional of Person.
+     * Finds Person objects with names similar to all keywords despite small typos, closest match first.
+     */
+    ArrayList<Person> findPersonSimilar(List<String> keywords);
+
+    /**
+     * Finds Person objects whose tags pass the given filter, returning matches in ArrayList.
+     */
+    ArrayList<Person> findPersonByTags(TagFilter filter);
+
+    /**
+     * Returns about how many persons {@link #findPersonAny(NameContainsKeywordsPredicate)} finds, without finding
+     * them. The estimate is never less than the number found.
+     */
+    int estimatePersonAny(NameContainsKeywordsPredicate predicate);
+
+    /**
+     * Returns about how many persons {@link #findPersonAll(NameContainsAllKeywordsPredicate)} finds, without
+     * finding them. The estimate is never less than the number found.
      */
-    Optional<Person> findPersonByName(String searchTerm);
+    int estimatePersonAll(NameContainsAllKeywordsPredicate predicate);
+
+    /**
+     * Returns about how many persons {@link #findPersonByTags(TagFilter)} finds, without finding them.
+     * The estimate is never less than the number found.
+     */
+    int estimatePersonByTags(TagFilter filter);
+
+    /**
+     * Finds the persons whose name is exactly the search term provided, ignoring case. More than one person can have
+     * the same name, so callers must check that there is exactly one match before acting on it.
+     */
+    List<Person> findPersonByName(String searchTerm);
+
+    /**
+     * Returns the person with the given {@code primaryKey}, or an empty {@code Optional} if there is none.
+     */
+    Optional<Person> getPersonByPrimaryKey(int primaryKey);
 
     /**
      * Deletes the given person.
@@ -152,6 +195,32 @@ public interface Model {
      */
     void setActivity(Activity target, Activity editedActivity);
 
+    /**
+     * Finds activities with titles matching any keyword, returning matches in ArrayList.
+     */
+    ArrayList<Activity> findActivityAny(TitleContainsKeywordsPredicate predicate);
+
+    /**
+     * Returns about how many activities {@link #findActivityAny(TitleContainsKeywordsPredicate)} finds, without
+     * finding them. The estimate is never less than the number found.
+     */
+    int estimateActivityAny(TitleContainsKeywordsPredicate predicate);
+
+    /**
+     * Finds activities with a title word starting with any of the prefixes, returning matches in ArrayList.
+     */
+    ArrayList<Activity> findActivityByPrefix(List<String> prefixes);
+
+    /**
+     * Orders the shown contact list by {@code key} from now on, leaving the stored order unchanged.
+     */
+    void sortPersons(PersonSortKey key);
+
+    /**
+     * Orders the shown activity list by {@code key} from now on, leaving the stored order unchanged.
+     */
+    void sortActivities(ActivitySortKey key);
+
     /**
      * Returns an unmodifiable view of the filtered person list for GUI purposes.
      */
@@ -164,6 +233,21 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<? super Person> predicate);
 
+    /**
+     * Updates the filtered person list to show only the persons with the given primary keys, such as those found
+     * through an index. They are counted through the primary key index, so the list is only tested as it is read.
+     * @throws NullPointerException if {@code primaryKeys} is null.
+     */
+    void updateFilteredPersonList(Set<Integer> primaryKeys);
+
+    /**
+     * Returns up to {@code limit} entries of the filtered person list, starting from position {@code offset},
+     * along with whether more entries follow them. Only the entries up to the page are read, so the list is not
+     * counted.
+     * @throws IllegalArgumentException if {@code offset} or {@code limit} is negative.
+     */
+    Page<Person> getFilteredPersonPage(int offset, int limit);
+
     /**
      * Returns an unmodifiable view of the filtered activity list for GUI purposes.
      */
@@ -176,6 +260,21 @@ public interface Model {
      */
     void updateFilteredActivityList(Predicate<? super Activity> predicate);
 
+    /**
+     * Updates the filtered activity list to show only the given activities of the activity book, such as those
+     * found through an index. They are counted without testing the list, which is only tested as it is read.
+     * @throws NullPointerException if {@code activities} or any of them is null.
+     */
+    void updateFilteredActivityList(Collection<Activity> activities);
+
+    /**
+     * Returns up to {@code limit} entries of the filtered activity list, starting from position {@code offset},
+     * along with whether more entries follow them. Only the entries up to the page are read, so the list is not
+     * counted.
+     * @throws IllegalArgumentException if {@code offset} or {@code limit} is negative.
+     */
+    Page<Activity> getFilteredActivityPage(int offset, int limit);
+
     /**
      * Returns an unmodifiable list of {@code Person} containing all participants of a specified
      * {@code Activity}, for GUI purposes.
@@ -1,24 +1,30 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.activity.Activity;
+import seedu.address.model.activity.ActivitySortKey;
+import seedu.address.model.activity.TitleContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsAllKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortKey;
+import seedu.address.model.tag.TagFilter;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -31,9 +37,9 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final InternalState internalState;
 
-    // Lists of person or activity entries to display
-    private final FilteredList<Person> filteredPersons;
-    private final FilteredList<Activity> filteredActivities;
+    // Lists of person or activity entries to display, in the order they were added until a sort order is chosen
+    private final LazyFilteredList<Person> filteredPersons;
+    private final LazyFilteredList<Activity> filteredActivities;
 
     // Describes the nature of the content currently being displayed
     private Context context;
@@ -46,23 +52,44 @@ public class ModelManager implements Model {
             ReadOnlyUserPrefs userPrefs,
             InternalState internalState,
             ActivityBook activityBook) {
+        this(new AddressBook(requireNonNull(addressBook)), new ActivityBook(requireNonNull(activityBook)), userPrefs,
+                internalState);
+    }
+
+    private ModelManager(
+            AddressBook addressBook,
+            ActivityBook activityBook,
+            ReadOnlyUserPrefs userPrefs,
+            InternalState internalState) {
         super();
         requireAllNonNull(addressBook, userPrefs, activityBook);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = addressBook;
         this.userPrefs = new UserPrefs(userPrefs);
-        this.activityBook = new ActivityBook(activityBook);
+        this.activityBook = activityBook;
         this.internalState = new InternalState(internalState);
 
-        filteredPersons = new FilteredList<Person>(this.addressBook.getPersonList());
-        filteredActivities = new FilteredList<Activity>(this.activityBook.getActivityList());
+        filteredPersons = new LazyFilteredList<>(this.addressBook.getPersonList());
+        filteredActivities = new LazyFilteredList<>(this.activityBook.getActivityList());
         context = new Context();
     }
 
     public ModelManager() {
-        this(new AddressBook(), new UserPrefs(), new InternalState(), new ActivityBook());
+        this(new AddressBook(), new ActivityBook(), new UserPrefs(), new InternalState());
+    }
+
+    /**
+     * Returns a ModelManager that holds {@code addressBook} and {@code activityBook} themselves instead of copies,
+     * such as books just read from storage. Nothing else must change the books from then on.
+     */
+    public static ModelManager withOwnBooks(
+            AddressBook addressBook,
+            ReadOnlyUserPrefs userPrefs,
+            InternalState internalState,
+            ActivityBook activityBook) {
+        return new ModelManager(addressBook, activityBook, userPrefs, internalState);
     }
 
     // =========== Internal model state ============================================================
@@ -164,11 +191,46 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public Optional<Person> findPersonByName(String searchTerm) {
+    public ArrayList<Person> findPersonSimilar(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.findPersonSimilar(keywords);
+    }
+
+    @Override
+    public ArrayList<Person> findPersonByTags(TagFilter filter) {
+        requireNonNull(filter);
+        return addressBook.findPersonByTags(filter);
+    }
+
+    @Override
+    public int estimatePersonAny(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return addressBook.estimatePerson(predicate);
+    }
+
+    @Override
+    public int estimatePersonAll(NameContainsAllKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return addressBook.estimatePerson(predicate);
+    }
+
+    @Override
+    public int estimatePersonByTags(TagFilter filter) {
+        requireNonNull(filter);
+        return addressBook.estimatePersonByTags(filter);
+    }
+
+    @Override
+    public List<Person> findPersonByName(String searchTerm) {
         requireNonNull(searchTerm);
         return addressBook.findPersonByName(searchTerm);
     }
 
+    @Override
+    public Optional<Person> getPersonByPrimaryKey(int primaryKey) {
+        return addressBook.getPersonByPrimaryKey(primaryKey);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
@@ -221,6 +283,70 @@ public class ModelManager implements Model {
         activityBook.setActivity(target, editedActivity);
     }
 
+    @Override
+    public ArrayList<Activity> findActivityAny(TitleContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return activityBook.findActivity(predicate);
+    }
+
+    @Override
+    public int estimateActivityAny(TitleContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return activityBook.estimateActivity(predicate);
+    }
+
+    @Override
+    public ArrayList<Activity> findActivityByPrefix(List<String> prefixes) {
+        requireNonNull(prefixes);
+        return activityBook.findActivityByPrefix(prefixes);
+    }
+
+    // =========== Sorting =========================================================================
+
+    @Override
+    public void sortPersons(PersonSortKey key) {
+        requireNonNull(key);
+        if (key != PersonSortKey.BALANCE) {
+            activityBook.stopTrackingBalances();
+        }
+        switch (key) {
+        case NAME:
+            filteredPersons.setOrder(addressBook.getNameOrder());
+            break;
+        case BALANCE:
+            // Balances change inside activities, so the activity book tells the address book of each change.
+            activityBook.trackBalances(addressBook::setBalances);
+            filteredPersons.setOrder(addressBook.getBalanceOrder());
+            break;
+        case ADDED:
+            filteredPersons.setOrder(null);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown sort key: " + key);
+        }
+    }
+
+    @Override
+    public void sortActivities(ActivitySortKey key) {
+        requireNonNull(key);
+        switch (key) {
+        case TITLE:
+            filteredActivities.setOrder(activityBook.getTitleOrder());
+            break;
+        case SPENDING:
+            filteredActivities.setOrder(activityBook.getSpendingOrder());
+            break;
+        case RECENT:
+            filteredActivities.setOrder(activityBook.getRecentOrder());
+            break;
+        case ADDED:
+            filteredActivities.setOrder(null);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown sort key: " + key);
+        }
+    }
+
     // =========== Filtered Person List Accessors ==================================================
 
     /**
@@ -235,7 +361,22 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<? super Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        filteredPersons.setPredicate(predicate == PREDICATE_SHOW_ALL_ENTRIES ? null : predicate);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Set<Integer> primaryKeys) {
+        requireNonNull(primaryKeys);
+        Set<Integer> shownKeys = Set.copyOf(primaryKeys);
+        int shownCount = (int) shownKeys.stream()
+                .filter(primaryKey -> addressBook.getPersonByPrimaryKey(primaryKey).isPresent())
+                .count();
+        filteredPersons.setPredicate(person -> shownKeys.contains(person.getPrimaryKey()), shownCount);
+    }
+
+    @Override
+    public Page<Person> getFilteredPersonPage(int offset, int limit) {
+        return getPage(filteredPersons, offset, limit);
     }
 
     // =========== Filtered Activity List Accessors ================================================
@@ -252,7 +393,35 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredActivityList(Predicate<? super Activity> predicate) {
         requireNonNull(predicate);
-        filteredActivities.setPredicate(predicate);
+        filteredActivities.setPredicate(predicate == PREDICATE_SHOW_ALL_ENTRIES ? null : predicate);
+    }
+
+    @Override
+    public void updateFilteredActivityList(Collection<Activity> activities) {
+        requireAllNonNull(activities);
+        Set<Integer> shownKeys = activities.stream()
+                .map(Activity::getPrimaryKey)
+                .collect(Collectors.toSet());
+        int shownCount = (int) shownKeys.stream()
+                .filter(activityBook::hasPrimaryKey)
+                .count();
+        filteredActivities.setPredicate(activity -> shownKeys.contains(activity.getPrimaryKey()), shownCount);
+    }
+
+    @Override
+    public Page<Activity> getFilteredActivityPage(int offset, int limit) {
+        return getPage(filteredActivities, offset, limit);
+    }
+
+    /**
+     * Copies out the entries of {@code list} from {@code offset}, up to {@code limit} of them. One more entry is
+     * read to tell whether more follow, so the list is not counted.
+     */
+    private static <T> Page<T> getPage(LazyFilteredList<T> list, int offset, int limit) {
+        checkArgument(offset >= 0 && limit >= 0);
+        List<T> entries = list.getEntries(offset, limit == Integer.MAX_VALUE ? limit : limit + 1);
+        boolean hasNext = entries.size() > limit;
+        return new Page<>(hasNext ? entries.subList(0, limit) : entries, offset, hasNext);
     }
 
     // =========== Association lookup accessors for GUI ============================================
@@ -261,8 +430,9 @@ public class ModelManager implements Model {
     public List<Person> getAssociatedPersons(Activity activity) {
         requireNonNull(activity);
 
-        return this.addressBook.getPersonList().stream()
-            .filter((person) -> activity.hasPerson(person.getPrimaryKey()))
+        return activity.getParticipantIds().stream()
+            .map(addressBook::getPersonByPrimaryKey)
+            .flatMap(Optional::stream)
             .collect(Collectors.toUnmodifiableList());
     }
 
@@ -270,9 +440,7 @@ public class ModelManager implements Model {
     public List<Activity> getAssociatedActivities(Person person) {
         requireNonNull(person);
 
-        return this.activityBook.getActivityList().stream()
-            .filter((activity) -> activity.hasPerson(person.getPrimaryKey()))
-            .collect(Collectors.toUnmodifiableList());
+        return activityBook.getActivitiesOf(person.getPrimaryKey());
     }
 
     // =========== Overridden Java methods =========================================================
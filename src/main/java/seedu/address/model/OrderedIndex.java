@@ -0,0 +1,162 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Entries kept in the order of a sort key, then of primary key, so that a list can be shown sorted without sorting
+ * it. Adding, removing or re-keying an entry takes O(log n). Entries are told apart by primary key, so an index
+ * holds at most one entry for each.
+ *
+ * Listeners are told of the entries removed and added by each change, once it is made.
+ */
+public class OrderedIndex<K, E> implements Iterable<E> {
+
+    /**
+     * Told of a change to an {@code OrderedIndex}. An entry that was moved is both removed and added.
+     */
+    @FunctionalInterface
+    public interface ChangeListener<E> {
+        void onChanged(List<E> removed, List<E> added);
+    }
+
+    private final Function<? super E, ? extends K> sortKeyOf;
+    private final Comparator<? super K> order;
+    private final ToIntFunction<? super E> primaryKeyOf;
+
+    private final TreeMap<Position<K>, E> entries;
+
+    // The position of each entry, by primary key, kept so that an entry can be found again after its sort key
+    // has changed.
+    private final Map<Integer, Position<K>> positions = new HashMap<>();
+
+    private final List<ChangeListener<E>> listeners = new ArrayList<>();
+
+    /**
+     * Creates an empty index of entries in the {@code order} of the sort keys given by {@code sortKeyOf}, and
+     * then of the primary keys given by {@code primaryKeyOf}.
+     */
+    public OrderedIndex(Function<? super E, ? extends K> sortKeyOf, Comparator<? super K> order,
+            ToIntFunction<? super E> primaryKeyOf) {
+        requireAllNonNull(sortKeyOf, order, primaryKeyOf);
+        this.sortKeyOf = sortKeyOf;
+        this.order = order;
+        this.primaryKeyOf = primaryKeyOf;
+        entries = new TreeMap<>(Comparator.<Position<K>, K>comparing(position -> position.sortKey, order)
+                .thenComparingInt(position -> position.primaryKey));
+    }
+
+    /**
+     * Adds {@code entry}, in place of the entry with the same primary key if there is one.
+     */
+    public void add(E entry) {
+        requireNonNull(entry);
+        E replaced = removeEntry(primaryKeyOf.applyAsInt(entry));
+        putEntry(entry);
+        fireChanged(replaced == null ? List.of() : List.of(replaced), List.of(entry));
+    }
+
+    /**
+     * Removes the entry with the same primary key as {@code entry}, if there is one.
+     */
+    public void remove(E entry) {
+        requireNonNull(entry);
+        E removed = removeEntry(primaryKeyOf.applyAsInt(entry));
+        if (removed != null) {
+            fireChanged(List.of(removed), List.of());
+        }
+    }
+
+    /**
+     * Moves {@code entry} to the place of its current sort key. Does nothing if the entry is not in the index or
+     * its sort key has not changed.
+     */
+    public void update(E entry) {
+        requireNonNull(entry);
+        Position<K> position = positions.get(primaryKeyOf.applyAsInt(entry));
+        if (position == null || order.compare(position.sortKey, sortKeyOf.apply(entry)) == 0) {
+            return;
+        }
+        E moved = removeEntry(position.primaryKey);
+        putEntry(entry);
+        fireChanged(List.of(moved), List.of(entry));
+    }
+
+    /**
+     * Replaces the entries of the index with {@code newEntries}.
+     */
+    public void setAll(Collection<? extends E> newEntries) {
+        requireAllNonNull(newEntries);
+        List<E> removed = new ArrayList<>(entries.values());
+        entries.clear();
+        positions.clear();
+        newEntries.forEach(this::putEntry);
+        fireChanged(removed, new ArrayList<>(entries.values()));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns an iterator over the entries in order, which must not be used once the index has changed.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return Collections.unmodifiableCollection(entries.values()).iterator();
+    }
+
+    public void addListener(ChangeListener<E> listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    public void removeListener(ChangeListener<E> listener) {
+        listeners.remove(listener);
+    }
+
+    private void putEntry(E entry) {
+        Position<K> position = new Position<>(sortKeyOf.apply(entry), primaryKeyOf.applyAsInt(entry));
+        Position<K> previous = positions.put(position.primaryKey, position);
+        if (previous != null) {
+            entries.remove(previous);
+        }
+        entries.put(position, entry);
+    }
+
+    private E removeEntry(int primaryKey) {
+        Position<K> position = positions.remove(primaryKey);
+        return position == null ? null : entries.remove(position);
+    }
+
+    private void fireChanged(List<E> removed, List<E> added) {
+        if (!removed.isEmpty() || !added.isEmpty()) {
+            new ArrayList<>(listeners).forEach(listener -> listener.onChanged(removed, added));
+        }
+    }
+
+    /**
+     * The place of an entry in an index.
+     */
+    private static class Position<K> {
+        private final K sortKey;
+        private final int primaryKey;
+
+        Position(K sortKey, int primaryKey) {
+            this.sortKey = sortKey;
+            this.primaryKey = primaryKey;
+        }
+    }
+}
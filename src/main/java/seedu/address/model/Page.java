@@ -0,0 +1,65 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A window of consecutive entries taken from a longer list of results, along with whether more results follow it.
+ * The size of the list is not kept, so that a page can be taken without counting all of the results.
+ * Guarantees: immutable; entries are not null
+ */
+public class Page<T> {
+
+    private final List<T> items;
+    private final int offset;
+    private final boolean hasNext;
+
+    /**
+     * {@code items} must be the entries of the results starting from position {@code offset}, with more results
+     * after them if {@code hasNext} is true.
+     */
+    public Page(List<T> items, int offset, boolean hasNext) {
+        requireNonNull(items);
+        checkArgument(offset >= 0);
+        this.items = List.copyOf(items);
+        this.offset = offset;
+        this.hasNext = hasNext;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns true if there are more results after this page.
+     */
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Page // instanceof handles nulls
+                && items.equals(((Page<?>) other).items)
+                && offset == ((Page<?>) other).offset
+                && hasNext == ((Page<?>) other).hasNext);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(items, offset, hasNext);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d to %d%s", offset, offset + items.size(), hasNext ? " of more" : "");
+    }
+}
@@ -14,4 +14,9 @@ public interface ReadOnlyActivityBook {
      */
     ObservableList<Activity> getActivityList();
 
+    /**
+     * Returns a number that changes whenever the activity book or any of its activities is modified.
+     */
+    long getVersion();
+
 }
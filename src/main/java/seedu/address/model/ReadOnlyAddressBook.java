@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 
@@ -14,4 +16,15 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the person with the given {@code primaryKey}, or an empty {@code Optional} if there is none.
+     */
+    Optional<Person> getPersonByPrimaryKey(int primaryKey);
+
+    /**
+     * Returns a number that changes whenever the persons in this address book change,
+     * so that data derived from them can tell when it is out of date.
+     */
+    long getVersion();
+
 }
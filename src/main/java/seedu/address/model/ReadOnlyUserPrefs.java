@@ -16,4 +16,56 @@ public interface ReadOnlyUserPrefs {
     Path getActivityBookFilePath();
 
     Path getInternalStateFilePath();
+
+    /**
+     * Returns true if the address book and activity book are saved as a journal of changes to their last full copy.
+     */
+    boolean isJournalEnabled();
+
+    /**
+     * Returns true if the address book and activity book files are saved without line breaks and indentation.
+     */
+    boolean isCompactJsonEnabled();
+
+    /**
+     * Returns true if the address book and activity book are saved in the binary format instead of as JSON, next to
+     * where their JSON files would be.
+     */
+    boolean isBinaryFormatEnabled();
+
+    /**
+     * Returns true if the activity book is kept in an append-only store of expenses, whatever the format of the
+     * address book.
+     */
+    boolean isMappedStorageEnabled();
+
+    /**
+     * Returns true if the activity book is kept as one file per activity, unless it is kept in the append-only
+     * store of expenses.
+     */
+    boolean isShardedStorageEnabled();
+
+    /**
+     * Returns true if the expenses of each activity are only read when they are first needed, which is only done
+     * when the activity book is kept as one file per activity.
+     */
+    boolean isLazyLoadingEnabled();
+
+    /**
+     * Returns true if the data files are compressed when saved, other than the append-only store of expenses and
+     * the journals. Files are read whether they are compressed or not.
+     */
+    boolean isCompressionEnabled();
+
+    /**
+     * Returns true if the address book and activity book are kept in embedded SQL databases, in place of every
+     * other format.
+     */
+    boolean isSqlStorageEnabled();
+
+    /**
+     * Returns true if the address book and activity book are saved as an image when the app exits, and restored
+     * from it on the next launch if their data files have not changed since.
+     */
+    boolean isWarmStartEnabled();
 }
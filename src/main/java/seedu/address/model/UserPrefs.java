@@ -17,6 +17,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private Path activityBookFilePath = Paths.get("data" , "activitybook.json");
     private Path internalStateFilePath = Paths.get("data", "internalstate.json");
+    private boolean journalEnabled = false;
+    private boolean compactJsonEnabled = false;
+    private boolean binaryFormatEnabled = false;
+    private boolean mappedStorageEnabled = false;
+    private boolean shardedStorageEnabled = false;
+    private boolean lazyLoadingEnabled = false;
+    private boolean compressionEnabled = false;
+    private boolean sqlStorageEnabled = false;
+    private boolean warmStartEnabled = false;
 
     public UserPrefs() {};
 
@@ -37,6 +46,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setActivityBookFilePath(newUserPrefs.getActivityBookFilePath());
         setInternalStateFilePath(newUserPrefs.getInternalStateFilePath());
+        setJournalEnabled(newUserPrefs.isJournalEnabled());
+        setCompactJsonEnabled(newUserPrefs.isCompactJsonEnabled());
+        setBinaryFormatEnabled(newUserPrefs.isBinaryFormatEnabled());
+        setMappedStorageEnabled(newUserPrefs.isMappedStorageEnabled());
+        setShardedStorageEnabled(newUserPrefs.isShardedStorageEnabled());
+        setLazyLoadingEnabled(newUserPrefs.isLazyLoadingEnabled());
+        setCompressionEnabled(newUserPrefs.isCompressionEnabled());
+        setSqlStorageEnabled(newUserPrefs.isSqlStorageEnabled());
+        setWarmStartEnabled(newUserPrefs.isWarmStartEnabled());
     }
 
     public GuiSettings getGuiSettings() {
@@ -75,6 +93,78 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.internalStateFilePath = internalStateFilePath;
     }
 
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public void setJournalEnabled(boolean journalEnabled) {
+        this.journalEnabled = journalEnabled;
+    }
+
+    public boolean isCompactJsonEnabled() {
+        return compactJsonEnabled;
+    }
+
+    public void setCompactJsonEnabled(boolean compactJsonEnabled) {
+        this.compactJsonEnabled = compactJsonEnabled;
+    }
+
+    public boolean isBinaryFormatEnabled() {
+        return binaryFormatEnabled;
+    }
+
+    public void setBinaryFormatEnabled(boolean binaryFormatEnabled) {
+        this.binaryFormatEnabled = binaryFormatEnabled;
+    }
+
+    public boolean isMappedStorageEnabled() {
+        return mappedStorageEnabled;
+    }
+
+    public void setMappedStorageEnabled(boolean mappedStorageEnabled) {
+        this.mappedStorageEnabled = mappedStorageEnabled;
+    }
+
+    public boolean isShardedStorageEnabled() {
+        return shardedStorageEnabled;
+    }
+
+    public void setShardedStorageEnabled(boolean shardedStorageEnabled) {
+        this.shardedStorageEnabled = shardedStorageEnabled;
+    }
+
+    public boolean isLazyLoadingEnabled() {
+        return lazyLoadingEnabled;
+    }
+
+    public void setLazyLoadingEnabled(boolean lazyLoadingEnabled) {
+        this.lazyLoadingEnabled = lazyLoadingEnabled;
+    }
+
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+
+    public void setCompressionEnabled(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+
+    public boolean isSqlStorageEnabled() {
+        return sqlStorageEnabled;
+    }
+
+    public void setSqlStorageEnabled(boolean sqlStorageEnabled) {
+        this.sqlStorageEnabled = sqlStorageEnabled;
+    }
+
+    public boolean isWarmStartEnabled() {
+        return warmStartEnabled;
+    }
+
+    public void setWarmStartEnabled(boolean warmStartEnabled) {
+        this.warmStartEnabled = warmStartEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -89,7 +179,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         return guiSettings.equals(o.guiSettings)
                 && addressBookFilePath.equals(o.addressBookFilePath)
                 && activityBookFilePath.equals(o.activityBookFilePath)
-                && internalStateFilePath.equals(o.internalStateFilePath);
+                && internalStateFilePath.equals(o.internalStateFilePath)
+                && journalEnabled == o.journalEnabled
+                && compactJsonEnabled == o.compactJsonEnabled
+                && binaryFormatEnabled == o.binaryFormatEnabled
+                && mappedStorageEnabled == o.mappedStorageEnabled
+                && shardedStorageEnabled == o.shardedStorageEnabled
+                && lazyLoadingEnabled == o.lazyLoadingEnabled
+                && compressionEnabled == o.compressionEnabled
+                && sqlStorageEnabled == o.sqlStorageEnabled
+                && warmStartEnabled == o.warmStartEnabled;
     }
 
     @Override
@@ -105,6 +204,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("\nActivity data file location: " + activityBookFilePath);
         sb.append("\nAddress data file location : " + addressBookFilePath);
         sb.append("\nState data file location : " + internalStateFilePath);
+        sb.append("\nJournal enabled : " + journalEnabled);
+        sb.append("\nCompact JSON enabled : " + compactJsonEnabled);
+        sb.append("\nBinary format enabled : " + binaryFormatEnabled);
+        sb.append("\nMapped storage enabled : " + mappedStorageEnabled);
+        sb.append("\nSharded storage enabled : " + shardedStorageEnabled);
+        sb.append("\nLazy loading enabled : " + lazyLoadingEnabled);
+        sb.append("\nCompression enabled : " + compressionEnabled);
+        sb.append("\nSQL storage enabled : " + sqlStorageEnabled);
+        sb.append("\nWarm start enabled : " + warmStartEnabled);
         return sb.toString();
     }
 
@@ -1,17 +1,26 @@
 package seedu.address.model.activity;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import seedu.address.commons.util.Triplet;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.activity.exceptions.ExpenseLoadException;
 import seedu.address.model.activity.exceptions.PersonNotInActivityException;
 import seedu.address.model.person.Person;
 
@@ -20,7 +29,13 @@ import seedu.address.model.person.Person;
  */
 public class Activity {
 
+    public static final String MESSAGE_BALANCES_MISMATCH =
+            "The balances or expenses involve someone not participating in the activity";
+
     private static int primaryKeyCounter;
+    // Counts the changes to the participants or expenses of any activity, so that saved copies can tell when
+    // they are out of date.
+    private static final AtomicLong modificationCount = new AtomicLong();
     private final int primaryKey;
     private final Title title;
     private final ArrayList<Expense> expenses;
@@ -40,6 +55,25 @@ public class Activity {
     // be used outside of the context of the debt algorithm.
     private final ArrayList<ArrayList<Double>> debtMatrix;
 
+    // Identifies the state of this activity: set to a new value of the modification count by the public
+    // constructors and whenever it changes, and kept by copies, so copying never moves the count.
+    private long modificationStamp;
+
+    // Given this activity after every change, such as by the books holding it so that their indexes change with it.
+    // They are held weakly, so that a book dropped without removing its activities can still be collected.
+    private final List<WeakReference<Consumer<Activity>>> changeListeners = new ArrayList<>(1);
+
+    // Loads the expenses of an activity read without them, on first use. Shared with renamed copies, which share
+    // the expenses too, so that whichever is used first loads them into both.
+    private final PendingExpenses pendingExpenses;
+
+    // Cached name lookup over the participants, and what it was built from. Renamed copies of this activity
+    // share its participant lists, so the participant ids are compared too and not just dropped on invite.
+    private ParticipantNameResolver participantResolver;
+    private ReadOnlyAddressBook resolverAddressBook;
+    private long resolverVersion;
+    private List<Integer> resolverParticipantIds;
+
     /**
      * Constructor for Activity.
      * @param primaryKey The primary key of this activity.
@@ -57,9 +91,62 @@ public class Activity {
         debtMatrix = new ArrayList<>(ids.length);
         this.primaryKey = primaryKey;
         this.title = title;
+        pendingExpenses = new PendingExpenses(null, 0);
         invite(ids);
     }
 
+    /**
+     * Constructor for an Activity whose expenses are only loaded by {@code expenseLoader} when they are first
+     * needed, such as to show them or to work out the balances.
+     * @param primaryKey The primary key of this activity.
+     * @param title Title of the activity.
+     * @param totalSpending The total spending of the activity, as returned by {@link #getTotalSpending()} before
+     *     the expenses are loaded.
+     * @param expenseLoader Loads the expenses of the activity.
+     * @param ids The people participating in the activity.
+     */
+    public Activity(int primaryKey, Title title, double totalSpending, ExpenseLoader expenseLoader,
+            Integer ... ids) {
+        this(primaryKey, title, ids);
+        requireNonNull(expenseLoader);
+        pendingExpenses.loader = expenseLoader;
+        pendingExpenses.totalSpending = totalSpending;
+    }
+
+    /**
+     * Constructor for an Activity with {@code expenses} whose balances were worked out before, which are restored
+     * from {@code balances} instead of being worked out again from every expense.
+     * @param primaryKey The primary key of this activity.
+     * @param title Title of the activity.
+     * @param expenses The expenses of the activity, each with the persons involved in it.
+     * @param balances The balances worked out from {@code expenses}.
+     * @param ids The people participating in the activity.
+     * @throws IllegalArgumentException if the expenses or balances involve anyone not participating, or if an
+     *     expense does not have the persons involved in it.
+     */
+    public Activity(int primaryKey, Title title, List<Expense> expenses, BalanceSnapshot balances,
+            Integer ... ids) {
+        this(primaryKey, title, ids);
+        requireNonNull(expenses);
+        requireNonNull(balances);
+        for (Expense expense : expenses) {
+            int[] involved = expense.getInvolved();
+            checkArgument(involved != null && hasPerson(expense.getPersonId())
+                    && IntStream.of(involved).allMatch(id -> hasPerson(id)), MESSAGE_BALANCES_MISMATCH);
+        }
+        checkArgument(balances.getActiveParticipantIds().stream().allMatch(this::hasPerson)
+                && balances.getDebts().stream().allMatch(debt -> hasPerson(debt.getFirst())
+                        && hasPerson(debt.getSecond())), MESSAGE_BALANCES_MISMATCH);
+
+        this.expenses.addAll(expenses);
+        for (Integer id : balances.getActiveParticipantIds()) {
+            participantActive.set(idDict.get(id), true);
+        }
+        for (Triplet<Integer, Integer, Double> debt : balances.getDebts()) {
+            debtMatrix.get(idDict.get(debt.getFirst())).set(idDict.get(debt.getSecond()), debt.getThird());
+        }
+    }
+
     /**
       Constructor for Activity. Sets primary key automatically.
      * @param title Title of the activity.
@@ -76,6 +163,8 @@ public class Activity {
      * @return a new Activity instance with the editable fields updated.
      */
     public Activity(Activity activity, Title title) {
+        // both activities share the expenses and so also their loader, so that they are loaded once
+        pendingExpenses = activity.pendingExpenses;
         participantIds = activity.participantIds;
         participantActive = activity.participantActive;
         idDict = activity.idDict;
@@ -85,6 +174,42 @@ public class Activity {
         debtMatrix = activity.debtMatrix;
         primaryKey = activity.primaryKey;
         this.title = title;
+        modificationStamp = modificationCount.incrementAndGet();
+    }
+
+    /**
+     * Creates a copy of {@code activity} that shares none of its participants, expenses or balances.
+     */
+    private Activity(Activity activity) {
+        participantIds = new ArrayList<>(activity.participantIds);
+        participantActive = new ArrayList<>(activity.participantActive);
+        idDict = new HashMap<>(activity.idDict);
+        expenses = activity.expenses.stream()
+                .map(Expense::copy)
+                .collect(Collectors.toCollection(ArrayList::new));
+        participantBalances = new ArrayList<>(activity.participantBalances);
+        transferMatrix = copyMatrix(activity.transferMatrix);
+        debtMatrix = copyMatrix(activity.debtMatrix);
+        primaryKey = activity.primaryKey;
+        title = activity.title;
+        modificationStamp = activity.modificationStamp;
+        // a copy of an activity whose expenses are not loaded yet loads them on its own
+        pendingExpenses = new PendingExpenses(activity.pendingExpenses.loader, activity.pendingExpenses.totalSpending);
+    }
+
+    /**
+     * Returns a copy of this activity. Later changes to either activity are not seen by the other.
+     */
+    public Activity copy() {
+        return new Activity(this);
+    }
+
+    private static ArrayList<ArrayList<Double>> copyMatrix(ArrayList<ArrayList<Double>> matrix) {
+        ArrayList<ArrayList<Double>> copy = new ArrayList<>(matrix.size());
+        for (ArrayList<Double> row : matrix) {
+            copy.add(new ArrayList<>(row));
+        }
+        return copy;
     }
 
     public int getPrimaryKey() {
@@ -99,11 +224,86 @@ public class Activity {
         primaryKeyCounter = pk;
     }
 
+    /**
+     * Returns a number that changes whenever the participants or expenses of any activity change.
+     */
+    public static long getModificationCount() {
+        return modificationCount.get();
+    }
+
+    /**
+     * Returns a number identifying the current state of this activity. It changes whenever the activity changes,
+     * is the same for copies made by {@link #copy()}, and is never the same for two different activities.
+     */
+    public long getModificationStamp() {
+        return modificationStamp;
+    }
+
+    /**
+     * Adds {@code listener} to be given this activity whenever its participants or expenses have changed.
+     * The listener is held weakly, so it is only run for as long as the caller keeps it.
+     */
+    public void addChangeListener(Consumer<Activity> listener) {
+        requireNonNull(listener);
+        changeListeners.add(new WeakReference<>(listener));
+    }
+
+    /**
+     * Removes {@code listener}, so that it is no longer run when this activity changes.
+     */
+    public void removeChangeListener(Consumer<Activity> listener) {
+        requireNonNull(listener);
+        changeListeners.removeIf(reference -> reference.get() == null || reference.get() == listener);
+    }
+
+    /**
+     * Gives this activity a new modification stamp and runs its change listeners.
+     */
+    private void markChanged() {
+        modificationStamp = modificationCount.incrementAndGet();
+        changeListeners.removeIf(reference -> reference.get() == null);
+        for (WeakReference<Consumer<Activity>> reference : new ArrayList<>(changeListeners)) {
+            Consumer<Activity> listener = reference.get();
+            if (listener != null) {
+                listener.accept(this);
+            }
+        }
+    }
+
+    /**
+     * Returns true if the expenses of this activity are loaded, which is always the case unless it was created
+     * with an {@code ExpenseLoader}.
+     */
+    public boolean isLoaded() {
+        return pendingExpenses.loader == null;
+    }
+
+    /**
+     * Loads the expenses of this activity if they are not loaded yet. Loading them does not count as a change.
+     * @throws ExpenseLoadException if the expenses cannot be loaded, in which case they are left unloaded.
+     */
+    public void loadExpenses() {
+        if (isLoaded()) {
+            return;
+        }
+        List<Expense> loadedExpenses = pendingExpenses.loader.load();
+        for (Expense expense : loadedExpenses) {
+            int[] involved = expense.getInvolved();
+            if (!hasPerson(expense.getPersonId())
+                    || (involved != null && !IntStream.of(involved).allMatch(id -> hasPerson(id)))) {
+                throw new ExpenseLoadException("An expense of " + this + " involves a person not in it");
+            }
+        }
+        pendingExpenses.loader = null;
+        loadedExpenses.forEach(this::applyExpense);
+    }
+
     /**
      * Returns a {@code List} containing all expenses in this {@code Activity}.
      * @return A {@code List} of {@code Expense} instances associated with this {@code Activity}.
      */
     public List<Expense> getExpenses() {
+        loadExpenses();
         return expenses;
     }
 
@@ -111,7 +311,7 @@ public class Activity {
      * Gets all the expenses in this activity that are not settlements.
      */
     public List<Expense> getNonSettlementExpenses() {
-        return expenses.stream()
+        return getExpenses().stream()
             .filter(x -> !x.isSettlement())
             .collect(Collectors.toList());
     }
@@ -120,7 +320,7 @@ public class Activity {
      * Gets all the expenses in this activity that are settlements.
      */
     public List<Expense> getSettlementExpenses() {
-        return expenses.stream()
+        return getExpenses().stream()
             .filter(x -> x.isSettlement())
             .collect(Collectors.toList());
     }
@@ -130,6 +330,9 @@ public class Activity {
      * @return The total spending of this {@code Activity} as a {@code double}.
      */
     public double getTotalSpending() {
+        if (!isLoaded()) {
+            return pendingExpenses.totalSpending;
+        }
         return this.getNonSettlementExpenses().stream()
                 .filter(expense -> !expense.isDeleted())
                 .map(expense -> expense.getAmount().value)
@@ -169,6 +372,28 @@ public class Activity {
         return idDict.containsKey(personId);
     }
 
+    /**
+     * Returns the balances of this activity as worked out from its expenses, from which an activity with the same
+     * expenses can be restored without working them out again.
+     */
+    public BalanceSnapshot getBalanceSnapshot() {
+        loadExpenses();
+        Set<Integer> activeParticipantIds = new HashSet<>();
+        List<Triplet<Integer, Integer, Double>> debts = new ArrayList<>();
+        for (int i = 0; i < participantIds.size(); i++) {
+            if (participantActive.get(i)) {
+                activeParticipantIds.add(participantIds.get(i));
+            }
+            for (int j = 0; j < participantIds.size(); j++) {
+                double amount = debtMatrix.get(i).get(j);
+                if (amount != 0) {
+                    debts.add(new Triplet<>(participantIds.get(i), participantIds.get(j), amount));
+                }
+            }
+        }
+        return new BalanceSnapshot(activeParticipantIds, debts);
+    }
+
     /**
      * Gets the transfer matrix.
      * @return The matrix. Every (i, j) entry reflects how much i receives from
@@ -176,6 +401,7 @@ public class Activity {
      *
      */
     public ArrayList<ArrayList<Double>> getTransferMatrix() {
+        loadExpenses();
         simplifyExpenses();
         return transferMatrix;
     }
@@ -200,6 +426,7 @@ public class Activity {
         Integer participantIndex = idDict.get(participantId);
         assert participantIndex != null : "Participant supplied should be involved in this activity!";
 
+        loadExpenses();
         simplifyExpenses();
 
         ArrayList<Double> transfers = transferMatrix.get(participantIndex);
@@ -216,6 +443,7 @@ public class Activity {
     public List<Triplet<Integer, Integer, Double>> getSolution() {
         List<Triplet<Integer, Integer, Double>> sol = new ArrayList<>();
 
+        loadExpenses();
         simplifyExpenses();
 
         int numParticipants = getParticipantCount();
@@ -243,6 +471,29 @@ public class Activity {
         return sol;
     }
 
+    /**
+     * Returns a resolver of names to the participants of this activity, whose details are looked up in
+     * {@code addressBook}. The resolver is cached and only rebuilt after participants are invited or disinvited,
+     * or after the persons in {@code addressBook} have changed.
+     */
+    public ParticipantNameResolver getParticipantResolver(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (participantResolver == null
+                || resolverAddressBook != addressBook
+                || resolverVersion != addressBook.getVersion()
+                || !resolverParticipantIds.equals(participantIds)) {
+            List<Person> participants = participantIds.stream()
+                    .map(addressBook::getPersonByPrimaryKey)
+                    .flatMap(Optional::stream)
+                    .collect(Collectors.toList());
+            participantResolver = new ParticipantNameResolver(participants);
+            resolverAddressBook = addressBook;
+            resolverVersion = addressBook.getVersion();
+            resolverParticipantIds = new ArrayList<>(participantIds);
+        }
+        return participantResolver;
+    }
+
     /**
      * Invite people to the activity.
      * @param people The people that will be added into the activity.
@@ -259,8 +510,10 @@ public class Activity {
      * into the activity.
      */
     public void invite(Integer ... primaryKeys) {
+        loadExpenses();
         int len = participantIds.size();
         int newlen = len + primaryKeys.length;
+        participantResolver = null;
         for (int i = 0; i < primaryKeys.length; i++) {
             int p = primaryKeys[i];
             if (hasPerson(p)) {
@@ -278,6 +531,7 @@ public class Activity {
             debtMatrix.add(new ArrayList<>(Collections.nCopies(newlen, 0.0)));
             transferMatrix.add(new ArrayList<>(Collections.nCopies(newlen, 0.0)));
         }
+        markChanged();
     }
 
     /**
@@ -295,7 +549,10 @@ public class Activity {
      * @param primaryKeys The primary keys of the people you want to remove.
      */
     public void disinvite(Integer ... primaryKeys) {
+        // whether a participant can be removed depends on the expenses
+        loadExpenses();
         ArrayList<Integer> gc = new ArrayList<>(primaryKeys.length);
+        participantResolver = null;
         for (int i = 0; i < primaryKeys.length; i++) {
             int p = primaryKeys[i];
 
@@ -330,6 +587,7 @@ public class Activity {
         for (int i = 0; i < participantIds.size(); i++) {
             idDict.put(participantIds.get(i), i);
         }
+        markChanged();
     }
 
     /**
@@ -347,6 +605,19 @@ public class Activity {
      * @throws PersonNotInActivityException if any person is not found
      */
     public void addExpense(Expense expense) throws PersonNotInActivityException {
+        loadExpenses();
+        try {
+            applyExpense(expense);
+        } finally {
+            markChanged();
+        }
+    }
+
+    /**
+     * Adds {@code expense} to the expenses and balances of this activity, without counting it as a change.
+     * @throws PersonNotInActivityException if any person is not found
+     */
+    private void applyExpense(Expense expense) throws PersonNotInActivityException {
         int payer = expense.getPersonId();
         int payerPos = idDict.get(payer);
         int[] involved = expense.getInvolved(); // id of everyone involved
@@ -453,7 +724,7 @@ public class Activity {
      * @param position The 0-indexed expense number to delete
      */
     public void deleteExpense(int position) {
-        Expense expense = expenses.get(position);
+        Expense expense = getExpenses().get(position);
         expense.delete();
         deleteExpense(expense);
 
@@ -466,6 +737,19 @@ public class Activity {
      * want bounds checking.
      */
     public void deleteExpense(Expense expense) throws PersonNotInActivityException {
+        loadExpenses();
+        try {
+            unapplyExpense(expense);
+        } finally {
+            markChanged();
+        }
+    }
+
+    /**
+     * Removes {@code expense} from the balances of this activity, without counting it as a change.
+     * @throws PersonNotInActivityException if any person is not found
+     */
+    private void unapplyExpense(Expense expense) throws PersonNotInActivityException {
         int payer = expense.getPersonId();
         int payerPos = participantIds.indexOf(payer);
         int[] involved = expense.getInvolved();
@@ -501,8 +785,8 @@ public class Activity {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(title, participantIds, expenses);
+        // the expenses are left out, as hashing them would load them
+        return Objects.hash(title, participantIds);
     }
 
     @Override
@@ -516,8 +800,31 @@ public class Activity {
         }
 
         Activity otherActivity = (Activity) other;
-        return otherActivity.getTitle().equals(getTitle())
-                && otherActivity.getParticipantIds().equals(getParticipantIds())
-                && otherActivity.getExpenses().equals(getExpenses());
+        if (!otherActivity.getTitle().equals(getTitle())
+                || !otherActivity.getParticipantIds().equals(getParticipantIds())) {
+            return false;
+        }
+        if (isLoaded() && otherActivity.isLoaded()) {
+            return otherActivity.expenses.equals(expenses);
+        }
+        // Comparing expenses that are not loaded would read them from disk, so an activity whose expenses are not
+        // loaded is only equal to another one not loaded, with the same primary key and total spending.
+        return !isLoaded() && !otherActivity.isLoaded()
+                && otherActivity.primaryKey == primaryKey
+                && otherActivity.pendingExpenses.totalSpending == pendingExpenses.totalSpending;
+    }
+
+    /**
+     * The loader of the expenses of an activity read without them, or null once they are loaded, and the total
+     * spending read in their place.
+     */
+    private static class PendingExpenses {
+        private ExpenseLoader loader;
+        private double totalSpending;
+
+        PendingExpenses(ExpenseLoader loader, double totalSpending) {
+            this.loader = loader;
+            this.totalSpending = totalSpending;
+        }
     }
 }
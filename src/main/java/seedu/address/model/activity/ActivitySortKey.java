@@ -0,0 +1,40 @@
+package seedu.address.model.activity;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * The orders that the activity list can be sorted in.
+ */
+public enum ActivitySortKey {
+    /** Alphabetically by title, ignoring case. */
+    TITLE("title"),
+    /** By total spending, the largest first. */
+    SPENDING("spending"),
+    /** By creation, the newest first. */
+    RECENT("recent"),
+    /** In the order the activities were added. */
+    ADDED("added");
+
+    private final String keyword;
+
+    ActivitySortKey(String keyword) {
+        this.keyword = keyword;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns the sort key named by {@code keyword}, ignoring case.
+     */
+    public static Optional<ActivitySortKey> fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        return Stream.of(values())
+                .filter(key -> key.keyword.equalsIgnoreCase(keyword))
+                .findFirst();
+    }
+}
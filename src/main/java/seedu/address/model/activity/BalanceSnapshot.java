@@ -0,0 +1,68 @@
+package seedu.address.model.activity;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.Triplet;
+
+/**
+ * The balances of an {@code Activity} as worked out from its expenses: the participants who have taken part in
+ * any expense, and how much each participant owes each other participant before the debts are simplified.
+ * Guarantees: immutable.
+ */
+public class BalanceSnapshot {
+
+    private final Set<Integer> activeParticipantIds;
+    // Each triplet is a debtor, a creditor and the amount owed, and only amounts that are not zero are kept
+    private final List<Triplet<Integer, Integer, Double>> debts;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public BalanceSnapshot(Set<Integer> activeParticipantIds, List<Triplet<Integer, Integer, Double>> debts) {
+        requireAllNonNull(activeParticipantIds, debts);
+        this.activeParticipantIds = Set.copyOf(activeParticipantIds);
+        this.debts = List.copyOf(debts);
+    }
+
+    public Set<Integer> getActiveParticipantIds() {
+        return activeParticipantIds;
+    }
+
+    public List<Triplet<Integer, Integer, Double>> getDebts() {
+        return debts;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof BalanceSnapshot)) {
+            return false;
+        }
+
+        BalanceSnapshot otherSnapshot = (BalanceSnapshot) other;
+        if (!activeParticipantIds.equals(otherSnapshot.activeParticipantIds)
+                || debts.size() != otherSnapshot.debts.size()) {
+            return false;
+        }
+        for (int i = 0; i < debts.size(); i++) {
+            Triplet<Integer, Integer, Double> debt = debts.get(i);
+            Triplet<Integer, Integer, Double> otherDebt = otherSnapshot.debts.get(i);
+            if (!debt.getFirst().equals(otherDebt.getFirst()) || !debt.getSecond().equals(otherDebt.getSecond())
+                    || !debt.getThird().equals(otherDebt.getThird())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(activeParticipantIds, debts.size());
+    }
+}
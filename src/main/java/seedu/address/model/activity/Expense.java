@@ -101,6 +101,16 @@ public class Expense {
         this.isDeleted = true;
     }
 
+    /**
+     * Returns a copy of this expense, which is not affected if this expense is later deleted.
+     */
+    public Expense copy() {
+        Expense copy = new Expense(personId, amount, description, isSettlement);
+        copy.involvedIds = involvedIds == null ? null : involvedIds.clone();
+        copy.isDeleted = isDeleted;
+        return copy;
+    }
+
     /**
      * Returns true if both expenses contain the same person ID, amount and description.
      */
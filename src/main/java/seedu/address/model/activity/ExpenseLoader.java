@@ -0,0 +1,18 @@
+package seedu.address.model.activity;
+
+import java.util.List;
+
+import seedu.address.model.activity.exceptions.ExpenseLoadException;
+
+/**
+ * Loads the expenses of an {@code Activity} that was read without them.
+ */
+@FunctionalInterface
+public interface ExpenseLoader {
+
+    /**
+     * Returns the expenses of the activity, in the order they were added.
+     * @throws ExpenseLoadException if the expenses cannot be loaded.
+     */
+    List<Expense> load();
+}
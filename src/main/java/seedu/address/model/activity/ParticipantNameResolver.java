@@ -0,0 +1,65 @@
+package seedu.address.model.activity;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import seedu.address.model.person.NameTokenIndex;
+import seedu.address.model.person.Person;
+
+/**
+ * Resolves name search terms to the participants of a single activity, without going through the rest of the
+ * address book. Holds the participants' lower-cased full names and a {@link NameTokenIndex} over their names.
+ * Guarantees: immutable; a snapshot of the participants at the time it was built
+ */
+public class ParticipantNameResolver {
+
+    private final List<Person> participants;
+    private final HashMap<String, List<Person>> fullNameIndex = new HashMap<>();
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+
+    /**
+     * Builds a resolver over {@code participants}, in the order given.
+     */
+    public ParticipantNameResolver(List<Person> participants) {
+        requireNonNull(participants);
+        this.participants = Collections.unmodifiableList(new ArrayList<>(participants));
+        for (Person participant : participants) {
+            fullNameIndex.computeIfAbsent(participant.getName().fullName.toLowerCase(), k -> new ArrayList<>())
+                    .add(participant);
+            nameTokenIndex.add(participant);
+        }
+    }
+
+    /**
+     * Returns the participants, in the order they were given.
+     */
+    public List<Person> getParticipants() {
+        return participants;
+    }
+
+    /**
+     * Finds the participants with exactly the name {@code searchTerm}, ignoring case, in the order they were given.
+     */
+    public List<Person> findPersonByName(String searchTerm) {
+        requireNonNull(searchTerm);
+        return Collections.unmodifiableList(fullNameIndex.getOrDefault(searchTerm.toLowerCase(), List.of()));
+    }
+
+    /**
+     * Finds the participants whose name contains all of {@code keywords}, ignoring case.
+     */
+    public List<Person> findPersonAll(List<String> keywords) {
+        return nameTokenIndex.findAll(keywords);
+    }
+
+    /**
+     * Finds the participants whose name is similar to all of {@code keywords}, closest match first.
+     */
+    public List<Person> findPersonSimilar(List<String> keywords) {
+        return nameTokenIndex.findSimilar(keywords);
+    }
+}
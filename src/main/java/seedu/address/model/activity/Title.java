@@ -3,6 +3,10 @@ package seedu.address.model.activity;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents an Activity's title in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidTitle(String)}
@@ -38,6 +42,14 @@ public class Title {
     }
 
 
+    /**
+     * Returns the key that titles are sorted by, which orders alphabetically ignoring case. Made afresh on each
+     * call; the title order of the activity book keeps the key of each activity it holds.
+     */
+    public CollationKey getCollationKey() {
+        return StringUtil.getCollationKey(title);
+    }
+
     @Override
     public String toString() {
         return title;
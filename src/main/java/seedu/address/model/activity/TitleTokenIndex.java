@@ -0,0 +1,109 @@
+package seedu.address.model.activity;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An inverted index from the case-folded words of each activity's {@code Title} to the activities whose title
+ * contains that word. The words are kept sorted, so that all words starting with a prefix are found as one
+ * contiguous range.
+ *
+ * Activities are mutable (expenses are added in place), so they are held by identity rather than by equality.
+ * Supports a minimal set of maintenance operations so that the owner can keep it in sync with its activity list.
+ */
+public class TitleTokenIndex {
+
+    private final TreeMap<String, Set<Activity>> postings = new TreeMap<>();
+
+    /**
+     * Adds {@code activity} to the posting list of every word in its title.
+     */
+    public void add(Activity activity) {
+        requireNonNull(activity);
+        for (String token : tokenize(activity.getTitle().title)) {
+            postings.computeIfAbsent(token, k -> Collections.newSetFromMap(new IdentityHashMap<>())).add(activity);
+        }
+    }
+
+    /**
+     * Removes {@code activity} from the posting list of every word in its title.
+     */
+    public void remove(Activity activity) {
+        requireNonNull(activity);
+        for (String token : tokenize(activity.getTitle().title)) {
+            Set<Activity> posting = postings.get(token);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(activity);
+            if (posting.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Removes every activity from the index.
+     */
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the activities whose title contains any of {@code keywords}, ignoring case.
+     * A full word match is required.
+     */
+    public List<Activity> findAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Activity> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            matches.addAll(postings.getOrDefault(keyword.trim().toLowerCase(), Set.of()));
+        }
+        return new ArrayList<>(matches);
+    }
+
+    /**
+     * Returns about how many activities {@link #findAny(Collection)} finds for {@code keywords}, without finding
+     * them. The estimate is never less than the number found.
+     */
+    public int estimateAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return keywords.stream()
+                .mapToInt(keyword -> postings.getOrDefault(keyword.trim().toLowerCase(), Set.of()).size())
+                .sum();
+    }
+
+    /**
+     * Returns the activities whose title contains a word starting with any of {@code prefixes}, ignoring case.
+     */
+    public List<Activity> findAnyByPrefix(Collection<String> prefixes) {
+        requireNonNull(prefixes);
+        Set<Activity> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String prefix : prefixes) {
+            String from = prefix.trim().toLowerCase();
+            if (from.isEmpty()) {
+                continue;
+            }
+            postings.subMap(from, true, from + Character.MAX_VALUE, true).values().forEach(matches::addAll);
+        }
+        return new ArrayList<>(matches);
+    }
+
+    private static Set<String> tokenize(String title) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : title.split("\\s+")) {
+            if (!word.isEmpty()) {
+                tokens.add(word.toLowerCase());
+            }
+        }
+        return tokens;
+    }
+}
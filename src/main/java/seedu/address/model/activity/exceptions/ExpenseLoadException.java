@@ -0,0 +1,14 @@
+package seedu.address.model.activity.exceptions;
+
+/**
+ * Signals that the expenses of an activity read without them could not be loaded.
+ */
+public class ExpenseLoadException extends RuntimeException {
+    public ExpenseLoadException(String message) {
+        super(message);
+    }
+
+    public ExpenseLoadException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -39,6 +43,14 @@ public class Name {
     }
 
 
+    /**
+     * Returns the key that names are sorted by, which orders alphabetically ignoring case. Made afresh on each
+     * call; the name order of the address book keeps the key of each person it holds.
+     */
+    public CollationKey getCollationKey() {
+        return StringUtil.getCollationKey(fullName);
+    }
+
     @Override
     public String toString() {
         return fullName;
@@ -15,6 +15,10 @@ public class NameContainsAllKeywordsPredicate implements Predicate<Person> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Person person) {
         return keywords.isEmpty() ? false : keywords.stream()
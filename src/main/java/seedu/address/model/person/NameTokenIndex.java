@@ -0,0 +1,212 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.BkTree;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An inverted index from the case-folded words of each person's {@code Name} to the persons whose name
+ * contains that word. Keyword searches look up and combine these posting lists instead of testing every person.
+ *
+ * Words are also kept in a {@link BkTree} so that names can be found despite small typos.
+ *
+ * Supports a minimal set of maintenance operations so that the owner can keep it in sync with its person list.
+ */
+public class NameTokenIndex {
+
+    private final HashMap<String, Set<Person>> postings = new HashMap<>();
+
+    // Every word that has been indexed since the last clear. Words whose posting list has since
+    // become empty are left in the tree and skipped during searches.
+    private final BkTree tokenTree = new BkTree();
+
+    /**
+     * Adds {@code person} to the posting list of every word in its name.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String token : tokenize(person.getName().fullName)) {
+            postings.computeIfAbsent(token, k -> {
+                tokenTree.add(k);
+                return new LinkedHashSet<>();
+            }).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the posting list of every word in its name.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String token : tokenize(person.getName().fullName)) {
+            Set<Person> posting = postings.get(token);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(person);
+            if (posting.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    public void clear() {
+        postings.clear();
+        tokenTree.clear();
+    }
+
+    /**
+     * Returns the persons whose name contains any of {@code keywords}, ignoring case.
+     * A full word match is required.
+     */
+    public List<Person> findAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matches = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            matches.addAll(getPosting(keyword));
+        }
+        return new ArrayList<>(matches);
+    }
+
+    /**
+     * Returns the persons whose name contains all of {@code keywords}, ignoring case.
+     * A full word match is required. Returns an empty list if {@code keywords} is empty.
+     */
+    public List<Person> findAll(Collection<String> keywords) {
+        requireNonNull(keywords);
+        if (keywords.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Set<Person>> required = new ArrayList<>();
+        Set<Person> smallest = null;
+        for (String keyword : keywords) {
+            Set<Person> posting = getPosting(keyword);
+            if (posting.isEmpty()) {
+                return new ArrayList<>();
+            }
+            required.add(posting);
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+
+        List<Person> matches = new ArrayList<>();
+        for (Person person : smallest) {
+            if (required.stream().allMatch(posting -> posting.contains(person))) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns about how many persons {@link #findAny(Collection)} finds for {@code keywords}, without finding them.
+     * The estimate is never less than the number found.
+     */
+    public int estimateAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return keywords.stream().mapToInt(keyword -> getPosting(keyword).size()).sum();
+    }
+
+    /**
+     * Returns about how many persons {@link #findAll(Collection)} finds for {@code keywords}, without finding them.
+     * The estimate is never less than the number found.
+     */
+    public int estimateAll(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return keywords.stream().mapToInt(keyword -> getPosting(keyword).size()).min().orElse(0);
+    }
+
+    /**
+     * Returns true if the name of {@code person} contains a word within a few edits of {@code keyword}, ignoring
+     * case, as {@link #findSimilar(Collection)} would find it for that keyword alone.
+     */
+    public static boolean hasSimilarWord(Person person, String keyword) {
+        requireAllNonNull(person, keyword);
+        String query = keyword.trim().toLowerCase();
+        if (query.isEmpty()) {
+            return false;
+        }
+        int maxEditDistance = getMaxEditDistance(query);
+        return tokenize(person.getName().fullName).stream()
+                .anyMatch(token -> StringUtil.editDistance(token, query) <= maxEditDistance);
+    }
+
+    /**
+     * Returns the persons whose name contains, for each of {@code keywords}, a word within a few edits of it,
+     * ignoring case. Longer keywords tolerate more edits. Persons are ranked by their total edit distance
+     * over all keywords, closest first. Returns an empty list if {@code keywords} is empty.
+     */
+    public List<Person> findSimilar(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Map<Person, Integer> totalDistances = null;
+        for (String keyword : keywords) {
+            String query = keyword.trim().toLowerCase();
+            if (query.isEmpty()) {
+                continue;
+            }
+
+            Map<Person, Integer> distances = new LinkedHashMap<>();
+            tokenTree.search(query, getMaxEditDistance(query)).forEach((token, distance) -> {
+                for (Person person : postings.getOrDefault(token, Set.of())) {
+                    distances.merge(person, distance, Math::min);
+                }
+            });
+
+            if (totalDistances == null) {
+                totalDistances = distances;
+            } else {
+                totalDistances.keySet().retainAll(distances.keySet());
+                totalDistances.replaceAll((person, distance) -> distance + distances.get(person));
+            }
+        }
+
+        if (totalDistances == null) {
+            return new ArrayList<>();
+        }
+        Map<Person, Integer> ranking = totalDistances;
+        List<Person> matches = new ArrayList<>(ranking.keySet());
+        matches.sort(Comparator.comparing(ranking::get));
+        return matches;
+    }
+
+    /**
+     * Returns the number of edits tolerated when looking for words similar to {@code query}.
+     */
+    private static int getMaxEditDistance(String query) {
+        if (query.length() <= 2) {
+            return 0;
+        }
+        return query.length() <= 4 ? 1 : 2;
+    }
+
+    private Set<Person> getPosting(String keyword) {
+        return postings.getOrDefault(keyword.trim().toLowerCase(), Set.of());
+    }
+
+    private static List<String> tokenize(String fullName) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : fullName.split("\\s+")) {
+            if (!word.isEmpty()) {
+                tokens.add(word.toLowerCase());
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * The orders that the contact list can be sorted in.
+ */
+public enum PersonSortKey {
+    /** Alphabetically by name, ignoring case. */
+    NAME("name"),
+    /** By the total amount owed to the contact over all activities, the contacts owing the most first. */
+    BALANCE("balance"),
+    /** In the order the contacts were added. */
+    ADDED("added");
+
+    private final String keyword;
+
+    PersonSortKey(String keyword) {
+        this.keyword = keyword;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns the sort key named by {@code keyword}, ignoring case.
+     */
+    public static Optional<PersonSortKey> fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        return Stream.of(values())
+                .filter(key -> key.keyword.equalsIgnoreCase(keyword))
+                .findFirst();
+    }
+}
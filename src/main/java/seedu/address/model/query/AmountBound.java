@@ -0,0 +1,65 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+/**
+ * Represents a strict lower or upper bound on an amount of money, such as {@code >10} or {@code <2.50}.
+ * Guarantees: immutable; is valid as declared in {@link #isValidBound(String)}
+ */
+public class AmountBound {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Amounts should be compared with > or < to a number with up to 2 decimal places, such as >10 or <2.50";
+
+    public static final String VALIDATION_REGEX = "[<>]\\d{1,9}(\\.\\d{1,2})?";
+
+    private final boolean isLowerBound;
+    private final double amount;
+
+    /**
+     * Constructs an {@code AmountBound}.
+     *
+     * @param bound A valid bound.
+     */
+    public AmountBound(String bound) {
+        requireNonNull(bound);
+        checkArgument(isValidBound(bound), MESSAGE_CONSTRAINTS);
+        isLowerBound = bound.charAt(0) == '>';
+        amount = Double.parseDouble(bound.substring(1));
+    }
+
+    /**
+     * Returns true if a given string is a valid bound.
+     */
+    public static boolean isValidBound(String test) {
+        return test.matches(VALIDATION_REGEX);
+    }
+
+    /**
+     * Returns true if {@code value} is within this bound.
+     */
+    public boolean test(double value) {
+        return isLowerBound ? value > amount : value < amount;
+    }
+
+    @Override
+    public String toString() {
+        return (isLowerBound ? ">" : "<") + amount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AmountBound // instanceof handles nulls
+                && isLowerBound == ((AmountBound) other).isLowerBound
+                && amount == ((AmountBound) other).amount); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isLowerBound, amount);
+    }
+}
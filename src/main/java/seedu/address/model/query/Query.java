@@ -0,0 +1,131 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A query over the entries of a list, made up of conditions that every matching entry must meet.
+ * Some conditions can be looked up in an index, the others are tested on each entry.
+ *
+ * The query is planned so as to test as few entries as possible: only the lookup expected to find the fewest
+ * entries is made, and the entries it finds are then tested against every other condition. The lookup is picked
+ * by the cheap estimate given with each, such as the size of a posting list. All entries are only scanned if none
+ * of the conditions can be looked up.
+ *
+ * Entries are compared by identity, as lookups return the entries held by the list itself.
+ */
+public class Query<T> {
+
+    private final Supplier<? extends Collection<T>> allEntries;
+    private final List<Lookup<T>> lookups = new ArrayList<>();
+    private final List<Predicate<? super T>> filters = new ArrayList<>();
+
+    /**
+     * Creates a query without conditions over the entries supplied by {@code allEntries}.
+     */
+    public Query(Supplier<? extends Collection<T>> allEntries) {
+        requireNonNull(allEntries);
+        this.allEntries = allEntries;
+    }
+
+    /**
+     * Adds a condition met by exactly the entries returned by {@code lookup}, which are also exactly the entries
+     * passing {@code test}. {@code estimate} gives, without making the lookup, about how many entries it returns.
+     */
+    public Query<T> withLookup(IntSupplier estimate, Supplier<? extends Collection<T>> lookup,
+            Predicate<? super T> test) {
+        requireAllNonNull(estimate, lookup, test);
+        lookups.add(new Lookup<>(estimate, lookup, test));
+        return this;
+    }
+
+    /**
+     * Adds a condition met by the entries passing {@code filter}.
+     */
+    public Query<T> withFilter(Predicate<? super T> filter) {
+        requireNonNull(filter);
+        filters.add(filter);
+        return this;
+    }
+
+    /**
+     * Returns true if the query has no conditions.
+     */
+    public boolean isEmpty() {
+        return lookups.isEmpty() && filters.isEmpty();
+    }
+
+    /**
+     * Returns true if some condition of the query can be looked up, so that not every entry is tested.
+     */
+    public boolean hasLookups() {
+        return !lookups.isEmpty();
+    }
+
+    /**
+     * Returns the entries meeting every condition. Returns no entries if the query has no conditions.
+     */
+    public Set<T> execute() {
+        Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (isEmpty()) {
+            return matches;
+        }
+
+        Collection<T> candidates;
+        List<Predicate<? super T>> tests = new ArrayList<>();
+        if (lookups.isEmpty()) {
+            candidates = allEntries.get();
+        } else {
+            Lookup<T> mostSelective = lookups.get(0);
+            if (lookups.size() > 1) {
+                int smallestEstimate = mostSelective.estimate.getAsInt();
+                for (Lookup<T> lookup : lookups.subList(1, lookups.size())) {
+                    int estimate = lookup.estimate.getAsInt();
+                    if (estimate < smallestEstimate) {
+                        mostSelective = lookup;
+                        smallestEstimate = estimate;
+                    }
+                }
+            }
+            candidates = mostSelective.lookup.get();
+            for (Lookup<T> lookup : lookups) {
+                if (lookup != mostSelective) {
+                    tests.add(lookup.test);
+                }
+            }
+        }
+        tests.addAll(filters);
+
+        for (T candidate : candidates) {
+            if (tests.stream().allMatch(test -> test.test(candidate))) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * A condition that can be looked up.
+     */
+    private static class Lookup<T> {
+        private final IntSupplier estimate;
+        private final Supplier<? extends Collection<T>> lookup;
+        private final Predicate<? super T> test;
+
+        Lookup(IntSupplier estimate, Supplier<? extends Collection<T>> lookup, Predicate<? super T> test) {
+            this.estimate = estimate;
+            this.lookup = lookup;
+            this.test = test;
+        }
+    }
+}
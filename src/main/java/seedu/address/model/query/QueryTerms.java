@@ -0,0 +1,85 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+/**
+ * The structured terms of a search, besides plain keywords and tags.
+ * Every term must hold for an entry to match.
+ * Guarantees: immutable; terms are not null
+ */
+public class QueryTerms {
+
+    public static final QueryTerms EMPTY = new QueryTerms(List.of(), List.of(), List.of(), List.of());
+
+    private final List<String> nameWords;
+    private final List<String> activityTitles;
+    private final List<AmountBound> owedBounds;
+    private final List<AmountBound> spentBounds;
+
+    /**
+     * @param nameWords words that a contact's name must all contain
+     * @param activityTitles titles of activities that a contact must be in, one of each
+     * @param owedBounds bounds on the total amount that a contact owes others
+     * @param spentBounds bounds on the total spending of an activity
+     */
+    public QueryTerms(List<String> nameWords, List<String> activityTitles, List<AmountBound> owedBounds,
+            List<AmountBound> spentBounds) {
+        requireAllNonNull(nameWords, activityTitles, owedBounds, spentBounds);
+        this.nameWords = List.copyOf(nameWords);
+        this.activityTitles = List.copyOf(activityTitles);
+        this.owedBounds = List.copyOf(owedBounds);
+        this.spentBounds = List.copyOf(spentBounds);
+    }
+
+    public List<String> getNameWords() {
+        return nameWords;
+    }
+
+    public List<String> getActivityTitles() {
+        return activityTitles;
+    }
+
+    public List<AmountBound> getOwedBounds() {
+        return owedBounds;
+    }
+
+    public List<AmountBound> getSpentBounds() {
+        return spentBounds;
+    }
+
+    /**
+     * Returns true if there are terms that only apply to contacts.
+     */
+    public boolean hasContactTerms() {
+        return !nameWords.isEmpty() || !activityTitles.isEmpty() || !owedBounds.isEmpty();
+    }
+
+    /**
+     * Returns true if there are terms that only apply to activities.
+     */
+    public boolean hasActivityTerms() {
+        return !spentBounds.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof QueryTerms // instanceof handles nulls
+                && nameWords.equals(((QueryTerms) other).nameWords)
+                && activityTitles.equals(((QueryTerms) other).activityTitles)
+                && owedBounds.equals(((QueryTerms) other).owedBounds)
+                && spentBounds.equals(((QueryTerms) other).spentBounds));
+    }
+
+    @Override
+    public int hashCode() {
+        return List.of(nameWords, activityTitles, owedBounds, spentBounds).hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "name: " + nameWords + " in: " + activityTitles + " owes: " + owedBounds + " spent: " + spentBounds;
+    }
+}
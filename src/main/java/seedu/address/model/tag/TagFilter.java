@@ -0,0 +1,75 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Represents a combination of tags to filter contacts by.
+ * A contact passes the filter if it has at least one tag from every group in {@code anyOfGroups}
+ * (AND of ORs) and none of the tags in {@code noneOf} (NOT).
+ * Guarantees: immutable; groups and tags are not null
+ */
+public class TagFilter {
+
+    public static final TagFilter EMPTY = new TagFilter(List.of(), Set.of());
+
+    private final List<Set<Tag>> anyOfGroups;
+    private final Set<Tag> noneOf;
+
+    /**
+     * Every group and tag must be present and not null.
+     */
+    public TagFilter(List<Set<Tag>> anyOfGroups, Set<Tag> noneOf) {
+        requireAllNonNull(anyOfGroups, noneOf);
+        this.anyOfGroups = anyOfGroups.stream()
+                .map(Set::copyOf)
+                .collect(Collectors.toUnmodifiableList());
+        this.noneOf = Set.copyOf(noneOf);
+    }
+
+    public List<Set<Tag>> getAnyOfGroups() {
+        return anyOfGroups;
+    }
+
+    public Set<Tag> getNoneOf() {
+        return noneOf;
+    }
+
+    /**
+     * Returns true if a contact with {@code tags} passes this filter.
+     */
+    public boolean test(Set<Tag> tags) {
+        requireNonNull(tags);
+        return anyOfGroups.stream().allMatch(group -> group.stream().anyMatch(tags::contains))
+                && noneOf.stream().noneMatch(tags::contains);
+    }
+
+    /**
+     * Returns true if this filter lets every contact through.
+     */
+    public boolean isEmpty() {
+        return anyOfGroups.isEmpty() && noneOf.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagFilter // instanceof handles nulls
+                && anyOfGroups.equals(((TagFilter) other).anyOfGroups)
+                && noneOf.equals(((TagFilter) other).noneOf)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return anyOfGroups.hashCode() * 31 + noneOf.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "all of " + anyOfGroups + " and none of " + noneOf;
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An index from each {@code Tag} to the set of persons having it. Each set is a bitmap over dense ordinals given
+ * to the indexed persons, so that tag combinations are evaluated with bitwise operations instead of testing every
+ * person, and bitmaps stay as small as the number of persons however large their primary keys grow.
+ *
+ * Supports a minimal set of maintenance operations so that the owner can keep it in sync with its person list.
+ */
+public class TagIndex {
+
+    private final HashMap<Tag, BitSet> postings = new HashMap<>();
+
+    // The ordinal of each indexed person, by primary key, and the primary key of the person at each ordinal.
+    // Ordinals freed by removed persons are given again to the next persons added.
+    private final Map<Integer, Integer> ordinals = new HashMap<>();
+    private final List<Integer> primaryKeys = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+
+    // Ordinals of every indexed person, used as the starting point of filters without an OR group.
+    private final BitSet allOrdinals = new BitSet();
+
+    /**
+     * Adds {@code person} to the bitmap of every one of its tags.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        int ordinal = ordinals.computeIfAbsent(person.getPrimaryKey(), this::assignOrdinal);
+        allOrdinals.set(ordinal);
+        for (Tag tag : person.getTags()) {
+            postings.computeIfAbsent(tag, k -> new BitSet()).set(ordinal);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the bitmap of every one of its tags.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer ordinal = ordinals.remove(person.getPrimaryKey());
+        if (ordinal == null) {
+            return;
+        }
+        allOrdinals.clear(ordinal);
+        freeOrdinals.push(ordinal);
+        for (Tag tag : person.getTags()) {
+            BitSet posting = postings.get(tag);
+            if (posting == null) {
+                continue;
+            }
+            posting.clear(ordinal);
+            if (posting.isEmpty()) {
+                postings.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    public void clear() {
+        postings.clear();
+        ordinals.clear();
+        primaryKeys.clear();
+        freeOrdinals.clear();
+        allOrdinals.clear();
+    }
+
+    /**
+     * Returns the primary keys of the persons that pass {@code filter}, in ascending order.
+     */
+    public int[] filter(TagFilter filter) {
+        requireNonNull(filter);
+        BitSet result = (BitSet) allOrdinals.clone();
+        for (Tag excluded : filter.getNoneOf()) {
+            result.andNot(getPosting(excluded));
+        }
+        for (Set<Tag> group : filter.getAnyOfGroups()) {
+            BitSet anyOfGroup = new BitSet();
+            for (Tag tag : group) {
+                anyOfGroup.or(getPosting(tag));
+            }
+            result.and(anyOfGroup);
+        }
+
+        int[] matches = result.stream().map(primaryKeys::get).toArray();
+        Arrays.sort(matches);
+        return matches;
+    }
+
+    /**
+     * Returns about how many persons pass {@code filter}, without finding them. The estimate is never less than
+     * the number that pass.
+     */
+    public int estimate(TagFilter filter) {
+        requireNonNull(filter);
+        int estimate = ordinals.size();
+        for (Set<Tag> group : filter.getAnyOfGroups()) {
+            estimate = Math.min(estimate, group.stream().mapToInt(tag -> getPosting(tag).cardinality()).sum());
+        }
+        return estimate;
+    }
+
+    private int assignOrdinal(int primaryKey) {
+        if (!freeOrdinals.isEmpty()) {
+            int ordinal = freeOrdinals.pop();
+            primaryKeys.set(ordinal, primaryKey);
+            return ordinal;
+        }
+        primaryKeys.add(primaryKey);
+        return primaryKeys.size() - 1;
+    }
+
+    private BitSet getPosting(Tag tag) {
+        return postings.getOrDefault(tag, new BitSet());
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ActivityBook;
+import seedu.address.model.ReadOnlyActivityBook;
 
 /**
  * Represents a storage for {@link seedu.address.model.ActivityBook}.
@@ -30,5 +31,13 @@ public interface ActivityBookStorage {
     * @param activityBook cannot be null.
     * @throws IOException if there was any problem writing to the file.
     */
-    void saveActivityBook(ActivityBook activityBook) throws IOException;
+    void saveActivityBook(ReadOnlyActivityBook activityBook) throws IOException;
+
+    /**
+    * Rewrites the stored activity book in full, if it is stored as changes to an earlier copy.
+    * Does nothing by default.
+    * @throws IOException if there was any problem writing to the file.
+    */
+    default void compactActivityBook() throws IOException {
+    }
 }
@@ -40,4 +40,12 @@ public interface AddressBookStorage {
     * @see #saveAddressBook(ReadOnlyAddressBook)
     */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
+
+    /**
+    * Rewrites the stored address book in full, if it is stored as changes to an earlier copy.
+    * Does nothing by default.
+    * @throws IOException if there was any problem writing to the file.
+    */
+    default void compactAddressBook() throws IOException {
+    }
 }
@@ -0,0 +1,290 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ActivityBook;
+import seedu.address.model.ReadOnlyActivityBook;
+import seedu.address.model.activity.Activity;
+import seedu.address.model.activity.Expense;
+
+/**
+ * A class to access ActivityBook data stored as a compact binary file on the hard disk.
+ *
+ * The file starts with a header, followed by a dictionary of the titles and expense descriptions, each of which is
+ * written once and referred to by its position in the dictionary. The activities follow. IDs and counts are written
+ * as varints, amounts in whole cents as varints of the number of cents, and the persons involved in an expense as a
+ * bitset over the participants of its activity.
+ */
+public class BinaryActivityBookStorage implements ActivityBookStorage {
+
+    /** The first four bytes of every binary activity book file, "SWAB". */
+    static final int MAGIC = 0x53574142;
+    static final int FORMAT_VERSION = 1;
+
+    // Flags of each expense
+    private static final int SETTLEMENT = 1;
+    private static final int DELETED = 1 << 1;
+    private static final int AMOUNT_IN_CENTS = 1 << 2;
+    private static final int INVOLVED_ALL = 1 << 3;
+    private static final int INVOLVED_BITSET = 1 << 4;
+    private static final int INVOLVED_LIST = 1 << 5;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryActivityBookStorage.class);
+
+    private Path filePath;
+    private final boolean isCompressed;
+
+    public BinaryActivityBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath}, which is compressed if {@code isCompressed} is true. The
+     * file is read whether it is compressed or not.
+     */
+    public BinaryActivityBookStorage(Path filePath, boolean isCompressed) {
+        this.filePath = filePath;
+        this.isCompressed = isCompressed;
+    }
+
+    @Override
+    public Path getActivityBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ActivityBook> readActivityBook() throws DataConversionException {
+        return readActivityBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readActivityBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ActivityBook> readActivityBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (BinaryDataInput in = new BinaryDataInput(FileUtil.openInputStream(filePath))) {
+            in.readHeader(MAGIC, FORMAT_VERSION);
+            List<String> dictionary = new ArrayList<>();
+            for (int i = in.readCount(); i > 0; i--) {
+                dictionary.add(in.readString());
+            }
+
+            ActivityBook activityBook = new ActivityBook();
+            ParallelConverter<JsonAdaptedActivity, Activity> converter = new ParallelConverter<>(
+                    JsonAdaptedActivity::toModelType, activity -> JsonActivityBook.addActivity(activityBook, activity),
+                    "activity");
+            for (int i = in.readCount(); i > 0; i--) {
+                converter.handle(readActivity(in, dictionary));
+            }
+            converter.finish();
+            return Optional.of(activityBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads an activity, which is checked against the constraints of the model in the same way as one read from a
+     * JSON file.
+     */
+    private static JsonAdaptedActivity readActivity(BinaryDataInput in, List<String> dictionary)
+            throws IOException {
+        int primaryKey = in.readVarInt();
+        String title = readReference(in, dictionary);
+        ArrayList<Integer> participants = new ArrayList<>();
+        for (int i = in.readCount(); i > 0; i--) {
+            participants.add(in.readVarInt());
+        }
+
+        List<JsonAdaptedExpense> expenses = new ArrayList<>();
+        for (int i = in.readCount(); i > 0; i--) {
+            int flags = in.readUnsignedByte();
+            int personId = in.readVarInt();
+            double amount = (flags & AMOUNT_IN_CENTS) != 0 ? in.readVarLong() / 100.0 : in.readDouble();
+            String description = readReference(in, dictionary);
+            int[] involvedIds = readInvolved(in, flags, participants);
+            expenses.add(new JsonAdaptedExpense(personId, amount, description,
+                    (flags & SETTLEMENT) != 0, (flags & DELETED) != 0, involvedIds));
+        }
+        return new JsonAdaptedActivity(primaryKey, title, participants, expenses);
+    }
+
+    private static int[] readInvolved(BinaryDataInput in, int flags, List<Integer> participants) throws IOException {
+        if ((flags & INVOLVED_ALL) != 0) {
+            return participants.stream().mapToInt(Integer::intValue).toArray();
+        } else if ((flags & INVOLVED_BITSET) != 0) {
+            byte[] bitset = new byte[(participants.size() + 7) / 8];
+            in.readFully(bitset);
+            List<Integer> involved = new ArrayList<>();
+            for (int i = 0; i < participants.size(); i++) {
+                if ((bitset[i / 8] & (1 << (i % 8))) != 0) {
+                    involved.add(participants.get(i));
+                }
+            }
+            return involved.stream().mapToInt(Integer::intValue).toArray();
+        } else if ((flags & INVOLVED_LIST) != 0) {
+            List<Integer> involved = new ArrayList<>();
+            for (int i = in.readCount(); i > 0; i--) {
+                involved.add(in.readVarInt());
+            }
+            return involved.stream().mapToInt(Integer::intValue).toArray();
+        } else {
+            return null;
+        }
+    }
+
+    private static String readReference(BinaryDataInput in, List<String> dictionary) throws IOException {
+        int index = in.readCount();
+        if (index >= dictionary.size()) {
+            throw new IOException("Reference to missing string " + index);
+        }
+        return dictionary.get(index);
+    }
+
+    @Override
+    public void saveActivityBook(ReadOnlyActivityBook activityBook) throws IOException {
+        saveActivityBook(activityBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveActivityBook(ActivityBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveActivityBook(ReadOnlyActivityBook activityBook, Path filePath) throws IOException {
+        requireNonNull(activityBook);
+        requireNonNull(filePath);
+
+        List<Activity> activities = activityBook.getActivityList();
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Activity activity : activities) {
+            dictionary.putIfAbsent(activity.getTitle().title, dictionary.size());
+            for (Expense expense : activity.getExpenses()) {
+                dictionary.putIfAbsent(expense.getDescription(), dictionary.size());
+            }
+        }
+
+        FileUtil.createIfMissing(filePath);
+        try (BinaryDataOutput out = new BinaryDataOutput(FileUtil.openOutputStream(filePath, isCompressed))) {
+            out.writeHeader(MAGIC, FORMAT_VERSION);
+            out.writeVarInt(dictionary.size());
+            for (String string : dictionary.keySet()) {
+                out.writeString(string);
+            }
+
+            out.writeVarInt(activities.size());
+            for (Activity activity : activities) {
+                writeActivity(out, activity, dictionary);
+            }
+        }
+    }
+
+    private static void writeActivity(BinaryDataOutput out, Activity activity, Map<String, Integer> dictionary)
+            throws IOException {
+        out.writeVarInt(activity.getPrimaryKey());
+        out.writeVarInt(dictionary.get(activity.getTitle().title));
+        List<Integer> participants = activity.getParticipantIds();
+        out.writeVarInt(participants.size());
+        Map<Integer, Integer> participantPositions = new HashMap<>();
+        for (int i = 0; i < participants.size(); i++) {
+            out.writeVarInt(participants.get(i));
+            participantPositions.putIfAbsent(participants.get(i), i);
+        }
+
+        List<Expense> expenses = activity.getExpenses();
+        out.writeVarInt(expenses.size());
+        for (Expense expense : expenses) {
+            double amount = expense.getAmount().value;
+            long cents = Math.round(amount * 100);
+            int[] involved = expense.getInvolved();
+            byte[] bitset = null;
+
+            int flags = (expense.isSettlement() ? SETTLEMENT : 0)
+                    | (expense.isDeleted() ? DELETED : 0)
+                    // settlements can be any fraction of a cent, and are kept exactly
+                    | (cents / 100.0 == amount ? AMOUNT_IN_CENTS : 0);
+            if (involved != null && isAll(involved, participants)) {
+                flags |= INVOLVED_ALL;
+            } else if (involved != null) {
+                bitset = toBitset(involved, participants, participantPositions);
+                flags |= bitset != null ? INVOLVED_BITSET : INVOLVED_LIST;
+            }
+
+            out.writeByte(flags);
+            out.writeVarInt(expense.getPersonId());
+            if ((flags & AMOUNT_IN_CENTS) != 0) {
+                out.writeVarLong(cents);
+            } else {
+                out.writeDouble(amount);
+            }
+            out.writeVarInt(dictionary.get(expense.getDescription()));
+            if ((flags & INVOLVED_BITSET) != 0) {
+                out.write(bitset);
+            } else if ((flags & INVOLVED_LIST) != 0) {
+                out.writeVarInt(involved.length);
+                for (int id : involved) {
+                    out.writeVarInt(id);
+                }
+            }
+        }
+    }
+
+    private static boolean isAll(int[] involved, List<Integer> participants) {
+        if (involved.length != participants.size()) {
+            return false;
+        }
+        for (int i = 0; i < involved.length; i++) {
+            if (involved[i] != participants.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the bitset over {@code participants} of the persons in {@code involved}, or null if they cannot be read
+     * back the same from a bitset, as they are not all participants in order.
+     */
+    private static byte[] toBitset(int[] involved, List<Integer> participants,
+            Map<Integer, Integer> participantPositions) {
+        byte[] bitset = new byte[(participants.size() + 7) / 8];
+        int lastPosition = -1;
+        for (int id : involved) {
+            Integer position = participantPositions.get(id);
+            if (position == null || position <= lastPosition) {
+                return null;
+            }
+            bitset[position / 8] |= 1 << (position % 8);
+            lastPosition = position;
+        }
+        return bitset;
+    }
+}
@@ -0,0 +1,172 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ *
+ * The file starts with a header, followed by a dictionary of the tag names, each of which is written once and
+ * referred to by its position in the dictionary. The persons follow, with their primary keys and counts written as
+ * varints.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The first four bytes of every binary address book file, "SWPB". */
+    static final int MAGIC = 0x53575042;
+    static final int FORMAT_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+    private final boolean isCompressed;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath}, which is compressed if {@code isCompressed} is true. The
+     * file is read whether it is compressed or not.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isCompressed) {
+        this.filePath = filePath;
+        this.isCompressed = isCompressed;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (BinaryDataInput in = new BinaryDataInput(FileUtil.openInputStream(filePath))) {
+            in.readHeader(MAGIC, FORMAT_VERSION);
+            List<String> tagNames = new ArrayList<>();
+            for (int i = in.readCount(); i > 0; i--) {
+                tagNames.add(in.readString());
+            }
+
+            AddressBook addressBook = new AddressBook();
+            ParallelConverter<JsonAdaptedPerson, Person> converter = new ParallelConverter<>(
+                    JsonAdaptedPerson::toModelType,
+                    person -> JsonSerializableAddressBook.addPerson(addressBook, person), "person");
+            for (int i = in.readCount(); i > 0; i--) {
+                converter.handle(readPerson(in, tagNames));
+            }
+            converter.finish();
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads a person, which is checked against the constraints of the model in the same way as one read from a
+     * JSON file.
+     */
+    private static JsonAdaptedPerson readPerson(BinaryDataInput in, List<String> tagNames) throws IOException {
+        int primaryKey = in.readVarInt();
+        String name = in.readString();
+        String phone = in.readString();
+        String email = in.readBoolean() ? in.readString() : null;
+        String address = in.readString();
+        List<JsonAdaptedTag> tagged = new ArrayList<>();
+        for (int i = in.readCount(); i > 0; i--) {
+            int index = in.readCount();
+            if (index >= tagNames.size()) {
+                throw new IOException("Reference to missing tag " + index);
+            }
+            tagged.add(new JsonAdaptedTag(tagNames.get(index)));
+        }
+        return new JsonAdaptedPerson(primaryKey, name, phone, email, address, tagged);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> tagNames = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                tagNames.putIfAbsent(tag.tagName, tagNames.size());
+            }
+        }
+
+        FileUtil.createIfMissing(filePath);
+        try (BinaryDataOutput out = new BinaryDataOutput(FileUtil.openOutputStream(filePath, isCompressed))) {
+            out.writeHeader(MAGIC, FORMAT_VERSION);
+            out.writeVarInt(tagNames.size());
+            for (String tagName : tagNames.keySet()) {
+                out.writeString(tagName);
+            }
+
+            out.writeVarInt(persons.size());
+            for (Person person : persons) {
+                out.writeVarInt(person.getPrimaryKey());
+                out.writeString(person.getName().fullName);
+                out.writeString(person.getPhone().value);
+                out.writeBoolean(person.getEmail().value.isPresent());
+                if (person.getEmail().value.isPresent()) {
+                    out.writeString(person.getEmail().value.get());
+                }
+                out.writeString(person.getAddress().value);
+                out.writeVarInt(person.getTags().size());
+                for (Tag tag : person.getTags()) {
+                    out.writeVarInt(tagNames.get(tag.tagName));
+                }
+            }
+        }
+    }
+}
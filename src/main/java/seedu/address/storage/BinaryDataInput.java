@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the primitives written by {@link BinaryDataOutput}.
+ */
+class BinaryDataInput extends DataInputStream {
+
+    BinaryDataInput(InputStream in) {
+        super(in);
+    }
+
+    /**
+     * Reads the header written by {@link BinaryDataOutput#writeHeader(int, int)}.
+     * @throws IOException if the file is not of the kind identified by {@code magic}, or if its format is newer than
+     *     {@code formatVersion}.
+     */
+    void readHeader(int magic, int formatVersion) throws IOException {
+        if (readInt() != magic) {
+            throw new IOException("Not a data file of the expected kind");
+        }
+        int fileVersion = readVarInt();
+        if (fileVersion < 1 || fileVersion > formatVersion) {
+            throw new IOException("Unsupported format version " + fileVersion);
+        }
+    }
+
+    int readVarInt() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    /**
+     * Reads a count of following items, which cannot be negative.
+     */
+    int readCount() throws IOException {
+        int count = readVarInt();
+        if (count < 0) {
+            throw new IOException("Malformed count " + count);
+        }
+        return count;
+    }
+
+    String readString() throws IOException {
+        int length = readCount();
+        // read in chunks, so that a corrupted length cannot make it allocate more than the rest of the file
+        byte[] bytes = readNBytes(length);
+        if (bytes.length < length) {
+            throw new EOFException();
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
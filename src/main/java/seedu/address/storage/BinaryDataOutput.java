@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes the primitives of the binary data files. Integers are written as varints, which take one byte for each
+ * 7 bits of the value, so that the small IDs and counts the files are mostly made of take a byte or two each.
+ */
+class BinaryDataOutput extends DataOutputStream {
+
+    BinaryDataOutput(OutputStream out) {
+        super(out);
+    }
+
+    /**
+     * Writes the header identifying the kind of file and the version of its format.
+     */
+    void writeHeader(int magic, int formatVersion) throws IOException {
+        writeInt(magic);
+        writeVarInt(formatVersion);
+    }
+
+    /**
+     * Writes {@code value} as a varint. Negative values take 5 bytes.
+     */
+    void writeVarInt(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        writeByte(value);
+    }
+
+    /**
+     * Writes {@code value} as a varint. Negative values take 10 bytes.
+     */
+    void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        writeByte((int) value);
+    }
+
+    /**
+     * Writes {@code value} as its length in bytes followed by its UTF-8 encoding.
+     */
+    void writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        write(bytes);
+    }
+}
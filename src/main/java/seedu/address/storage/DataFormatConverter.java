@@ -0,0 +1,137 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ActivityBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts the address book and activity book between the formats they can be stored in, so that the format can
+ * be switched in the user preferences in any direction without losing data.
+ *
+ * A book is converted whenever its file in a format not in use is newer than its file in the format in use, which
+ * is the case right after the format is switched.
+ */
+public class DataFormatConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(DataFormatConverter.class);
+
+    /**
+     * Returns the path of the binary file kept in place of the JSON file at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        return withExtension(jsonFilePath, ".bin");
+    }
+
+    /**
+     * Returns the path of the index file of the expense store kept in place of the JSON file at
+     * {@code jsonFilePath}.
+     */
+    public static Path getMappedFilePath(Path jsonFilePath) {
+        return withExtension(jsonFilePath, ".ledger");
+    }
+
+    /**
+     * Returns the path of the manifest of the activity files kept in place of the JSON file at
+     * {@code jsonFilePath}. The activity files are kept in a directory of their own next to it.
+     */
+    public static Path getShardedFilePath(Path jsonFilePath) {
+        return withExtension(jsonFilePath, ".manifest.json");
+    }
+
+    /**
+     * Returns the path of the database file kept in place of the JSON file at {@code jsonFilePath}.
+     */
+    public static Path getSqlFilePath(Path jsonFilePath) {
+        return withExtension(jsonFilePath, SqlDatabase.FILE_EXTENSION);
+    }
+
+    /**
+     * Saves the address book in the newest of {@code sources} to {@code target}, if its file is newer than the file
+     * of {@code target}.
+     * @return true if the address book was converted.
+     */
+    public static boolean convertAddressBook(List<? extends AddressBookStorage> sources, AddressBookStorage target)
+            throws DataConversionException, IOException {
+        requireNonNull(sources);
+        requireNonNull(target);
+        Optional<? extends AddressBookStorage> source =
+                findNewest(sources, AddressBookStorage::getAddressBookFilePath, target.getAddressBookFilePath());
+        if (source.isEmpty()) {
+            return false;
+        }
+
+        Optional<ReadOnlyAddressBook> addressBook = source.get().readAddressBook();
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+        logger.info("Converting " + source.get().getAddressBookFilePath() + " to " + target.getAddressBookFilePath());
+        target.saveAddressBook(addressBook.get());
+        return true;
+    }
+
+    /**
+     * Saves the activity book in the newest of {@code sources} to {@code target}, if its file is newer than the file
+     * of {@code target}.
+     * @return true if the activity book was converted.
+     */
+    public static boolean convertActivityBook(List<? extends ActivityBookStorage> sources, ActivityBookStorage target)
+            throws DataConversionException, IOException {
+        requireNonNull(sources);
+        requireNonNull(target);
+        Optional<? extends ActivityBookStorage> source =
+                findNewest(sources, ActivityBookStorage::getActivityBookFilePath, target.getActivityBookFilePath());
+        if (source.isEmpty()) {
+            return false;
+        }
+
+        Optional<ActivityBook> activityBook = source.get().readActivityBook();
+        if (activityBook.isEmpty()) {
+            return false;
+        }
+        logger.info("Converting " + source.get().getActivityBookFilePath() + " to "
+                + target.getActivityBookFilePath());
+        target.saveActivityBook(activityBook.get());
+        return true;
+    }
+
+    /**
+     * Returns the storage in {@code storages} with the newest file, if that file is newer than
+     * {@code targetFilePath}.
+     */
+    private static <S> Optional<S> findNewest(List<? extends S> storages, Function<S, Path> getFilePath,
+            Path targetFilePath) throws IOException {
+        S newest = null;
+        FileTime newestTime = Files.exists(targetFilePath) ? Files.getLastModifiedTime(targetFilePath) : null;
+        for (S storage : storages) {
+            Path filePath = getFilePath.apply(storage);
+            if (!Files.exists(filePath)) {
+                continue;
+            }
+            FileTime time = Files.getLastModifiedTime(filePath);
+            if (newestTime == null || time.compareTo(newestTime) > 0) {
+                newest = storage;
+                newestTime = time;
+            }
+        }
+        return Optional.ofNullable(newest);
+    }
+
+    private static Path withExtension(Path jsonFilePath, String extension) {
+        requireNonNull(jsonFilePath);
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+        return jsonFilePath.resolveSibling(baseName + extension);
+    }
+}
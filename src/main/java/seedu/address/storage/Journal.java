@@ -0,0 +1,125 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * An append-only file of changes made to a book since it was last saved in full, one JSON object per line.
+ * Each change is of type {@code E}.
+ */
+class Journal<E> {
+
+    private static final Logger logger = LogsCenter.getLogger(Journal.class);
+
+    private final Path filePath;
+    private final Class<E> changeClass;
+
+    /**
+     * Creates a journal kept next to {@code bookFilePath}, the file that the book is saved to in full.
+     */
+    Journal(Path bookFilePath, Class<E> changeClass) {
+        requireNonNull(bookFilePath);
+        requireNonNull(changeClass);
+        this.filePath = bookFilePath.resolveSibling(bookFilePath.getFileName() + ".journal");
+        this.changeClass = changeClass;
+    }
+
+    Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the size of the journal in bytes, or 0 if there is no journal.
+     */
+    long size() throws IOException {
+        return Files.exists(filePath) ? Files.size(filePath) : 0;
+    }
+
+    /**
+     * Returns the changes in the journal, oldest first, or no changes if there is no journal.
+     * A last line that cannot be read is ignored, as it was being written when the app stopped.
+     * @throws DataConversionException if any other line cannot be read
+     */
+    List<E> read() throws DataConversionException {
+        List<E> changes = new ArrayList<>();
+        if (!Files.exists(filePath)) {
+            return changes;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        }
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+            try {
+                changes.add(JsonUtil.fromJsonString(lines.get(i), changeClass));
+            } catch (IOException e) {
+                if (i < lines.size() - 1) {
+                    throw new DataConversionException(e);
+                }
+                logger.warning("Ignoring incomplete last change in " + filePath + ": " + e);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Appends {@code changes} to the journal, creating it if it is missing.
+     */
+    void append(List<E> changes) throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        for (E change : changes) {
+            lines.append(JsonUtil.toCompactJsonString(change)).append('\n');
+        }
+        FileUtil.createParentDirsOfFile(filePath);
+        Files.write(filePath, lines.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Removes all changes from the journal.
+     */
+    void clear() throws IOException {
+        Files.deleteIfExists(filePath);
+    }
+
+    /**
+     * Moves the entries of {@code entries} with the keys in {@code keys} to the front, in the order of {@code keys}.
+     * Keys without an entry are skipped, and the entries without a key keep their order after them, so that a
+     * journal left behind by an interrupted compaction can still be replayed over the newer full copy.
+     */
+    static <V> void reorder(LinkedHashMap<Integer, V> entries, List<Integer> keys) {
+        LinkedHashMap<Integer, V> reordered = new LinkedHashMap<>();
+        for (Integer key : keys) {
+            V value = entries.get(key);
+            if (value != null) {
+                reordered.put(key, value);
+            }
+        }
+        entries.forEach(reordered::putIfAbsent);
+        entries.clear();
+        entries.putAll(reordered);
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ActivityBook;
+import seedu.address.model.ReadOnlyActivityBook;
+import seedu.address.model.activity.Activity;
+
+/**
+ * Stores the activity book as a full copy kept by another {@code ActivityBookStorage}, followed by a
+ * {@link Journal} of the activities added, changed or removed since. Saving only appends the activities changed
+ * since the last save, in full. The full copy is rewritten, and the journal cleared, once the journal grows past
+ * half the size of the full copy, or when the storage is compacted.
+ *
+ * Activities change in place, so the activities that changed are found by their modification stamps.
+ */
+public class JournaledActivityBookStorage implements ActivityBookStorage {
+
+    private final ActivityBookStorage snapshotStorage;
+    private final Journal<JsonAdaptedActivityChange> journal;
+
+    // The activity book as last read or saved, and the modification stamps its activities had then, by primary
+    // key in list order. Both are null until the activity book has been read or saved.
+    private ReadOnlyActivityBook savedActivityBook;
+    private LinkedHashMap<Integer, Long> savedStamps;
+    private long snapshotSize;
+
+    /**
+     * Creates a storage keeping the full copy of the activity book in {@code snapshotStorage}, and the journal
+     * next to it.
+     */
+    public JournaledActivityBookStorage(ActivityBookStorage snapshotStorage) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.journal = new Journal<>(snapshotStorage.getActivityBookFilePath(), JsonAdaptedActivityChange.class);
+    }
+
+    @Override
+    public Path getActivityBookFilePath() {
+        return snapshotStorage.getActivityBookFilePath();
+    }
+
+    /**
+     * Reads the full copy of the activity book and replays the journal over it.
+     */
+    @Override
+    public Optional<ActivityBook> readActivityBook() throws DataConversionException, IOException {
+        Optional<ActivityBook> snapshot = snapshotStorage.readActivityBook();
+        List<JsonAdaptedActivityChange> changes = journal.read();
+        if (snapshot.isEmpty() && changes.isEmpty()) {
+            return Optional.empty();
+        }
+
+        LinkedHashMap<Integer, Activity> activities = new LinkedHashMap<>();
+        snapshot.ifPresent(book -> book.getActivityList()
+                .forEach(activity -> activities.put(activity.getPrimaryKey(), activity)));
+        try {
+            for (JsonAdaptedActivityChange change : changes) {
+                change.applyTo(activities);
+            }
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+        ActivityBook activityBook = new ActivityBook();
+        activityBook.setActivities(new ArrayList<>(activities.values()));
+
+        savedActivityBook = activityBook;
+        savedStamps = toStamps(activityBook);
+        snapshotSize = getSnapshotSize();
+        return Optional.of(activityBook);
+    }
+
+    /**
+     * Appends the activities changed in {@code activityBook} since it was last read or saved to the journal.
+     * Saves it in full instead if it has not been read or saved before, or if the journal has grown too large.
+     */
+    @Override
+    public void saveActivityBook(ReadOnlyActivityBook activityBook) throws IOException {
+        requireNonNull(activityBook);
+        if (savedStamps == null) {
+            // the journal, if any, is not known to be a record of changes up to this activity book
+            journal.clear();
+            saveSnapshot(activityBook);
+            return;
+        }
+
+        appendChanges(activityBook);
+        if (journal.size() > Math.max(JournaledAddressBookStorage.MIN_COMPACTION_SIZE, snapshotSize / 2)) {
+            saveSnapshot(activityBook);
+        }
+    }
+
+    /**
+     * Appends the activities changed in {@code activityBook} since it was last read or saved to the journal.
+     */
+    private void appendChanges(ReadOnlyActivityBook activityBook) throws IOException {
+        LinkedHashMap<Integer, Long> stamps = toStamps(activityBook);
+        List<JsonAdaptedActivityChange> changes = new ArrayList<>();
+        // the order that replaying the changes results in, which is recorded if it is not the actual order
+        List<Integer> replayedOrder = new ArrayList<>();
+        for (Integer primaryKey : savedStamps.keySet()) {
+            if (stamps.containsKey(primaryKey)) {
+                replayedOrder.add(primaryKey);
+            } else {
+                changes.add(JsonAdaptedActivityChange.remove(primaryKey));
+            }
+        }
+        for (Activity activity : activityBook.getActivityList()) {
+            Long savedStamp = savedStamps.get(activity.getPrimaryKey());
+            if (savedStamp == null || savedStamp != activity.getModificationStamp()) {
+                changes.add(JsonAdaptedActivityChange.put(activity));
+            }
+            if (savedStamp == null) {
+                replayedOrder.add(activity.getPrimaryKey());
+            }
+        }
+        List<Integer> order = new ArrayList<>(stamps.keySet());
+        if (!replayedOrder.equals(order)) {
+            changes.add(JsonAdaptedActivityChange.reorder(order));
+        }
+
+        journal.append(changes);
+        savedActivityBook = activityBook;
+        savedStamps = stamps;
+    }
+
+    /**
+     * Saves the activity book last read or saved in full, and clears the journal.
+     */
+    @Override
+    public void compactActivityBook() throws IOException {
+        if (savedActivityBook == null) {
+            return;
+        }
+        // the activity book may have changed since it was saved, so its changes are recorded first for the
+        // journal to match the full copy
+        appendChanges(savedActivityBook);
+        if (journal.size() > 0) {
+            saveSnapshot(savedActivityBook);
+        }
+    }
+
+    /**
+     * Saves {@code activityBook} in full, and then clears the journal. If the app stops in between, the journal
+     * is replayed over the newer full copy, which leaves it unchanged.
+     */
+    private void saveSnapshot(ReadOnlyActivityBook activityBook) throws IOException {
+        snapshotStorage.saveActivityBook(activityBook);
+        journal.clear();
+        savedActivityBook = activityBook;
+        savedStamps = toStamps(activityBook);
+        snapshotSize = getSnapshotSize();
+    }
+
+    private long getSnapshotSize() throws IOException {
+        Path snapshotPath = snapshotStorage.getActivityBookFilePath();
+        return Files.exists(snapshotPath) ? Files.size(snapshotPath) : 0;
+    }
+
+    private static LinkedHashMap<Integer, Long> toStamps(ReadOnlyActivityBook activityBook) {
+        LinkedHashMap<Integer, Long> stamps = new LinkedHashMap<>();
+        for (Activity activity : activityBook.getActivityList()) {
+            stamps.put(activity.getPrimaryKey(), activity.getModificationStamp());
+        }
+        return stamps;
+    }
+}
@@ -0,0 +1,200 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Stores the address book as a full copy kept by another {@code AddressBookStorage}, followed by a {@link Journal}
+ * of the persons added, replaced or removed since. Saving only appends the changes made since the last save.
+ * The full copy is rewritten, and the journal cleared, once the journal grows past half the size of the full copy,
+ * or when the storage is compacted.
+ *
+ * Persons are immutable, so the persons that changed are those that are not the same objects as when last saved.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    /** The journal is never compacted before it reaches this size in bytes. */
+    static final long MIN_COMPACTION_SIZE = 64 * 1024;
+
+    private final AddressBookStorage snapshotStorage;
+    private final Journal<JsonAdaptedPersonChange> journal;
+
+    // The address book as last read or saved, and its persons by primary key in list order.
+    // Both are null until the address book has been read or saved.
+    private ReadOnlyAddressBook savedAddressBook;
+    private LinkedHashMap<Integer, Person> savedPersons;
+    private long snapshotSize;
+
+    /**
+     * Creates a storage keeping the full copy of the address book in {@code snapshotStorage}, and the journal
+     * next to it.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.journal = new Journal<>(snapshotStorage.getAddressBookFilePath(), JsonAdaptedPersonChange.class);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Reads the full copy of the address book and replays the journal over it.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook();
+        List<JsonAdaptedPersonChange> changes = journal.read();
+        if (snapshot.isEmpty() && changes.isEmpty()) {
+            return Optional.empty();
+        }
+
+        LinkedHashMap<Integer, Person> persons = new LinkedHashMap<>();
+        snapshot.ifPresent(book -> book.getPersonList().forEach(person -> persons.put(person.getPrimaryKey(), person)));
+        AddressBook addressBook = new AddressBook();
+        try {
+            for (JsonAdaptedPersonChange change : changes) {
+                change.applyTo(persons);
+            }
+            for (Person person : persons.values()) {
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(person);
+            }
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+
+        savedAddressBook = addressBook;
+        savedPersons = persons;
+        snapshotSize = getSnapshotSize();
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Reads the full copy of an address book from {@code filePath}, without any journal.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        return snapshotStorage.readAddressBook(filePath);
+    }
+
+    /**
+     * Appends the changes made to {@code addressBook} since it was last read or saved to the journal.
+     * Saves it in full instead if it has not been read or saved before, or if the journal has grown too large.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        if (savedPersons == null) {
+            // the journal, if any, is not known to be a record of changes up to this address book
+            journal.clear();
+            saveSnapshot(addressBook);
+            return;
+        }
+
+        appendChanges(addressBook);
+        if (journal.size() > Math.max(MIN_COMPACTION_SIZE, snapshotSize / 2)) {
+            saveSnapshot(addressBook);
+        }
+    }
+
+    /**
+     * Appends the changes made to {@code addressBook} since it was last read or saved to the journal.
+     */
+    private void appendChanges(ReadOnlyAddressBook addressBook) throws IOException {
+        LinkedHashMap<Integer, Person> persons = toMap(addressBook);
+        List<JsonAdaptedPersonChange> changes = new ArrayList<>();
+        // the order that replaying the changes results in, which is recorded if it is not the actual order
+        List<Integer> replayedOrder = new ArrayList<>();
+        for (Integer primaryKey : savedPersons.keySet()) {
+            if (persons.containsKey(primaryKey)) {
+                replayedOrder.add(primaryKey);
+            } else {
+                changes.add(JsonAdaptedPersonChange.remove(primaryKey));
+            }
+        }
+        for (Person person : persons.values()) {
+            Person savedPerson = savedPersons.get(person.getPrimaryKey());
+            if (savedPerson != person) {
+                changes.add(JsonAdaptedPersonChange.put(person));
+            }
+            if (savedPerson == null) {
+                replayedOrder.add(person.getPrimaryKey());
+            }
+        }
+        List<Integer> order = new ArrayList<>(persons.keySet());
+        if (!replayedOrder.equals(order)) {
+            changes.add(JsonAdaptedPersonChange.reorder(order));
+        }
+
+        journal.append(changes);
+        savedAddressBook = addressBook;
+        savedPersons = persons;
+    }
+
+    /**
+     * Saves {@code addressBook} in full to {@code filePath}, without any journal.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Saves the address book last read or saved in full, and clears the journal.
+     */
+    @Override
+    public void compactAddressBook() throws IOException {
+        if (savedAddressBook == null) {
+            return;
+        }
+        // the address book may have changed since it was saved, so its changes are recorded first for the
+        // journal to match the full copy
+        appendChanges(savedAddressBook);
+        if (journal.size() > 0) {
+            saveSnapshot(savedAddressBook);
+        }
+    }
+
+    /**
+     * Saves {@code addressBook} in full, and then clears the journal. If the app stops in between, the journal
+     * is replayed over the newer full copy, which leaves it unchanged.
+     */
+    private void saveSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        snapshotStorage.saveAddressBook(addressBook);
+        journal.clear();
+        savedAddressBook = addressBook;
+        savedPersons = toMap(addressBook);
+        snapshotSize = getSnapshotSize();
+    }
+
+    private long getSnapshotSize() throws IOException {
+        Path snapshotPath = snapshotStorage.getAddressBookFilePath();
+        return Files.exists(snapshotPath) ? Files.size(snapshotPath) : 0;
+    }
+
+    private static LinkedHashMap<Integer, Person> toMap(ReadOnlyAddressBook addressBook) {
+        LinkedHashMap<Integer, Person> persons = new LinkedHashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            persons.put(person.getPrimaryKey(), person);
+        }
+        return persons;
+    }
+}
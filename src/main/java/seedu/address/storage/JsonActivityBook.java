@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ActivityBook;
+import seedu.address.model.ReadOnlyActivityBook;
 import seedu.address.model.activity.Activity;
 
 /**
@@ -20,6 +21,9 @@ class JsonActivityBook {
 
     public static final String MESSAGE_DUPLICATE_PRIMARY_KEY = "Activity list contains duplicate primary key(s).";
 
+    /** The name of the field holding the activities in the file. */
+    static final String ACTIVITIES_FIELD = "activityList";
+
     private final List<JsonAdaptedActivity> activityList = new ArrayList<>();
 
     /**
@@ -35,7 +39,7 @@ class JsonActivityBook {
      *
      * @param source future changes to this will not affect the created {@code JsonActivityBook}.
      */
-    public JsonActivityBook(ActivityBook source) {
+    public JsonActivityBook(ReadOnlyActivityBook source) {
         activityList.addAll(source.getActivityList().stream()
                 .map(JsonAdaptedActivity::new).collect(Collectors.toList()));
     }
@@ -47,14 +51,23 @@ class JsonActivityBook {
      */
     public ActivityBook toModelType() throws IllegalValueException {
         ActivityBook activityBook = new ActivityBook();
-        for (JsonAdaptedActivity jsonAdaptedActivity : activityList) {
-            Activity activity = jsonAdaptedActivity.toModelType();
-            if (activityBook.hasPrimaryKey(activity.getPrimaryKey())) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PRIMARY_KEY);
-            }
-            activityBook.addActivity(activity);
+        for (Activity activity : ParallelConverter.convertAll(activityList, JsonAdaptedActivity::toModelType,
+                "activity")) {
+            addActivity(activityBook, activity);
         }
         return activityBook;
     }
 
+    /**
+     * Adds {@code activity}, read from a file, to {@code activityBook}.
+     *
+     * @throws IllegalValueException if the primary key of the activity is already in the activity book.
+     */
+    static void addActivity(ActivityBook activityBook, Activity activity) throws IllegalValueException {
+        if (activityBook.hasPrimaryKey(activity.getPrimaryKey())) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PRIMARY_KEY);
+        }
+        activityBook.addActivity(activity);
+    }
+
 }
@@ -13,6 +13,8 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ActivityBook;
+import seedu.address.model.ReadOnlyActivityBook;
+import seedu.address.model.activity.Activity;
 
 /**
  * A class to access ActivityBook stored in the hard disk as a json file
@@ -23,9 +25,26 @@ public class JsonActivityBookStorage implements ActivityBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonActivityBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
+    private final boolean isCompressed;
 
     public JsonActivityBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    public JsonActivityBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, false);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath}, which is saved without line breaks and indentation
+     * if {@code isCompact} is true, and compressed if {@code isCompressed} is true. The file is read whether it is
+     * compressed or not.
+     */
+    public JsonActivityBookStorage(Path filePath, boolean isCompact, boolean isCompressed) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.isCompressed = isCompressed;
     }
 
     @Override
@@ -47,14 +66,17 @@ public class JsonActivityBookStorage implements ActivityBookStorage {
 
         requireNonNull(prefsFilePath);
 
-        Optional<JsonActivityBook> jsonActivityBook = JsonUtil.readJsonFile(
-                prefsFilePath, JsonActivityBook.class);
-        if (!jsonActivityBook.isPresent()) {
-            return Optional.empty();
-        }
-
+        // the activities are converted and added a batch at a time as they are read, so the whole file is never
+        // held in memory
+        ActivityBook activityBook = new ActivityBook();
         try {
-            return Optional.of(jsonActivityBook.get().toModelType());
+            ParallelConverter<JsonAdaptedActivity, Activity> converter = new ParallelConverter<>(
+                    JsonAdaptedActivity::toModelType, activity -> JsonActivityBook.addActivity(activityBook, activity),
+                    "activity");
+            boolean isFound = JsonUtil.readJsonArrayFile(prefsFilePath, JsonActivityBook.ACTIVITIES_FIELD,
+                    JsonAdaptedActivity.class, converter);
+            converter.finish();
+            return isFound ? Optional.of(activityBook) : Optional.empty();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -63,7 +85,7 @@ public class JsonActivityBookStorage implements ActivityBookStorage {
     }
 
     @Override
-    public void saveActivityBook(ActivityBook activityBook) throws IOException {
+    public void saveActivityBook(ReadOnlyActivityBook activityBook) throws IOException {
         saveActivityBook(activityBook, filePath);
     }
 
@@ -72,12 +94,14 @@ public class JsonActivityBookStorage implements ActivityBookStorage {
      *
      * @param filePath location of the data. Cannot be null.
      */
-    public void saveActivityBook(ActivityBook activityBook, Path filePath) throws IOException {
+    public void saveActivityBook(ReadOnlyActivityBook activityBook, Path filePath) throws IOException {
         requireNonNull(activityBook);
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonActivityBook(activityBook), filePath);
+        // each activity is converted only as it is written, so the whole file is never held in memory
+        JsonUtil.saveJsonArrayFile(filePath, JsonActivityBook.ACTIVITIES_FIELD, activityBook.getActivityList(),
+                JsonAdaptedActivity::new, isCompact, isCompressed);
     }
 
 }
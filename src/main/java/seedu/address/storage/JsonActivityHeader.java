@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.activity.Activity;
+import seedu.address.model.activity.ExpenseLoader;
+import seedu.address.model.activity.Title;
+
+/**
+ * Jackson-friendly version of the details of an {@link Activity} other than its expenses, which are enough to
+ * list the activity without reading its expenses.
+ */
+class JsonActivityHeader {
+
+    private final int primaryKey;
+    private final String title;
+    private final ArrayList<Integer> participants = new ArrayList<>();
+    private final double totalSpending;
+
+    /**
+     * Constructs a {@code JsonActivityHeader} with the given activity details.
+     */
+    @JsonCreator
+    public JsonActivityHeader(@JsonProperty("primaryKey") int primaryKey, @JsonProperty("title") String title,
+            @JsonProperty("participants") ArrayList<Integer> participants,
+            @JsonProperty("totalSpending") double totalSpending) {
+        this.primaryKey = primaryKey;
+        this.title = title;
+        if (participants != null) {
+            this.participants.addAll(participants);
+        }
+        this.totalSpending = totalSpending;
+    }
+
+    /**
+     * Converts the details of a given {@code Activity} into this class for Jackson use.
+     */
+    public JsonActivityHeader(Activity source) {
+        primaryKey = source.getPrimaryKey();
+        title = source.getTitle().title;
+        participants.addAll(source.getParticipantIds());
+        totalSpending = source.getTotalSpending();
+    }
+
+    public int getPrimaryKey() {
+        return primaryKey;
+    }
+
+    /**
+     * Converts these details into the model's {@code Activity} object, whose expenses are loaded by
+     * {@code expenseLoader} when they are first needed.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the details.
+     */
+    public Activity toModelType(ExpenseLoader expenseLoader) throws IllegalValueException {
+        if (title == null) {
+            throw new IllegalValueException(String.format(JsonAdaptedActivity.MISSING_FIELD_MESSAGE_FORMAT,
+                    Title.class.getSimpleName()));
+        }
+        if (!Title.isValidTitle(title)) {
+            throw new IllegalValueException(Title.MESSAGE_CONSTRAINTS);
+        }
+        return new Activity(primaryKey, new Title(title), totalSpending, expenseLoader,
+                participants.toArray(new Integer[0]));
+    }
+}
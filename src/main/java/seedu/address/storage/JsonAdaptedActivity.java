@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -22,19 +23,39 @@ public class JsonAdaptedActivity {
     private final String title;
     private final ArrayList<Integer> participants = new ArrayList<Integer>();
     private final ArrayList<JsonAdaptedExpense> expenses = new ArrayList<JsonAdaptedExpense>();
+    // The balances worked out from the expenses when saved, or null if the file has none.
+    private final JsonAdaptedBalances balances;
 
     /**
      * Constructs a {@code JsonAdaptedActivity} with the given activity details.
      */
+    public JsonAdaptedActivity(int primaryKey, String title, ArrayList<Integer> participants) {
+        this(primaryKey, title, participants, (JsonAdaptedBalances) null);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedActivity} with the given activity details and balances.
+     */
     @JsonCreator
     public JsonAdaptedActivity(@JsonProperty("primaryKey") int primaryKey,
                                 @JsonProperty("title") String title,
-                                @JsonProperty("participants") ArrayList<Integer> participants) {
+                                @JsonProperty("participants") ArrayList<Integer> participants,
+                                @JsonProperty("balances") JsonAdaptedBalances balances) {
         this.primaryKey = primaryKey;
         this.title = title;
         if (participants != null) {
             this.participants.addAll(participants);
         }
+        this.balances = balances;
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedActivity} with the given activity details and expenses.
+     */
+    JsonAdaptedActivity(int primaryKey, String title, ArrayList<Integer> participants,
+            List<JsonAdaptedExpense> expenses) {
+        this(primaryKey, title, participants);
+        this.expenses.addAll(expenses);
     }
 
     /**
@@ -44,24 +65,40 @@ public class JsonAdaptedActivity {
         primaryKey = source.getPrimaryKey();
         title = source.getTitle().title;
         participants.addAll(source.getParticipantIds());
-        expenses.addAll(source.getExpenses().stream()
+        List<Expense> sourceExpenses = source.getExpenses();
+        expenses.addAll(sourceExpenses.stream()
                 .map(JsonAdaptedExpense::new)
                 .collect(Collectors.toList()));
+        balances = new JsonAdaptedBalances(source.getBalanceSnapshot(), participants, sourceExpenses);
+    }
+
+    int getPrimaryKey() {
+        return primaryKey;
     }
 
     /**
-     * Converts this Jackson-friendly adapted activity object into the model's {@code Activity} object.
+     * Converts the expenses of this activity into the model's {@code Expense} objects, in order.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted expenses.
+     */
+    List<Expense> toModelExpenses() throws IllegalValueException {
+        List<Expense> modelExpenses = new ArrayList<>();
+        for (JsonAdaptedExpense exp : expenses) {
+            modelExpenses.add(exp.toModelType());
+        }
+        return modelExpenses;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted activity object into the model's {@code Activity} object. The
+     * balances are restored from those saved with the activity if they were worked out from the same participants
+     * and expenses, and worked out again from every expense otherwise.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted activity.
      */
     public Activity toModelType() throws IllegalValueException {
 
-        final ArrayList<Expense> activityExpenses = new ArrayList<>();
-        for (JsonAdaptedExpense exp : expenses) {
-            activityExpenses.add(exp.toModelType());
-        }
-        // converting arraylist to array for vararg
-        Expense[] expenditures = activityExpenses.toArray(new Expense[0]);
+        final List<Expense> activityExpenses = toModelExpenses();
 
         // converting arraylist to array for vararg
         Integer[] participantIds = participants.toArray(new Integer[0]);
@@ -73,6 +110,17 @@ public class JsonAdaptedActivity {
             throw new IllegalValueException(Title.MESSAGE_CONSTRAINTS);
         }
         final Title activityTitle = new Title(title);
+        if (balances != null && balances.isWorkedOutFrom(participants, activityExpenses)) {
+            try {
+                return new Activity(primaryKey, activityTitle, activityExpenses, balances.toModelType(),
+                        participantIds);
+            } catch (IllegalArgumentException e) {
+                // the balances cannot be restored, so they are worked out again below
+            }
+        }
+
+        // converting arraylist to array for vararg
+        Expense[] expenditures = activityExpenses.toArray(new Expense[0]);
         Activity activity = new Activity(primaryKey, activityTitle, participantIds);
         activity.addExpense(expenditures);
 
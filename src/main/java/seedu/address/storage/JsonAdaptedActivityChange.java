@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.activity.Activity;
+
+/**
+ * Jackson-friendly version of a change to the activity book, as kept in its {@link Journal}.
+ * A change either adds or replaces an activity, removes an activity, or reorders all activities.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedActivityChange {
+
+    public static final String MESSAGE_INVALID_CHANGE = "Activity book journal contains an invalid change.";
+
+    private final Integer removedKey;
+    private final JsonAdaptedActivity activity;
+    private final List<Integer> order;
+
+    /**
+     * Constructs a {@code JsonAdaptedActivityChange} with the given details. Exactly one of them should be given.
+     */
+    @JsonCreator
+    public JsonAdaptedActivityChange(@JsonProperty("removedKey") Integer removedKey,
+            @JsonProperty("activity") JsonAdaptedActivity activity, @JsonProperty("order") List<Integer> order) {
+        this.removedKey = removedKey;
+        this.activity = activity;
+        this.order = order;
+    }
+
+    /**
+     * Returns a change adding {@code activity}, or replacing the activity with the same primary key.
+     */
+    public static JsonAdaptedActivityChange put(Activity activity) {
+        return new JsonAdaptedActivityChange(null, new JsonAdaptedActivity(activity), null);
+    }
+
+    /**
+     * Returns a change removing the activity with primary key {@code primaryKey}.
+     */
+    public static JsonAdaptedActivityChange remove(int primaryKey) {
+        return new JsonAdaptedActivityChange(primaryKey, null, null);
+    }
+
+    /**
+     * Returns a change reordering all activities to the order of their primary keys in {@code order}.
+     */
+    public static JsonAdaptedActivityChange reorder(List<Integer> order) {
+        return new JsonAdaptedActivityChange(null, null, List.copyOf(order));
+    }
+
+    /**
+     * Applies this change to {@code activities}, which maps the primary key of each activity to it, in list order.
+     * An activity that is added is added at the end, and an activity that is replaced keeps its place.
+     *
+     * @throws IllegalValueException if this change is not valid.
+     */
+    public void applyTo(LinkedHashMap<Integer, Activity> activities) throws IllegalValueException {
+        if (activity != null) {
+            Activity modelActivity = activity.toModelType();
+            activities.put(modelActivity.getPrimaryKey(), modelActivity);
+        } else if (removedKey != null) {
+            activities.remove(removedKey);
+        } else if (order != null) {
+            Journal.reorder(activities, order);
+        } else {
+            throw new IllegalValueException(MESSAGE_INVALID_CHANGE);
+        }
+    }
+}
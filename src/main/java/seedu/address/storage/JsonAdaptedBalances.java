@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.util.Triplet;
+import seedu.address.model.activity.BalanceSnapshot;
+import seedu.address.model.activity.Expense;
+
+/**
+ * Jackson-friendly version of {@link BalanceSnapshot}, with a checksum of the participants and expenses the
+ * balances were worked out from. The balances are only used if the checksum still matches, so a file whose
+ * expenses were edited by hand has its balances worked out again from the expenses.
+ */
+class JsonAdaptedBalances {
+
+    private final long checksum;
+    private final List<Integer> active = new ArrayList<>();
+    private final List<JsonAdaptedDebt> debts = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedBalances} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedBalances(@JsonProperty("checksum") long checksum,
+                               @JsonProperty("active") List<Integer> active,
+                               @JsonProperty("debts") List<JsonAdaptedDebt> debts) {
+        this.checksum = checksum;
+        if (active != null) {
+            this.active.addAll(active);
+        }
+        if (debts != null) {
+            this.debts.addAll(debts);
+        }
+    }
+
+    /**
+     * Converts the given {@code BalanceSnapshot}, worked out from {@code expenses} among {@code participants},
+     * into this class for Jackson use.
+     */
+    public JsonAdaptedBalances(BalanceSnapshot source, List<Integer> participants, List<Expense> expenses) {
+        checksum = checksum(participants, expenses);
+        active.addAll(source.getActiveParticipantIds());
+        debts.addAll(source.getDebts().stream()
+                .map(debt -> new JsonAdaptedDebt(debt.getFirst(), debt.getSecond(), debt.getThird()))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns true if these balances were worked out from {@code expenses} among {@code participants}.
+     */
+    boolean isWorkedOutFrom(List<Integer> participants, List<Expense> expenses) {
+        return checksum == checksum(participants, expenses);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted object into the model's {@code BalanceSnapshot} object.
+     */
+    public BalanceSnapshot toModelType() {
+        List<Triplet<Integer, Integer, Double>> modelDebts = debts.stream()
+                .map(debt -> new Triplet<>(debt.getDebtor(), debt.getCreditor(), debt.getAmount()))
+                .collect(Collectors.toList());
+        return new BalanceSnapshot(new HashSet<>(active), modelDebts);
+    }
+
+    /**
+     * Returns a checksum of every detail of {@code participants} and {@code expenses} the balances depend on.
+     */
+    static long checksum(List<Integer> participants, List<Expense> expenses) {
+        CRC32 crc = new CRC32();
+        updateInt(crc, participants.size());
+        participants.forEach(id -> updateInt(crc, id));
+        updateInt(crc, expenses.size());
+        for (Expense expense : expenses) {
+            updateInt(crc, expense.getPersonId());
+            updateLong(crc, Double.doubleToLongBits(expense.getAmount().value));
+            byte[] description = expense.getDescription().getBytes(StandardCharsets.UTF_8);
+            updateInt(crc, description.length);
+            crc.update(description);
+            crc.update(expense.isSettlement() ? 1 : 0);
+            crc.update(expense.isDeleted() ? 1 : 0);
+            int[] involved = expense.getInvolved();
+            updateInt(crc, involved == null ? -1 : involved.length);
+            if (involved != null) {
+                for (int id : involved) {
+                    updateInt(crc, id);
+                }
+            }
+        }
+        return crc.getValue();
+    }
+
+    private static void updateInt(CRC32 crc, int value) {
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            crc.update(value >>> shift);
+        }
+    }
+
+    private static void updateLong(CRC32 crc, long value) {
+        updateInt(crc, (int) (value >>> 32));
+        updateInt(crc, (int) value);
+    }
+
+    /**
+     * Jackson-friendly version of an amount owed by one participant to another.
+     */
+    static class JsonAdaptedDebt {
+
+        private final int debtor;
+        private final int creditor;
+        private final double amount;
+
+        /**
+         * Constructs a {@code JsonAdaptedDebt} with the given details.
+         */
+        @JsonCreator
+        public JsonAdaptedDebt(@JsonProperty("debtor") int debtor,
+                               @JsonProperty("creditor") int creditor,
+                               @JsonProperty("amount") double amount) {
+            this.debtor = debtor;
+            this.creditor = creditor;
+            this.amount = amount;
+        }
+
+        public int getDebtor() {
+            return debtor;
+        }
+
+        public int getCreditor() {
+            return creditor;
+        }
+
+        public double getAmount() {
+            return amount;
+        }
+    }
+}
@@ -24,6 +24,7 @@ import seedu.address.model.tag.Tag;
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+    public static final String NEGATIVE_PRIMARY_KEY_MESSAGE = "Person's primary key should not be negative!";
 
     private final int primaryKey;
     private final String name;
@@ -74,6 +75,10 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        if (primaryKey < 0) {
+            throw new IllegalValueException(NEGATIVE_PRIMARY_KEY_MESSAGE);
+        }
+
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tagged) {
             personTags.add(tag.toModelType());
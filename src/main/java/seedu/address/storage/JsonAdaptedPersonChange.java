@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a change to the address book, as kept in its {@link Journal}.
+ * A change either adds or replaces a person, removes a person, or reorders all persons.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedPersonChange {
+
+    public static final String MESSAGE_INVALID_CHANGE = "Address book journal contains an invalid change.";
+
+    private final Integer removedKey;
+    private final JsonAdaptedPerson person;
+    private final List<Integer> order;
+
+    /**
+     * Constructs a {@code JsonAdaptedPersonChange} with the given details. Exactly one of them should be given.
+     */
+    @JsonCreator
+    public JsonAdaptedPersonChange(@JsonProperty("removedKey") Integer removedKey,
+            @JsonProperty("person") JsonAdaptedPerson person, @JsonProperty("order") List<Integer> order) {
+        this.removedKey = removedKey;
+        this.person = person;
+        this.order = order;
+    }
+
+    /**
+     * Returns a change adding {@code person}, or replacing the person with the same primary key.
+     */
+    public static JsonAdaptedPersonChange put(Person person) {
+        return new JsonAdaptedPersonChange(null, new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns a change removing the person with primary key {@code primaryKey}.
+     */
+    public static JsonAdaptedPersonChange remove(int primaryKey) {
+        return new JsonAdaptedPersonChange(primaryKey, null, null);
+    }
+
+    /**
+     * Returns a change reordering all persons to the order of their primary keys in {@code order}.
+     */
+    public static JsonAdaptedPersonChange reorder(List<Integer> order) {
+        return new JsonAdaptedPersonChange(null, null, List.copyOf(order));
+    }
+
+    /**
+     * Applies this change to {@code persons}, which maps the primary key of each person to them, in list order.
+     * A person that is added is added at the end, and a person that is replaced keeps their place.
+     *
+     * @throws IllegalValueException if this change is not valid.
+     */
+    public void applyTo(LinkedHashMap<Integer, Person> persons) throws IllegalValueException {
+        if (person != null) {
+            Person modelPerson = person.toModelType();
+            persons.put(modelPerson.getPrimaryKey(), modelPerson);
+        } else if (removedKey != null) {
+            persons.remove(removedKey);
+        } else if (order != null) {
+            Journal.reorder(persons, order);
+        } else {
+            throw new IllegalValueException(MESSAGE_INVALID_CHANGE);
+        }
+    }
+}
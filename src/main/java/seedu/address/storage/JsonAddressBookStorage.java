@@ -12,7 +12,9 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -22,9 +24,26 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
+    private final boolean isCompressed;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, false);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath}, which is saved without line breaks and indentation
+     * if {@code isCompact} is true, and compressed if {@code isCompressed} is true. The file is read whether it is
+     * compressed or not.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, boolean isCompressed) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.isCompressed = isCompressed;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,14 +64,17 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
+        // the persons are converted and added a batch at a time as they are read, so the whole file is never held
+        // in memory
+        AddressBook addressBook = new AddressBook();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            ParallelConverter<JsonAdaptedPerson, Person> converter = new ParallelConverter<>(
+                    JsonAdaptedPerson::toModelType,
+                    person -> JsonSerializableAddressBook.addPerson(addressBook, person), "person");
+            boolean isFound = JsonUtil.readJsonArrayFile(filePath, JsonSerializableAddressBook.PERSONS_FIELD,
+                    JsonAdaptedPerson.class, converter);
+            converter.finish();
+            return isFound ? Optional.of(addressBook) : Optional.empty();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -74,7 +96,9 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        // each person is converted only as it is written, so the whole file is never held in memory
+        JsonUtil.saveJsonArrayFile(filePath, JsonSerializableAddressBook.PERSONS_FIELD, addressBook.getPersonList(),
+                JsonAdaptedPerson::new, isCompact, isCompressed);
     }
 
 }
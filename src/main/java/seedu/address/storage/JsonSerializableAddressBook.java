@@ -22,6 +22,9 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATE_PRIMARY_KEY = "Persons list contains duplicate primary key(s).";
 
+    /** The name of the field holding the persons in the file. */
+    static final String PERSONS_FIELD = "persons";
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -48,17 +51,25 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            if (addressBook.hasPrimaryKey(person.getPrimaryKey())) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PRIMARY_KEY);
-            }
-            addressBook.addPerson(person);
+        for (Person person : ParallelConverter.convertAll(persons, JsonAdaptedPerson::toModelType, "person")) {
+            addPerson(addressBook, person);
         }
         return addressBook;
     }
 
+    /**
+     * Adds {@code person}, read from a file, to {@code addressBook}.
+     *
+     * @throws IllegalValueException if the person or its primary key is already in the address book.
+     */
+    static void addPerson(AddressBook addressBook, Person person) throws IllegalValueException {
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        if (addressBook.hasPrimaryKey(person.getPrimaryKey())) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PRIMARY_KEY);
+        }
+        addressBook.addPerson(person);
+    }
+
 }
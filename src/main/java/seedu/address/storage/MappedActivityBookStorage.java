@@ -0,0 +1,388 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ActivityBook;
+import seedu.address.model.ReadOnlyActivityBook;
+import seedu.address.model.activity.Activity;
+import seedu.address.model.activity.Expense;
+
+/**
+ * A class to access ActivityBook data stored as an append-only store of expenses on the hard disk.
+ *
+ * The expenses of all activities are kept as fixed-size records in an expense file, in the order they were added,
+ * with their descriptions and involved persons in a details file. The activities themselves, with the number of
+ * expenses each has, are kept in a small index file, which is rewritten on every save. The expense file is mapped
+ * into memory when read, and records are decoded straight from the mapping.
+ *
+ * As expenses are only ever added to an activity or marked as deleted, saving only writes the records of the new
+ * expenses, and rewrites the flags of the expenses deleted since the last save. Any other change to the saved
+ * expenses, such as removing an activity, rewrites all files.
+ */
+public class MappedActivityBookStorage implements ActivityBookStorage {
+
+    /** The first four bytes of every index file, "SWMI". */
+    static final int INDEX_MAGIC = 0x53574D49;
+    /** The first four bytes of every expense file, "SWME". */
+    static final int EXPENSES_MAGIC = 0x53574D45;
+    static final int FORMAT_VERSION = 1;
+
+    // Layout of each expense record, in bytes. The expense file starts with a header of the same size.
+    static final int RECORD_SIZE = 32;
+    private static final int ACTIVITY_OFFSET = 0;
+    private static final int PAYER_OFFSET = 4;
+    private static final int AMOUNT_OFFSET = 8;
+    private static final int FLAGS_OFFSET = 16;
+    private static final int DETAILS_LENGTH_OFFSET = 20;
+    private static final int DETAILS_OFFSET = 24;
+
+    // Flags of each expense
+    private static final int SETTLEMENT = 1;
+    private static final int DELETED = 1 << 1;
+    private static final int AMOUNT_IN_CENTS = 1 << 2;
+
+    private static final Logger logger = LogsCenter.getLogger(MappedActivityBookStorage.class);
+
+    private final Path filePath;
+    private final Path expensesFilePath;
+    private final Path detailsFilePath;
+
+    // The expenses of each activity as last read or saved, by primary key, and the positions of their records.
+    // Null until the activity book has been read or saved.
+    private Map<Integer, SavedExpenses> savedExpenses;
+    private int recordCount;
+    private long detailsSize;
+    // Set if the files hold records that are not part of the activity book, which are dropped by rewriting them
+    private boolean isRewriteNeeded;
+
+    /**
+     * Creates a storage with its index file at {@code filePath}, and its expense and details files next to it.
+     */
+    public MappedActivityBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.expensesFilePath = filePath.resolveSibling(filePath.getFileName() + ".expenses");
+        this.detailsFilePath = filePath.resolveSibling(filePath.getFileName() + ".details");
+    }
+
+    @Override
+    public Path getActivityBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ActivityBook> readActivityBook() throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Index file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (FileChannel expensesChannel = FileChannel.open(expensesFilePath, StandardOpenOption.READ);
+                FileChannel detailsChannel = FileChannel.open(detailsFilePath, StandardOpenOption.READ);
+                BinaryDataInput index = new BinaryDataInput(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            MappedByteBuffer records = expensesChannel.map(FileChannel.MapMode.READ_ONLY, 0, expensesChannel.size());
+            MappedByteBuffer details = detailsChannel.map(FileChannel.MapMode.READ_ONLY, 0, detailsChannel.size());
+            if (records.limit() < RECORD_SIZE || records.getInt(0) != EXPENSES_MAGIC) {
+                throw new IOException("Not an expense file");
+            }
+            // a record cut short when the app stopped is left out
+            int fileRecordCount = records.limit() / RECORD_SIZE - 1;
+
+            Map<Integer, List<Integer>> recordsByActivity = new HashMap<>();
+            for (int i = 0; i < fileRecordCount; i++) {
+                recordsByActivity.computeIfAbsent(records.getInt(toPosition(i) + ACTIVITY_OFFSET),
+                        key -> new ArrayList<>()).add(i);
+            }
+
+            index.readHeader(INDEX_MAGIC, FORMAT_VERSION);
+            ActivityBook activityBook = new ActivityBook();
+            Map<Integer, SavedExpenses> readExpenses = new HashMap<>();
+            int usedRecordCount = 0;
+            for (int i = index.readCount(); i > 0; i--) {
+                int primaryKey = index.readVarInt();
+                String title = index.readString();
+                ArrayList<Integer> participants = new ArrayList<>();
+                for (int j = index.readCount(); j > 0; j--) {
+                    participants.add(index.readVarInt());
+                }
+                int expenseCount = index.readCount();
+                List<Integer> recordIndices = recordsByActivity.getOrDefault(primaryKey, List.of());
+                if (recordIndices.size() < expenseCount) {
+                    throw new IOException("Missing expenses of activity " + primaryKey);
+                }
+                // records after the saved number of expenses were being added when the app stopped
+                recordIndices = new ArrayList<>(recordIndices.subList(0, expenseCount));
+                usedRecordCount += expenseCount;
+
+                List<JsonAdaptedExpense> expenses = new ArrayList<>();
+                for (int recordIndex : recordIndices) {
+                    expenses.add(readExpense(records, details, toPosition(recordIndex)));
+                }
+                Activity activity = new JsonAdaptedActivity(primaryKey, title, participants, expenses).toModelType();
+                JsonActivityBook.addActivity(activityBook, activity);
+                readExpenses.put(primaryKey, new SavedExpenses(activity.getExpenses(), recordIndices));
+            }
+
+            savedExpenses = readExpenses;
+            recordCount = fileRecordCount;
+            detailsSize = details.limit();
+            isRewriteNeeded = usedRecordCount != fileRecordCount || records.limit() % RECORD_SIZE != 0;
+            return Optional.of(activityBook);
+        } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            logger.warning("Error reading from expense store " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads the expense with its record at {@code position}, which is checked against the constraints of the model
+     * in the same way as one read from a JSON file.
+     */
+    private static JsonAdaptedExpense readExpense(ByteBuffer records, ByteBuffer details, int position)
+            throws IOException {
+        int flags = records.getInt(position + FLAGS_OFFSET);
+        long amountBits = records.getLong(position + AMOUNT_OFFSET);
+        double amount = (flags & AMOUNT_IN_CENTS) != 0 ? amountBits / 100.0 : Double.longBitsToDouble(amountBits);
+        long detailsOffset = records.getLong(position + DETAILS_OFFSET);
+        int detailsLength = records.getInt(position + DETAILS_LENGTH_OFFSET);
+        if (detailsOffset < 0 || detailsLength < 0 || detailsOffset + detailsLength > details.limit()) {
+            throw new IOException("Details of expense out of bounds");
+        }
+
+        ByteBuffer entry = details.duplicate();
+        entry.position((int) detailsOffset).limit((int) detailsOffset + detailsLength);
+        byte[] description = new byte[entry.getInt()];
+        entry.get(description);
+        int involvedCount = entry.getInt();
+        int[] involvedIds = null;
+        if (involvedCount >= 0) {
+            involvedIds = new int[involvedCount];
+            entry.asIntBuffer().get(involvedIds);
+        }
+        return new JsonAdaptedExpense(records.getInt(position + PAYER_OFFSET), amount,
+                new String(description, StandardCharsets.UTF_8), (flags & SETTLEMENT) != 0, (flags & DELETED) != 0,
+                involvedIds);
+    }
+
+    @Override
+    public void saveActivityBook(ReadOnlyActivityBook activityBook) throws IOException {
+        requireNonNull(activityBook);
+        if (savedExpenses == null || isRewriteNeeded || !isAppendOnly(activityBook)) {
+            rewrite(activityBook);
+            return;
+        }
+
+        try (FileChannel expensesChannel = FileChannel.open(expensesFilePath, StandardOpenOption.WRITE);
+                FileChannel detailsChannel = FileChannel.open(detailsFilePath, StandardOpenOption.WRITE)) {
+            for (Activity activity : activityBook.getActivityList()) {
+                SavedExpenses saved = savedExpenses.computeIfAbsent(activity.getPrimaryKey(),
+                        key -> new SavedExpenses(List.of(), List.of()));
+                List<Expense> expenses = activity.getExpenses();
+                for (int i = 0; i < saved.expenses.size(); i++) {
+                    if (expenses.get(i).isDeleted() != saved.expenses.get(i).isDeleted()) {
+                        ByteBuffer flags = ByteBuffer.allocate(4).putInt(0, toFlags(expenses.get(i)));
+                        writeFully(expensesChannel, flags, toPosition(saved.recordIndices.get(i)) + FLAGS_OFFSET);
+                        saved.expenses.set(i, expenses.get(i).copy());
+                    }
+                }
+                for (int i = saved.expenses.size(); i < expenses.size(); i++) {
+                    appendExpense(expensesChannel, detailsChannel, activity.getPrimaryKey(), expenses.get(i));
+                    saved.expenses.add(expenses.get(i).copy());
+                    saved.recordIndices.add(recordCount - 1);
+                }
+            }
+        }
+        writeIndex(activityBook);
+    }
+
+    /**
+     * Returns true if the only changes to the expenses since they were last saved are expenses added at the end of
+     * their activity, or expenses deleted.
+     */
+    private boolean isAppendOnly(ReadOnlyActivityBook activityBook) {
+        Map<Integer, Activity> activities = new HashMap<>();
+        for (Activity activity : activityBook.getActivityList()) {
+            activities.put(activity.getPrimaryKey(), activity);
+        }
+        for (Map.Entry<Integer, SavedExpenses> entry : savedExpenses.entrySet()) {
+            Activity activity = activities.get(entry.getKey());
+            if (activity == null) {
+                return false;
+            }
+            List<Expense> expenses = activity.getExpenses();
+            List<Expense> saved = entry.getValue().expenses;
+            if (expenses.size() < saved.size()) {
+                return false;
+            }
+            for (int i = 0; i < saved.size(); i++) {
+                if (!isSameExpense(expenses.get(i), saved.get(i))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if both expenses have the same details, other than whether they are deleted.
+     */
+    static boolean isSameExpense(Expense expense, Expense otherExpense) {
+        return expense.getPersonId() == otherExpense.getPersonId()
+                && expense.getAmount().value == otherExpense.getAmount().value
+                && expense.getDescription().equals(otherExpense.getDescription())
+                && expense.isSettlement() == otherExpense.isSettlement()
+                && Arrays.equals(expense.getInvolved(), otherExpense.getInvolved());
+    }
+
+    private void appendExpense(FileChannel expensesChannel, FileChannel detailsChannel, int activityKey,
+            Expense expense) throws IOException {
+        ByteBuffer detailsEntry = toDetailsEntry(expense);
+        int detailsLength = detailsEntry.remaining();
+        writeFully(detailsChannel, detailsEntry, detailsSize);
+        writeFully(expensesChannel, toRecord(activityKey, expense, detailsSize, detailsLength),
+                toPosition(recordCount));
+        detailsSize += detailsLength;
+        recordCount++;
+    }
+
+    /**
+     * Rewrites all files with the expenses of {@code activityBook}.
+     */
+    private void rewrite(ReadOnlyActivityBook activityBook) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Map<Integer, SavedExpenses> rewritten = new HashMap<>();
+        int rewrittenRecordCount = 0;
+        long rewrittenDetailsSize = 0;
+        try (DataOutputStream expensesOut = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(expensesFilePath)));
+                DataOutputStream detailsOut = new DataOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(detailsFilePath)))) {
+            expensesOut.write(ByteBuffer.allocate(RECORD_SIZE).putInt(EXPENSES_MAGIC).putInt(FORMAT_VERSION).array());
+            for (Activity activity : activityBook.getActivityList()) {
+                SavedExpenses saved = new SavedExpenses(List.of(), List.of());
+                for (Expense expense : activity.getExpenses()) {
+                    ByteBuffer detailsEntry = toDetailsEntry(expense);
+                    int detailsLength = detailsEntry.remaining();
+                    detailsOut.write(detailsEntry.array());
+                    expensesOut.write(toRecord(activity.getPrimaryKey(), expense, rewrittenDetailsSize, detailsLength)
+                            .array());
+                    saved.expenses.add(expense.copy());
+                    saved.recordIndices.add(rewrittenRecordCount);
+                    rewrittenDetailsSize += detailsLength;
+                    rewrittenRecordCount++;
+                }
+                rewritten.put(activity.getPrimaryKey(), saved);
+            }
+        }
+        writeIndex(activityBook);
+
+        savedExpenses = rewritten;
+        recordCount = rewrittenRecordCount;
+        detailsSize = rewrittenDetailsSize;
+        isRewriteNeeded = false;
+    }
+
+    private void writeIndex(ReadOnlyActivityBook activityBook) throws IOException {
+        try (BinaryDataOutput out = new BinaryDataOutput(new BufferedOutputStream(Files.newOutputStream(filePath)))) {
+            out.writeHeader(INDEX_MAGIC, FORMAT_VERSION);
+            out.writeVarInt(activityBook.getActivityList().size());
+            for (Activity activity : activityBook.getActivityList()) {
+                out.writeVarInt(activity.getPrimaryKey());
+                out.writeString(activity.getTitle().title);
+                out.writeVarInt(activity.getParticipantIds().size());
+                for (int id : activity.getParticipantIds()) {
+                    out.writeVarInt(id);
+                }
+                out.writeVarInt(activity.getExpenses().size());
+            }
+        }
+    }
+
+    private static ByteBuffer toRecord(int activityKey, Expense expense, long detailsOffset, int detailsLength) {
+        double amount = expense.getAmount().value;
+        long cents = Math.round(amount * 100);
+        int flags = toFlags(expense);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE)
+                .putInt(ACTIVITY_OFFSET, activityKey)
+                .putInt(PAYER_OFFSET, expense.getPersonId())
+                .putLong(AMOUNT_OFFSET, (flags & AMOUNT_IN_CENTS) != 0 ? cents : Double.doubleToLongBits(amount))
+                .putInt(FLAGS_OFFSET, flags)
+                .putInt(DETAILS_LENGTH_OFFSET, detailsLength)
+                .putLong(DETAILS_OFFSET, detailsOffset);
+        return record;
+    }
+
+    private static int toFlags(Expense expense) {
+        double amount = expense.getAmount().value;
+        return (expense.isSettlement() ? SETTLEMENT : 0)
+                | (expense.isDeleted() ? DELETED : 0)
+                // settlements can be any fraction of a cent, and are kept exactly
+                | (Math.round(amount * 100) / 100.0 == amount ? AMOUNT_IN_CENTS : 0);
+    }
+
+    private static ByteBuffer toDetailsEntry(Expense expense) {
+        byte[] description = expense.getDescription().getBytes(StandardCharsets.UTF_8);
+        int[] involved = expense.getInvolved();
+        ByteBuffer entry = ByteBuffer.allocate(8 + description.length + (involved == null ? 0 : 4 * involved.length));
+        entry.putInt(description.length).put(description);
+        entry.putInt(involved == null ? -1 : involved.length);
+        if (involved != null) {
+            entry.asIntBuffer().put(involved);
+        }
+        entry.rewind();
+        return entry;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static int toPosition(int recordIndex) {
+        // the header takes the place of the first record
+        return (recordIndex + 1) * RECORD_SIZE;
+    }
+
+    /**
+     * The expenses of an activity as last read or saved, and the positions of their records in the expense file.
+     */
+    private static class SavedExpenses {
+        private final List<Expense> expenses = new ArrayList<>();
+        private final List<Integer> recordIndices;
+
+        private SavedExpenses(List<Expense> expenses, List<Integer> recordIndices) {
+            for (Expense expense : expenses) {
+                this.expenses.add(expense.copy());
+            }
+            this.recordIndices = new ArrayList<>(recordIndices);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil.ArrayElementHandler;
+
+/**
+ * Converts the Jackson-friendly objects read from a file into the model's objects on all cores, and passes the
+ * converted objects on to a handler in the order they were read.
+ *
+ * The objects are converted in batches as they are read, so only one batch is held in memory at a time. The
+ * objects are passed on in order, so a failure is reported for the same object, with its position in the file,
+ * as if the objects had been converted one at a time.
+ */
+class ParallelConverter<A, M> implements ArrayElementHandler<A> {
+
+    /** The number of objects read before they are converted. */
+    static final int BATCH_SIZE = 256;
+
+    private final Converter<A, M> converter;
+    private final ArrayElementHandler<M> handler;
+    private final String elementName;
+    private final List<A> batch = new ArrayList<>();
+    // The number of objects passed on before the current batch, to report the position of a failure
+    private int handledCount;
+
+    /**
+     * Creates a converter passing the objects converted by {@code converter} on to {@code handler}.
+     * @param elementName the name of an object in messages, such as "person".
+     */
+    ParallelConverter(Converter<A, M> converter, ArrayElementHandler<M> handler, String elementName) {
+        requireNonNull(converter);
+        requireNonNull(handler);
+        requireNonNull(elementName);
+        this.converter = converter;
+        this.handler = handler;
+        this.elementName = elementName;
+    }
+
+    @Override
+    public void handle(A adapted) throws IllegalValueException {
+        batch.add(adapted);
+        if (batch.size() >= BATCH_SIZE) {
+            convertBatch();
+        }
+    }
+
+    /**
+     * Converts and passes on the objects read since the last full batch. To be called once all objects are read.
+     */
+    void finish() throws IllegalValueException {
+        convertBatch();
+    }
+
+    private void convertBatch() throws IllegalValueException {
+        Conversion<A, M> conversion = new Conversion<>(batch, converter);
+        for (int i = 0; i < batch.size(); i++) {
+            // an object is only passed on if those before it were, so any failure is the same as one at a time
+            handler.handle(conversion.get(i, elementName, handledCount));
+            handledCount++;
+        }
+        batch.clear();
+    }
+
+    /**
+     * Returns {@code adapted} converted by {@code converter} on all cores, in the same order.
+     *
+     * @throws IllegalValueException if any object fails to convert. The failure of the first such object is
+     *     reported, with its position.
+     */
+    static <A, M> List<M> convertAll(List<A> adapted, Converter<A, M> converter, String elementName)
+            throws IllegalValueException {
+        Conversion<A, M> conversion = new Conversion<>(adapted, converter);
+        List<M> converted = new ArrayList<>(adapted.size());
+        for (int i = 0; i < adapted.size(); i++) {
+            converted.add(conversion.get(i, elementName, i));
+        }
+        return converted;
+    }
+
+    /**
+     * The results of converting a list of objects on all cores, each of which is either the converted object or
+     * the failure to convert it.
+     */
+    private static class Conversion<A, M> {
+        private final Object[] results;
+        private final Exception[] failures;
+
+        Conversion(List<A> adapted, Converter<A, M> converter) {
+            int size = adapted.size();
+            results = new Object[size];
+            failures = new Exception[size];
+            // parallel streams run on the common fork-join pool
+            IntStream.range(0, size).parallel().forEach(i -> {
+                try {
+                    results[i] = converter.convert(adapted.get(i));
+                } catch (IllegalValueException | RuntimeException e) {
+                    failures[i] = e;
+                }
+            });
+        }
+
+        /**
+         * Returns the {@code i}th converted object, which is the object at {@code index} in the file.
+         *
+         * @throws IllegalValueException if the object failed to convert.
+         */
+        @SuppressWarnings("unchecked")
+        M get(int i, String elementName, int index) throws IllegalValueException {
+            if (failures[i] instanceof RuntimeException) {
+                throw (RuntimeException) failures[i];
+            } else if (failures[i] != null) {
+                throw new IllegalValueException(String.format("Invalid %s %d: %s", elementName, index + 1,
+                        failures[i].getMessage()), failures[i]);
+            }
+            return (M) results[i];
+        }
+    }
+
+    /**
+     * Converts a Jackson-friendly object into the model's object.
+     */
+    @FunctionalInterface
+    interface Converter<A, M> {
+        /**
+         * @throws IllegalValueException if the object violates any data constraints.
+         */
+        M convert(A adapted) throws IllegalValueException;
+    }
+}
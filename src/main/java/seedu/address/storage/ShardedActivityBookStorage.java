@@ -0,0 +1,255 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ActivityBook;
+import seedu.address.model.ReadOnlyActivityBook;
+import seedu.address.model.activity.Activity;
+import seedu.address.model.activity.Expense;
+import seedu.address.model.activity.exceptions.ExpenseLoadException;
+
+/**
+ * A class to access ActivityBook data stored on the hard disk as one JSON file per activity, named after its
+ * primary key, in a directory of their own next to a manifest listing the activities in order. The directory is
+ * named after the manifest, such as {@code activities.json.shards} for {@code activities.json}, and only files in
+ * that directory are ever deleted. The manifest holds every detail of each activity other than its expenses, so
+ * that the activities can be read lazily: listed from the manifest alone, with the expenses of each activity read
+ * from its file only when they are first needed.
+ *
+ * Saving only rewrites the files of the activities changed since the last read or save, found by their
+ * modification stamps, followed by the manifest. The manifest decides which activities are in the activity book,
+ * so the files of activities that are added or changed are written before it, and the files of activities that
+ * are removed are deleted after it. Every file is replaced in a single move, so a file is never left half written.
+ */
+public class ShardedActivityBookStorage implements ActivityBookStorage {
+
+    public static final String MESSAGE_MISSING_SHARD = "Activity %d in the manifest has no file.";
+    public static final String MESSAGE_WRONG_SHARD = "The file of activity %d holds another activity.";
+
+    /** The name of the field holding the activities in the manifest. */
+    static final String ACTIVITIES_FIELD = "activities";
+
+    private static final Pattern SHARD_FILE_NAME = Pattern.compile("activity-(\\d{1,9})\\.json");
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedActivityBookStorage.class);
+
+    private final Path filePath;
+    private final Path shardDirectory;
+    private final boolean isCompact;
+    private final boolean isLazy;
+    private final boolean isCompressed;
+
+    // The modification stamps and manifest entries of the activities as last read or saved, by primary key in
+    // list order, and the primary keys of all activity files in the directory. All are null until the activity
+    // book has been read or saved.
+    private LinkedHashMap<Integer, Long> savedStamps;
+    private Map<Integer, JsonActivityHeader> savedHeaders;
+    private Set<Integer> shardKeys;
+
+    public ShardedActivityBookStorage(Path filePath) {
+        this(filePath, false, false);
+    }
+
+    /**
+     * Creates a storage with its manifest at {@code filePath} and the activity files in a directory next to it,
+     * which are saved without line breaks and indentation if {@code isCompact} is true. If {@code isLazy} is true,
+     * the activities are read from the manifest alone, and the expenses of each activity are read when they are
+     * first needed.
+     */
+    public ShardedActivityBookStorage(Path filePath, boolean isCompact, boolean isLazy) {
+        this(filePath, isCompact, isLazy, false);
+    }
+
+    /**
+     * Similar to {@link #ShardedActivityBookStorage(Path, boolean, boolean)}, with the manifest and the activity
+     * files compressed if {@code isCompressed} is true. The files are read whether they are compressed or not.
+     */
+    public ShardedActivityBookStorage(Path filePath, boolean isCompact, boolean isLazy, boolean isCompressed) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.shardDirectory = filePath.resolveSibling(filePath.getFileName() + ".shards");
+        this.isCompact = isCompact;
+        this.isLazy = isLazy;
+        this.isCompressed = isCompressed;
+    }
+
+    @Override
+    public Path getActivityBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the file of the activity with primary key {@code primaryKey}.
+     */
+    Path getShardFilePath(int primaryKey) {
+        return shardDirectory.resolve("activity-" + primaryKey + ".json");
+    }
+
+    @Override
+    public Optional<ActivityBook> readActivityBook() throws DataConversionException, IOException {
+        List<JsonActivityHeader> headers = new ArrayList<>();
+        ActivityBook activityBook = new ActivityBook();
+        try {
+            if (!JsonUtil.readJsonArrayFile(filePath, ACTIVITIES_FIELD, JsonActivityHeader.class, headers::add)) {
+                return Optional.empty();
+            }
+            // the files of the activities are independent, so they are read on all cores
+            List<Activity> activities = ParallelConverter.convertAll(headers, header -> isLazy
+                    ? header.toModelType(() -> loadExpenses(header.getPrimaryKey()))
+                    : readShard(header.getPrimaryKey()).toModelType(), "activity");
+            for (Activity activity : activities) {
+                JsonActivityBook.addActivity(activityBook, activity);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        savedStamps = toStamps(activityBook);
+        savedHeaders = new HashMap<>();
+        headers.forEach(header -> savedHeaders.put(header.getPrimaryKey(), header));
+        shardKeys = listShardKeys();
+        return Optional.of(activityBook);
+    }
+
+    /**
+     * Reads the file of the activity with primary key {@code primaryKey}.
+     *
+     * @throws IllegalValueException if the file is missing, not in the correct format, or holds another activity.
+     */
+    private JsonAdaptedActivity readShard(int primaryKey) throws IllegalValueException {
+        JsonAdaptedActivity jsonAdaptedActivity;
+        try {
+            jsonAdaptedActivity = JsonUtil.readJsonFile(getShardFilePath(primaryKey), JsonAdaptedActivity.class)
+                    .orElseThrow(() -> new IllegalValueException(String.format(MESSAGE_MISSING_SHARD, primaryKey)));
+        } catch (DataConversionException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+        if (jsonAdaptedActivity.getPrimaryKey() != primaryKey) {
+            throw new IllegalValueException(String.format(MESSAGE_WRONG_SHARD, primaryKey));
+        }
+        return jsonAdaptedActivity;
+    }
+
+    /**
+     * Reads the expenses of the activity with primary key {@code primaryKey}, for an activity read lazily.
+     */
+    private List<Expense> loadExpenses(int primaryKey) {
+        logger.fine("Loading the expenses of activity " + primaryKey);
+        try {
+            return readShard(primaryKey).toModelExpenses();
+        } catch (IllegalValueException e) {
+            logger.warning("Failed to load the expenses of activity " + primaryKey + ": " + e.getMessage());
+            throw new ExpenseLoadException("Could not load the expenses of activity " + primaryKey, e);
+        }
+    }
+
+    /**
+     * Writes the files of the activities in {@code activityBook} changed since it was last read or saved, and the
+     * manifest. Writes the files of all activities if it has not been read or saved before.
+     */
+    @Override
+    public void saveActivityBook(ReadOnlyActivityBook activityBook) throws IOException {
+        requireNonNull(activityBook);
+        FileUtil.createParentDirsOfFile(filePath);
+        Files.createDirectories(shardDirectory);
+        if (shardKeys == null) {
+            shardKeys = listShardKeys();
+        }
+
+        LinkedHashMap<Integer, Long> stamps = toStamps(activityBook);
+        Map<Integer, JsonActivityHeader> headers = new LinkedHashMap<>();
+        for (Activity activity : activityBook.getActivityList()) {
+            int primaryKey = activity.getPrimaryKey();
+            Long savedStamp = savedStamps == null ? null : savedStamps.get(primaryKey);
+            JsonActivityHeader header = savedHeaders == null ? null : savedHeaders.get(primaryKey);
+            if (savedStamp == null || savedStamp != activity.getModificationStamp() || header == null
+                    || !shardKeys.contains(primaryKey)) {
+                try {
+                    replace(getShardFilePath(primaryKey), new JsonAdaptedActivity(activity));
+                } catch (ExpenseLoadException ele) {
+                    throw new IOException(ele.getMessage(), ele);
+                }
+                header = new JsonActivityHeader(activity);
+                shardKeys.add(primaryKey);
+            }
+            headers.put(primaryKey, header);
+        }
+
+        JsonUtil.saveJsonArrayFile(filePath, ACTIVITIES_FIELD, headers.values(), header -> header, isCompact,
+                isCompressed);
+        savedStamps = stamps;
+        savedHeaders = headers;
+
+        for (Integer primaryKey : new ArrayList<>(shardKeys)) {
+            if (!stamps.containsKey(primaryKey)) {
+                Files.deleteIfExists(getShardFilePath(primaryKey));
+                shardKeys.remove(primaryKey);
+            }
+        }
+    }
+
+    /**
+     * Replaces the file at {@code shardFilePath} with {@code jsonAdaptedActivity}.
+     */
+    private void replace(Path shardFilePath, JsonAdaptedActivity jsonAdaptedActivity) throws IOException {
+        Path temporaryFilePath = toTemporaryFilePath(shardFilePath);
+        JsonUtil.saveJsonFile(jsonAdaptedActivity, temporaryFilePath, isCompact, isCompressed);
+        Files.move(temporaryFilePath, shardFilePath, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns the primary keys of the activity files in the directory of the activity files, including those of
+     * any activities no longer in the manifest.
+     */
+    private Set<Integer> listShardKeys() throws IOException {
+        Set<Integer> keys = new HashSet<>();
+        if (!Files.isDirectory(shardDirectory)) {
+            return keys;
+        }
+        try (Stream<Path> files = Files.list(shardDirectory)) {
+            files.forEach(file -> {
+                Matcher matcher = SHARD_FILE_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    keys.add(Integer.parseInt(matcher.group(1)));
+                }
+            });
+        }
+        return keys;
+    }
+
+    private static Path toTemporaryFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".tmp");
+    }
+
+    private static LinkedHashMap<Integer, Long> toStamps(ReadOnlyActivityBook activityBook) {
+        LinkedHashMap<Integer, Long> stamps = new LinkedHashMap<>();
+        for (Activity activity : activityBook.getActivityList()) {
+            stamps.put(activity.getPrimaryKey(), activity.getModificationStamp());
+        }
+        return stamps;
+    }
+}
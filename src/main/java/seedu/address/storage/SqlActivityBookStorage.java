@@ -0,0 +1,350 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ActivityBook;
+import seedu.address.model.ReadOnlyActivityBook;
+import seedu.address.model.activity.Activity;
+import seedu.address.model.activity.Expense;
+
+/**
+ * A class to access ActivityBook data stored in an embedded SQL database on the hard disk, with tables of the
+ * activities, their participants, their expenses and the persons involved in each expense.
+ *
+ * Saving only writes the rows of the activities changed since the activity book was last read or saved, found by
+ * their modification stamps, in a single transaction. Of the expenses of a changed activity, only those added at
+ * the end are inserted and those deleted are updated, unless any other expense changed.
+ */
+public class SqlActivityBookStorage implements ActivityBookStorage {
+
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS activities (primary_key INT PRIMARY KEY, position INT NOT NULL, "
+                + "title VARCHAR NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS participants (activity_key INT NOT NULL, position INT NOT NULL, "
+                + "person_key INT NOT NULL, PRIMARY KEY (activity_key, position), "
+                + "FOREIGN KEY (activity_key) REFERENCES activities (primary_key) ON DELETE CASCADE)",
+        "CREATE TABLE IF NOT EXISTS expenses (activity_key INT NOT NULL, position INT NOT NULL, "
+                + "payer_key INT NOT NULL, amount DOUBLE PRECISION NOT NULL, description VARCHAR NOT NULL, "
+                + "is_settlement BOOLEAN NOT NULL, is_deleted BOOLEAN NOT NULL, involved_count INT NOT NULL, "
+                + "PRIMARY KEY (activity_key, position), "
+                + "FOREIGN KEY (activity_key) REFERENCES activities (primary_key) ON DELETE CASCADE)",
+        "CREATE TABLE IF NOT EXISTS involved (activity_key INT NOT NULL, expense_position INT NOT NULL, "
+                + "position INT NOT NULL, person_key INT NOT NULL, "
+                + "PRIMARY KEY (activity_key, expense_position, position), "
+                + "FOREIGN KEY (activity_key, expense_position) REFERENCES expenses (activity_key, position) "
+                + "ON DELETE CASCADE)",
+        "CREATE INDEX IF NOT EXISTS activities_position ON activities (position)",
+        "CREATE INDEX IF NOT EXISTS participants_activity_key ON participants (activity_key)",
+        "CREATE INDEX IF NOT EXISTS participants_person_key ON participants (person_key)",
+        "CREATE INDEX IF NOT EXISTS expenses_activity_key ON expenses (activity_key)",
+        "CREATE INDEX IF NOT EXISTS expenses_payer_key ON expenses (payer_key)",
+        "CREATE INDEX IF NOT EXISTS involved_expense ON involved (activity_key, expense_position)",
+        "CREATE INDEX IF NOT EXISTS involved_person_key ON involved (person_key)"
+    };
+
+    private static final Logger logger = LogsCenter.getLogger(SqlActivityBookStorage.class);
+
+    private final SqlDatabase database;
+
+    // The activities and their positions as last read or saved, by primary key, or null until the activity book has
+    // been read or saved.
+    private Map<Integer, SavedActivity> savedActivities;
+    private Map<Integer, Integer> savedPositions;
+
+    /**
+     * Creates a storage for the database in the file at {@code filePath}, which must end with ".mv.db".
+     */
+    public SqlActivityBookStorage(Path filePath) {
+        database = new SqlDatabase(filePath, SCHEMA);
+    }
+
+    @Override
+    public Path getActivityBookFilePath() {
+        return database.getFilePath();
+    }
+
+    @Override
+    public Optional<ActivityBook> readActivityBook() throws DataConversionException {
+        if (!database.exists()) {
+            logger.info("Database " + database.getFilePath() + " not found");
+            return Optional.empty();
+        }
+
+        Map<Integer, String> titles = new LinkedHashMap<>();
+        Map<Integer, Integer> positions = new HashMap<>();
+        Map<Integer, ArrayList<Integer>> participants = new HashMap<>();
+        Map<Integer, List<JsonAdaptedExpense>> expenses = new HashMap<>();
+        try (Connection connection = database.open();
+                Statement statement = connection.createStatement()) {
+            try (ResultSet rows = statement.executeQuery(
+                    "SELECT primary_key, position, title FROM activities ORDER BY position")) {
+                while (rows.next()) {
+                    positions.put(rows.getInt(1), rows.getInt(2));
+                    titles.put(rows.getInt(1), rows.getString(3));
+                }
+            }
+            try (ResultSet rows = statement.executeQuery(
+                    "SELECT activity_key, person_key FROM participants ORDER BY activity_key, position")) {
+                while (rows.next()) {
+                    participants.computeIfAbsent(rows.getInt(1), key -> new ArrayList<>()).add(rows.getInt(2));
+                }
+            }
+            Map<List<Integer>, List<Integer>> involved = new HashMap<>();
+            try (ResultSet rows = statement.executeQuery("SELECT activity_key, expense_position, person_key "
+                    + "FROM involved ORDER BY activity_key, expense_position, position")) {
+                while (rows.next()) {
+                    involved.computeIfAbsent(List.of(rows.getInt(1), rows.getInt(2)), key -> new ArrayList<>())
+                            .add(rows.getInt(3));
+                }
+            }
+            try (ResultSet rows = statement.executeQuery("SELECT activity_key, position, payer_key, amount, "
+                    + "description, is_settlement, is_deleted, involved_count "
+                    + "FROM expenses ORDER BY activity_key, position")) {
+                while (rows.next()) {
+                    int activityKey = rows.getInt(1);
+                    List<Integer> involvedIds = involved.getOrDefault(List.of(activityKey, rows.getInt(2)),
+                            List.of());
+                    int involvedCount = rows.getInt(8);
+                    if (involvedCount >= 0 && involvedCount != involvedIds.size()) {
+                        throw new SQLException("Missing persons involved in an expense of activity " + activityKey);
+                    }
+                    expenses.computeIfAbsent(activityKey, key -> new ArrayList<>()).add(new JsonAdaptedExpense(
+                            rows.getInt(3), rows.getDouble(4), rows.getString(5), rows.getBoolean(6),
+                            rows.getBoolean(7), involvedCount < 0
+                                    ? null
+                                    : involvedIds.stream().mapToInt(id -> id).toArray()));
+                }
+            }
+        } catch (IOException | SQLException e) {
+            logger.warning("Error reading from database " + database.getFilePath() + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        List<JsonAdaptedActivity> adaptedActivities = new ArrayList<>();
+        titles.forEach((primaryKey, title) -> adaptedActivities.add(new JsonAdaptedActivity(primaryKey, title,
+                participants.getOrDefault(primaryKey, new ArrayList<>()),
+                expenses.getOrDefault(primaryKey, List.of()))));
+        ActivityBook activityBook = new ActivityBook();
+        try {
+            for (Activity activity : ParallelConverter.convertAll(adaptedActivities, JsonAdaptedActivity::toModelType,
+                    "activity")) {
+                JsonActivityBook.addActivity(activityBook, activity);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + database.getFilePath() + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        savedActivities = toSavedActivities(activityBook);
+        savedPositions = positions;
+        return Optional.of(activityBook);
+    }
+
+    /**
+     * Writes the activities in {@code activityBook} added, changed or removed since it was last read or saved.
+     * Writes all activities if it has not been read or saved before.
+     */
+    @Override
+    public void saveActivityBook(ReadOnlyActivityBook activityBook) throws IOException {
+        requireNonNull(activityBook);
+        List<Activity> activities = activityBook.getActivityList();
+        Map<Integer, SavedActivity> saved = savedActivities == null ? Map.of() : savedActivities;
+        Map<Integer, Integer> positions = SqlDatabase.toPositions(
+                activities.stream().map(Activity::getPrimaryKey).collect(Collectors.toList()),
+                savedPositions == null ? Map.of() : savedPositions);
+
+        database.runInTransaction(connection -> {
+            if (savedActivities == null) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.executeUpdate("DELETE FROM activities");
+                }
+            }
+            try (Statements statements = new Statements(connection)) {
+                Map<Integer, SavedActivity> current = toSavedActivities(activityBook);
+                for (Integer primaryKey : saved.keySet()) {
+                    if (!current.containsKey(primaryKey)) {
+                        statements.deleteActivity.setInt(1, primaryKey);
+                        statements.deleteActivity.executeUpdate();
+                    }
+                }
+                for (Activity activity : activities) {
+                    int position = positions.get(activity.getPrimaryKey());
+                    SavedActivity savedActivity = saved.get(activity.getPrimaryKey());
+                    if (savedActivity == null || savedActivity.stamp != activity.getModificationStamp()
+                            || position != savedPositions.get(activity.getPrimaryKey())) {
+                        statements.write(activity, position, savedActivity);
+                    }
+                }
+                statements.executeBatches();
+            }
+        });
+
+        savedActivities = toSavedActivities(activityBook);
+        savedPositions = positions;
+    }
+
+    private static Map<Integer, SavedActivity> toSavedActivities(ReadOnlyActivityBook activityBook) {
+        Map<Integer, SavedActivity> activities = new HashMap<>();
+        for (Activity activity : activityBook.getActivityList()) {
+            activities.put(activity.getPrimaryKey(), new SavedActivity(activity));
+        }
+        return activities;
+    }
+
+    /**
+     * The details of an activity as last read or saved, to find what changed since.
+     */
+    private static class SavedActivity {
+        private final long stamp;
+        private final List<Integer> participantIds;
+        private final List<Expense> expenses;
+
+        SavedActivity(Activity activity) {
+            stamp = activity.getModificationStamp();
+            participantIds = new ArrayList<>(activity.getParticipantIds());
+            // the expenses are copied, as deleting an expense changes it in place
+            expenses = activity.getExpenses().stream().map(Expense::copy).collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * The statements writing the rows of the activities, with the expenses and the persons involved in them
+     * batched until {@link #executeBatches()}.
+     */
+    private static class Statements implements AutoCloseable {
+        private final PreparedStatement deleteActivity;
+        private final PreparedStatement mergeActivity;
+        private final PreparedStatement deleteParticipants;
+        private final PreparedStatement insertParticipant;
+        private final PreparedStatement deleteExpenses;
+        private final PreparedStatement updateDeleted;
+        private final PreparedStatement insertExpense;
+        private final PreparedStatement insertInvolved;
+
+        Statements(Connection connection) throws SQLException {
+            deleteActivity = connection.prepareStatement("DELETE FROM activities WHERE primary_key = ?");
+            mergeActivity = connection.prepareStatement(
+                    "MERGE INTO activities (primary_key, position, title) KEY (primary_key) VALUES (?, ?, ?)");
+            deleteParticipants = connection.prepareStatement("DELETE FROM participants WHERE activity_key = ?");
+            insertParticipant = connection.prepareStatement(
+                    "INSERT INTO participants (activity_key, position, person_key) VALUES (?, ?, ?)");
+            deleteExpenses = connection.prepareStatement(
+                    "DELETE FROM expenses WHERE activity_key = ? AND position >= ?");
+            updateDeleted = connection.prepareStatement(
+                    "UPDATE expenses SET is_deleted = ? WHERE activity_key = ? AND position = ?");
+            insertExpense = connection.prepareStatement("INSERT INTO expenses (activity_key, position, payer_key, "
+                    + "amount, description, is_settlement, is_deleted, involved_count) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+            insertInvolved = connection.prepareStatement("INSERT INTO involved "
+                    + "(activity_key, expense_position, position, person_key) VALUES (?, ?, ?, ?)");
+        }
+
+        /**
+         * Writes the rows of {@code activity} that differ from {@code saved}, or all its rows if it is null.
+         */
+        void write(Activity activity, int position, SavedActivity saved) throws SQLException {
+            int primaryKey = activity.getPrimaryKey();
+            mergeActivity.setInt(1, primaryKey);
+            mergeActivity.setInt(2, position);
+            mergeActivity.setString(3, activity.getTitle().title);
+            mergeActivity.executeUpdate();
+
+            List<Integer> participantIds = activity.getParticipantIds();
+            if (saved == null || !saved.participantIds.equals(participantIds)) {
+                deleteParticipants.setInt(1, primaryKey);
+                deleteParticipants.executeUpdate();
+                for (int i = 0; i < participantIds.size(); i++) {
+                    insertParticipant.setInt(1, primaryKey);
+                    insertParticipant.setInt(2, i);
+                    insertParticipant.setInt(3, participantIds.get(i));
+                    insertParticipant.addBatch();
+                }
+            }
+
+            List<Expense> expenses = activity.getExpenses();
+            List<Expense> savedExpenses = saved == null ? List.of() : saved.expenses;
+            int keptCount = 0;
+            while (keptCount < Math.min(expenses.size(), savedExpenses.size())
+                    && MappedActivityBookStorage.isSameExpense(expenses.get(keptCount),
+                            savedExpenses.get(keptCount))) {
+                Expense expense = expenses.get(keptCount);
+                if (expense.isDeleted() != savedExpenses.get(keptCount).isDeleted()) {
+                    updateDeleted.setBoolean(1, expense.isDeleted());
+                    updateDeleted.setInt(2, primaryKey);
+                    updateDeleted.setInt(3, keptCount);
+                    updateDeleted.addBatch();
+                }
+                keptCount++;
+            }
+            if (keptCount < savedExpenses.size()) {
+                deleteExpenses.setInt(1, primaryKey);
+                deleteExpenses.setInt(2, keptCount);
+                deleteExpenses.executeUpdate();
+            }
+            for (int i = keptCount; i < expenses.size(); i++) {
+                insertExpense(primaryKey, i, expenses.get(i));
+            }
+        }
+
+        private void insertExpense(int activityKey, int position, Expense expense) throws SQLException {
+            int[] involved = expense.getInvolved();
+            insertExpense.setInt(1, activityKey);
+            insertExpense.setInt(2, position);
+            insertExpense.setInt(3, expense.getPersonId());
+            insertExpense.setDouble(4, expense.getAmount().value);
+            insertExpense.setString(5, expense.getDescription());
+            insertExpense.setBoolean(6, expense.isSettlement());
+            insertExpense.setBoolean(7, expense.isDeleted());
+            insertExpense.setInt(8, involved == null ? -1 : involved.length);
+            insertExpense.addBatch();
+            if (involved == null) {
+                return;
+            }
+            for (int i = 0; i < involved.length; i++) {
+                insertInvolved.setInt(1, activityKey);
+                insertInvolved.setInt(2, position);
+                insertInvolved.setInt(3, i);
+                insertInvolved.setInt(4, involved[i]);
+                insertInvolved.addBatch();
+            }
+        }
+
+        /**
+         * Executes the batched statements, in an order that keeps every row of the persons involved in an expense
+         * after the row of its expense.
+         */
+        void executeBatches() throws SQLException {
+            insertParticipant.executeBatch();
+            updateDeleted.executeBatch();
+            insertExpense.executeBatch();
+            insertInvolved.executeBatch();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            for (PreparedStatement statement : List.of(deleteActivity, mergeActivity, deleteParticipants,
+                    insertParticipant, deleteExpenses, updateDeleted, insertExpense, insertInvolved)) {
+                statement.close();
+            }
+        }
+    }
+}
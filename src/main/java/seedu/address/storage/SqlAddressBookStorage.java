@@ -0,0 +1,222 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in an embedded SQL database on the hard disk, with a table of persons
+ * and a table of their tags.
+ *
+ * Saving only writes the rows of the persons added, changed or removed since the address book was last read or
+ * saved, in a single transaction, so the database is never left with only some of the changes.
+ */
+public class SqlAddressBookStorage implements AddressBookStorage {
+
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS persons (primary_key INT PRIMARY KEY, position INT NOT NULL, "
+                + "name VARCHAR NOT NULL, phone VARCHAR NOT NULL, email VARCHAR, address VARCHAR NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS tags (person_key INT NOT NULL, name VARCHAR NOT NULL, "
+                + "PRIMARY KEY (person_key, name), "
+                + "FOREIGN KEY (person_key) REFERENCES persons (primary_key) ON DELETE CASCADE)",
+        "CREATE INDEX IF NOT EXISTS persons_position ON persons (position)",
+        "CREATE INDEX IF NOT EXISTS tags_person_key ON tags (person_key)"
+    };
+
+    private static final Logger logger = LogsCenter.getLogger(SqlAddressBookStorage.class);
+
+    private final SqlDatabase database;
+
+    // The persons and their positions as last read or saved, by primary key, or null until the address book has
+    // been read or saved.
+    private Map<Integer, Person> savedPersons;
+    private Map<Integer, Integer> savedPositions;
+
+    /**
+     * Creates a storage for the database in the file at {@code filePath}, which must end with ".mv.db".
+     */
+    public SqlAddressBookStorage(Path filePath) {
+        database = new SqlDatabase(filePath, SCHEMA);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return database.getFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        if (!database.exists()) {
+            logger.info("Database " + database.getFilePath() + " not found");
+            return Optional.empty();
+        }
+
+        Map<Integer, JsonAdaptedPerson> adaptedPersons = new LinkedHashMap<>();
+        Map<Integer, Integer> positions = new HashMap<>();
+        try (Connection connection = database.open();
+                Statement statement = connection.createStatement()) {
+            Map<Integer, List<JsonAdaptedTag>> tags = new HashMap<>();
+            try (ResultSet rows = statement.executeQuery("SELECT person_key, name FROM tags")) {
+                while (rows.next()) {
+                    tags.computeIfAbsent(rows.getInt(1), key -> new ArrayList<>())
+                            .add(new JsonAdaptedTag(rows.getString(2)));
+                }
+            }
+            try (ResultSet rows = statement.executeQuery("SELECT primary_key, position, name, phone, email, address "
+                    + "FROM persons ORDER BY position")) {
+                while (rows.next()) {
+                    int primaryKey = rows.getInt(1);
+                    positions.put(primaryKey, rows.getInt(2));
+                    adaptedPersons.put(primaryKey, new JsonAdaptedPerson(primaryKey, rows.getString(3),
+                            rows.getString(4), rows.getString(5), rows.getString(6),
+                            tags.getOrDefault(primaryKey, List.of())));
+                }
+            }
+        } catch (IOException | SQLException e) {
+            logger.warning("Error reading from database " + database.getFilePath() + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            for (Person person : ParallelConverter.convertAll(new ArrayList<>(adaptedPersons.values()),
+                    JsonAdaptedPerson::toModelType, "person")) {
+                JsonSerializableAddressBook.addPerson(addressBook, person);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + database.getFilePath() + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        savedPersons = toPersons(addressBook);
+        savedPositions = positions;
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Reads the address book from the database this storage was created with, which is the only one it accesses.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        return readAddressBook();
+    }
+
+    /**
+     * Writes the persons in {@code addressBook} added, changed or removed since it was last read or saved. Writes
+     * all persons if it has not been read or saved before.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        List<Person> persons = addressBook.getPersonList();
+        Map<Integer, Person> saved = savedPersons == null ? Map.of() : savedPersons;
+        Map<Integer, Integer> positions = SqlDatabase.toPositions(
+                persons.stream().map(Person::getPrimaryKey).collect(Collectors.toList()),
+                savedPositions == null ? Map.of() : savedPositions);
+
+        database.runInTransaction(connection -> {
+            if (savedPersons == null) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.executeUpdate("DELETE FROM persons");
+                }
+            }
+            try (PreparedStatement delete = connection.prepareStatement(
+                    "DELETE FROM persons WHERE primary_key = ?");
+                    PreparedStatement deleteTags = connection.prepareStatement(
+                            "DELETE FROM tags WHERE person_key = ?");
+                    PreparedStatement merge = connection.prepareStatement("MERGE INTO persons "
+                            + "(primary_key, position, name, phone, email, address) KEY (primary_key) "
+                            + "VALUES (?, ?, ?, ?, ?, ?)");
+                    PreparedStatement updatePosition = connection.prepareStatement(
+                            "UPDATE persons SET position = ? WHERE primary_key = ?");
+                    PreparedStatement insertTag = connection.prepareStatement(
+                            "INSERT INTO tags (person_key, name) VALUES (?, ?)")) {
+                Map<Integer, Person> current = toPersons(addressBook);
+                for (Integer primaryKey : saved.keySet()) {
+                    if (!current.containsKey(primaryKey)) {
+                        delete.setInt(1, primaryKey);
+                        delete.addBatch();
+                    }
+                }
+                delete.executeBatch();
+
+                for (Person person : persons) {
+                    int primaryKey = person.getPrimaryKey();
+                    int position = positions.get(primaryKey);
+                    Person savedPerson = saved.get(primaryKey);
+                    if (person.equals(savedPerson)) {
+                        if (position != savedPositions.get(primaryKey)) {
+                            updatePosition.setInt(1, position);
+                            updatePosition.setInt(2, primaryKey);
+                            updatePosition.addBatch();
+                        }
+                        continue;
+                    }
+                    merge.setInt(1, primaryKey);
+                    merge.setInt(2, position);
+                    merge.setString(3, person.getName().fullName);
+                    merge.setString(4, person.getPhone().value);
+                    merge.setString(5, person.getEmail().value.orElse(null));
+                    merge.setString(6, person.getAddress().value);
+                    merge.addBatch();
+                    if (savedPerson == null || !person.getTags().equals(savedPerson.getTags())) {
+                        deleteTags.setInt(1, primaryKey);
+                        deleteTags.addBatch();
+                        for (Tag tag : person.getTags()) {
+                            insertTag.setInt(1, primaryKey);
+                            insertTag.setString(2, tag.tagName);
+                            insertTag.addBatch();
+                        }
+                    }
+                }
+                merge.executeBatch();
+                updatePosition.executeBatch();
+                deleteTags.executeBatch();
+                insertTag.executeBatch();
+            }
+        });
+
+        savedPersons = toPersons(addressBook);
+        savedPositions = positions;
+    }
+
+    /**
+     * Saves the address book to the database this storage was created with, which is the only one it accesses.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        saveAddressBook(addressBook);
+    }
+
+    private static Map<Integer, Person> toPersons(ReadOnlyAddressBook addressBook) {
+        Map<Integer, Person> persons = new HashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            persons.put(person.getPrimaryKey(), person);
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * An embedded H2 database kept in a single file on the hard disk, with its tables created when it is first opened.
+ * A connection is opened for each read or save, so the file is only locked while it is in use.
+ */
+class SqlDatabase {
+
+    /** The extension H2 gives the file of a database. */
+    static final String FILE_EXTENSION = ".mv.db";
+
+    private final Path filePath;
+    private final String[] schema;
+
+    /**
+     * Creates a database in the file at {@code filePath}, which must end with {@link #FILE_EXTENSION}, with the
+     * tables and indexes created by the statements in {@code schema} if they do not exist yet.
+     */
+    SqlDatabase(Path filePath, String... schema) {
+        requireNonNull(filePath);
+        requireNonNull(schema);
+        if (!filePath.getFileName().toString().endsWith(FILE_EXTENSION)) {
+            throw new IllegalArgumentException("A database file must end with " + FILE_EXTENSION);
+        }
+        this.filePath = filePath;
+        this.schema = schema.clone();
+    }
+
+    Path getFilePath() {
+        return filePath;
+    }
+
+    boolean exists() {
+        return Files.exists(filePath);
+    }
+
+    /**
+     * Opens a connection to the database, creating it if it does not exist yet. Changes made through the connection
+     * are only committed when {@link Connection#commit()} is called.
+     */
+    Connection open() throws IOException, SQLException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Connection connection = DriverManager.getConnection(toUrl(filePath));
+        try {
+            try (Statement statement = connection.createStatement()) {
+                for (String sql : schema) {
+                    statement.execute(sql);
+                }
+            }
+            connection.setAutoCommit(false);
+            return connection;
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Runs {@code work} in a single transaction, which is rolled back if it fails.
+     *
+     * @throws IOException if the database cannot be opened or {@code work} fails.
+     */
+    void runInTransaction(Work work) throws IOException {
+        try (Connection connection = open()) {
+            try {
+                work.run(connection);
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IOException("Error writing to database " + filePath + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the position to store each of {@code keys} at, so that they are read back in the same order, keeping
+     * the positions in {@code savedPositions} where possible. The keys are renumbered from 0 only if they are no
+     * longer in the order they were saved in, so removing a row or adding one at the end leaves the others as they
+     * are.
+     */
+    static Map<Integer, Integer> toPositions(List<Integer> keys, Map<Integer, Integer> savedPositions) {
+        Map<Integer, Integer> positions = new HashMap<>();
+        int lastPosition = -1;
+        boolean isNewKeyFound = false;
+        for (Integer key : keys) {
+            Integer savedPosition = savedPositions.get(key);
+            if (savedPosition == null) {
+                isNewKeyFound = true;
+                lastPosition++;
+            } else if (!isNewKeyFound && savedPosition > lastPosition) {
+                lastPosition = savedPosition;
+            } else {
+                positions.clear();
+                for (int i = 0; i < keys.size(); i++) {
+                    positions.put(keys.get(i), i);
+                }
+                return positions;
+            }
+            positions.put(key, lastPosition);
+        }
+        return positions;
+    }
+
+    private static String toUrl(Path filePath) {
+        String path = filePath.toAbsolutePath().toString();
+        return "jdbc:h2:file:" + path.substring(0, path.length() - FILE_EXTENSION.length());
+    }
+
+    /**
+     * Changes made to the database in a transaction.
+     */
+    @FunctionalInterface
+    interface Work {
+        void run(Connection connection) throws SQLException;
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Optional;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ActivityBook;
 import seedu.address.model.InternalState;
+import seedu.address.model.ReadOnlyActivityBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -47,6 +48,6 @@ public interface Storage extends AddressBookStorage,
     Optional<ActivityBook> readActivityBook() throws DataConversionException, IOException;
 
     @Override
-    void saveActivityBook(ActivityBook activityBook) throws IOException;
+    void saveActivityBook(ReadOnlyActivityBook activityBook) throws IOException;
 
 }
@@ -9,6 +9,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ActivityBook;
 import seedu.address.model.InternalState;
+import seedu.address.model.ReadOnlyActivityBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -82,7 +83,8 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook()
         throws DataConversionException, IOException {
-        return readAddressBook(addressBookStorage.getAddressBookFilePath());
+        logger.fine("Attempting to read data from file: " + addressBookStorage.getAddressBookFilePath());
+        return addressBookStorage.readAddressBook();
     }
 
     @Override
@@ -95,10 +97,8 @@ public class StorageManager implements Storage {
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook)
         throws IOException {
-        saveAddressBook(
-            addressBook,
-            addressBookStorage.getAddressBookFilePath()
-        );
+        logger.fine("Attempting to write to data file: " + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.saveAddressBook(addressBook);
     }
 
     @Override
@@ -107,6 +107,12 @@ public class StorageManager implements Storage {
         logger.fine("Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
+
+    @Override
+    public void compactAddressBook() throws IOException {
+        addressBookStorage.compactAddressBook();
+    }
+
     // ================ ActivityBook methods ==============================
 
     @Override
@@ -120,7 +126,12 @@ public class StorageManager implements Storage {
     }
 
     @Override
-    public void saveActivityBook(ActivityBook activityBook) throws IOException {
+    public void saveActivityBook(ReadOnlyActivityBook activityBook) throws IOException {
         activityBookStorage.saveActivityBook(activityBook);
     }
+
+    @Override
+    public void compactActivityBook() throws IOException {
+        activityBookStorage.compactActivityBook();
+    }
 }
@@ -0,0 +1,321 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.Triplet;
+import seedu.address.model.ActivityBook;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyActivityBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.activity.Activity;
+import seedu.address.model.activity.Amount;
+import seedu.address.model.activity.BalanceSnapshot;
+import seedu.address.model.activity.Expense;
+import seedu.address.model.activity.Title;
+import seedu.address.model.activity.exceptions.ExpenseLoadException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A binary image of the address book and activity book as they were when the app last exited, from which the next
+ * launch restores them without reading their data files, as long as those files have not changed since.
+ *
+ * The image is keyed by the path, size and last modified time of each file in the directories of the data files,
+ * so checking it reads no file contents. It holds the persons, and the activities with their balances, so the books
+ * are built straight from it: there is no JSON to parse, no adapted objects to check, and no expenses to replay. An
+ * image that cannot be read or built into books is ignored, and the data files are read as usual. The image is
+ * deleted once it is read, as it no longer matches the books once they are next saved.
+ */
+public class WarmStartImage {
+
+    /** The name of the image file, kept next to the address book. */
+    public static final String FILE_NAME = "startup.image";
+
+    /** The first four bytes of every image file, "SWSI". */
+    static final int MAGIC = 0x53575349;
+    static final int FORMAT_VERSION = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(WarmStartImage.class);
+
+    private final Path filePath;
+
+    public WarmStartImage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the image kept for the address book at {@code addressBookFilePath}.
+     */
+    public static Path getImageFilePath(Path addressBookFilePath) {
+        requireNonNull(addressBookFilePath);
+        return addressBookFilePath.resolveSibling(FILE_NAME);
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Saves {@code addressBook} and {@code activityBook} as they are stored in the files at
+     * {@code sourceFilePaths}, which they must have just been saved to.
+     */
+    public void save(ReadOnlyAddressBook addressBook, ReadOnlyActivityBook activityBook, List<Path> sourceFilePaths)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(activityBook);
+        requireNonNull(sourceFilePaths);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (BinaryDataOutput out = new BinaryDataOutput(FileUtil.openOutputStream(temporaryFilePath, false))) {
+            out.writeHeader(MAGIC, FORMAT_VERSION);
+            writeKey(out, sourceFilePaths);
+            out.writeVarInt(addressBook.getPersonList().size());
+            for (Person person : addressBook.getPersonList()) {
+                writePerson(out, person);
+            }
+            out.writeVarInt(activityBook.getActivityList().size());
+            for (Activity activity : activityBook.getActivityList()) {
+                writeActivity(out, activity);
+            }
+        } catch (IOException | ExpenseLoadException e) {
+            Files.deleteIfExists(temporaryFilePath);
+            throw e instanceof IOException ? (IOException) e : new IOException(e.getMessage(), e);
+        }
+        Files.move(temporaryFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns the books in the image, if it was saved with the files at {@code sourceFilePaths} as they are now.
+     * Returns {@code Optional.empty()} if there is no image, the files changed since it was saved, or it cannot be
+     * read. The image is deleted in any case.
+     */
+    public Optional<Contents> restore(List<Path> sourceFilePaths) {
+        requireNonNull(sourceFilePaths);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (BinaryDataInput in = new BinaryDataInput(new ByteArrayInputStream(Files.readAllBytes(filePath)))) {
+            in.readHeader(MAGIC, FORMAT_VERSION);
+            if (!readKey(in).equals(toKey(sourceFilePaths))) {
+                logger.info("Data files changed since " + filePath + " was saved");
+                return Optional.empty();
+            }
+            AddressBook addressBook = new AddressBook();
+            for (int i = in.readCount(); i > 0; i--) {
+                addressBook.addPerson(readPerson(in));
+            }
+            ActivityBook activityBook = new ActivityBook();
+            for (int i = in.readCount(); i > 0; i--) {
+                activityBook.addActivity(readActivity(in));
+            }
+            logger.info("Restored the address book and activity book from " + filePath);
+            return Optional.of(new Contents(addressBook, activityBook));
+        } catch (IOException | RuntimeException e) {
+            // a corrupted image can also hold values that the books reject, such as duplicate persons
+            logger.warning("Error reading from image " + filePath + ": " + e);
+            return Optional.empty();
+        } finally {
+            try {
+                Files.deleteIfExists(filePath);
+            } catch (IOException e) {
+                logger.warning("Failed to delete image " + filePath + ": " + e);
+            }
+        }
+    }
+
+    /**
+     * Returns the path, size and last modified time of every file kept next to the files at {@code sourceFilePaths},
+     * in the form written to the image. Files are kept next to each other by the journals, the expense store and the
+     * activity files, so all of them are covered, along with any other file in the same directories.
+     */
+    private List<Object> toKey(List<Path> sourceFilePaths) throws IOException {
+        Set<Path> filePaths = new TreeSet<>();
+        for (Path sourceFilePath : sourceFilePaths) {
+            Path directory = sourceFilePath.toAbsolutePath().normalize().getParent();
+            if (directory == null || !Files.isDirectory(directory)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.list(directory)) {
+                files.filter(Files::isRegularFile)
+                        .filter(file -> !file.getFileName().toString().startsWith(filePath.getFileName().toString()))
+                        .forEach(filePaths::add);
+            }
+        }
+
+        List<Object> key = new ArrayList<>();
+        for (Path file : filePaths) {
+            key.add(file.toString());
+            key.add(Files.size(file));
+            key.add(Files.getLastModifiedTime(file).toMillis());
+        }
+        return key;
+    }
+
+    private void writeKey(BinaryDataOutput out, List<Path> sourceFilePaths) throws IOException {
+        List<Object> key = toKey(sourceFilePaths);
+        out.writeVarInt(key.size() / 3);
+        for (int i = 0; i < key.size(); i += 3) {
+            out.writeString((String) key.get(i));
+            out.writeLong((Long) key.get(i + 1));
+            out.writeLong((Long) key.get(i + 2));
+        }
+    }
+
+    private static List<Object> readKey(BinaryDataInput in) throws IOException {
+        List<Object> key = new ArrayList<>();
+        for (int i = in.readCount(); i > 0; i--) {
+            key.add(in.readString());
+            key.add(in.readLong());
+            key.add(in.readLong());
+        }
+        return key;
+    }
+
+    private static void writePerson(BinaryDataOutput out, Person person) throws IOException {
+        out.writeVarInt(person.getPrimaryKey());
+        out.writeString(person.getName().fullName);
+        out.writeString(person.getPhone().value);
+        Optional<String> email = person.getEmail().value;
+        out.writeBoolean(email.isPresent());
+        if (email.isPresent()) {
+            out.writeString(email.get());
+        }
+        out.writeString(person.getAddress().value);
+        out.writeVarInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeString(tag.tagName);
+        }
+    }
+
+    private static Person readPerson(BinaryDataInput in) throws IOException {
+        int primaryKey = in.readVarInt();
+        if (primaryKey < 0) {
+            throw new IOException(JsonAdaptedPerson.NEGATIVE_PRIMARY_KEY_MESSAGE);
+        }
+        Name name = new Name(in.readString());
+        Phone phone = new Phone(in.readString());
+        Email email = new Email(in.readBoolean() ? Optional.of(in.readString()) : Optional.empty());
+        Address address = new Address(in.readString());
+        Set<Tag> tags = new HashSet<>();
+        for (int i = in.readCount(); i > 0; i--) {
+            tags.add(new Tag(in.readString()));
+        }
+        return new Person(primaryKey, name, phone, email, address, tags);
+    }
+
+    private static void writeActivity(BinaryDataOutput out, Activity activity) throws IOException {
+        out.writeVarInt(activity.getPrimaryKey());
+        out.writeString(activity.getTitle().title);
+        out.writeVarInt(activity.getParticipantIds().size());
+        for (int id : activity.getParticipantIds()) {
+            out.writeVarInt(id);
+        }
+        List<Expense> expenses = activity.getExpenses();
+        out.writeVarInt(expenses.size());
+        for (Expense expense : expenses) {
+            out.writeVarInt(expense.getPersonId());
+            out.writeDouble(expense.getAmount().value);
+            out.writeString(expense.getDescription());
+            out.writeBoolean(expense.isSettlement());
+            out.writeBoolean(expense.isDeleted());
+            int[] involved = expense.getInvolved();
+            out.writeVarInt(involved.length);
+            for (int id : involved) {
+                out.writeVarInt(id);
+            }
+        }
+
+        BalanceSnapshot balances = activity.getBalanceSnapshot();
+        out.writeVarInt(balances.getActiveParticipantIds().size());
+        for (int id : balances.getActiveParticipantIds()) {
+            out.writeVarInt(id);
+        }
+        out.writeVarInt(balances.getDebts().size());
+        for (Triplet<Integer, Integer, Double> debt : balances.getDebts()) {
+            out.writeVarInt(debt.getFirst());
+            out.writeVarInt(debt.getSecond());
+            out.writeDouble(debt.getThird());
+        }
+    }
+
+    private static Activity readActivity(BinaryDataInput in) throws IOException {
+        int primaryKey = in.readVarInt();
+        Title title = new Title(in.readString());
+        Integer[] participantIds = new Integer[in.readCount()];
+        for (int i = 0; i < participantIds.length; i++) {
+            participantIds[i] = in.readVarInt();
+        }
+        List<Expense> expenses = new ArrayList<>();
+        for (int i = in.readCount(); i > 0; i--) {
+            int payer = in.readVarInt();
+            Amount amount = new Amount(in.readDouble());
+            String description = in.readString();
+            boolean isSettlement = in.readBoolean();
+            boolean isDeleted = in.readBoolean();
+            int[] involved = new int[in.readCount()];
+            for (int j = 0; j < involved.length; j++) {
+                involved[j] = in.readVarInt();
+            }
+            Expense expense = new Expense(payer, amount, description, isSettlement, involved);
+            if (isDeleted) {
+                expense.delete();
+            }
+            expenses.add(expense);
+        }
+
+        Set<Integer> activeParticipantIds = new HashSet<>();
+        for (int i = in.readCount(); i > 0; i--) {
+            activeParticipantIds.add(in.readVarInt());
+        }
+        List<Triplet<Integer, Integer, Double>> debts = new ArrayList<>();
+        for (int i = in.readCount(); i > 0; i--) {
+            debts.add(new Triplet<>(in.readVarInt(), in.readVarInt(), in.readDouble()));
+        }
+        return new Activity(primaryKey, title, expenses, new BalanceSnapshot(activeParticipantIds, debts),
+                participantIds);
+    }
+
+    /**
+     * The books restored from an image.
+     */
+    public static class Contents {
+        private final AddressBook addressBook;
+        private final ActivityBook activityBook;
+
+        Contents(AddressBook addressBook, ActivityBook activityBook) {
+            this.addressBook = addressBook;
+            this.activityBook = activityBook;
+        }
+
+        public AddressBook getAddressBook() {
+            return addressBook;
+        }
+
+        public ActivityBook getActivityBook() {
+            return activityBook;
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ActivityBook;
+import seedu.address.model.InternalState;
+import seedu.address.model.ReadOnlyActivityBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.activity.Activity;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes the address book and activity book to another {@code Storage} in the background.
+ *
+ * Saving a book only takes a copy of it in memory and returns, leaving the copy to be written by a single writer
+ * thread. If a book is saved again before its previous copy has been written, only the latest copy is written.
+ * A copy that fails to be written is kept and written again with the next write, unless a newer copy replaces it.
+ * Failures are reported to the save failure handler, as they happen after the save has returned.
+ *
+ * User preferences and the internal state are small, and are read and written directly.
+ */
+public class WriteBehindStorage implements Storage {
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The copies waiting to be written, and whether a write has been queued for them. Guarded by this.
+    private ReadOnlyAddressBook pendingAddressBook;
+    private ReadOnlyActivityBook pendingActivityBook;
+    private boolean isWriteQueued;
+
+    // The copies of the activities last saved, by modification stamp. A copy is never changed once taken, so an
+    // activity that has not changed since is not copied again. Only used by the thread saving the books.
+    private Map<Long, Activity> savedActivityCopies = new HashMap<>();
+
+    private volatile Consumer<IOException> saveFailureHandler = e -> { };
+
+    public WriteBehindStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the handler called with the cause of each failed write. It is called on the writer thread.
+     */
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Writes the copies waiting to be written, returning once they are written.
+     * @throws IOException if any of the copies could not be written
+     */
+    public void flush() throws IOException {
+        awaitWriter(writer.submit(this::writePending));
+    }
+
+    /**
+     * Waits for {@code task} on the writer thread to finish.
+     * @throws IOException if the task failed, or returned the cause of a failure
+     */
+    private void awaitWriter(Future<IOException> task) throws IOException {
+        IOException failure;
+        try {
+            failure = task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be saved", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Could not save data", e.getCause());
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes the copies waiting to be written and stops the writer thread.
+     * No books should be saved afterwards.
+     * @throws IOException if any of the copies could not be written
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    /**
+     * Writes the latest copies of both books, if any.
+     * Returns the cause of the last failed write, or null if all copies were written.
+     */
+    private IOException writePending() {
+        ReadOnlyAddressBook addressBook;
+        ReadOnlyActivityBook activityBook;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            activityBook = pendingActivityBook;
+            pendingAddressBook = null;
+            pendingActivityBook = null;
+            isWriteQueued = false;
+        }
+
+        IOException failure = null;
+        if (addressBook != null) {
+            try {
+                storage.saveAddressBook(addressBook);
+            } catch (IOException e) {
+                failure = e;
+                synchronized (this) {
+                    if (pendingAddressBook == null) {
+                        pendingAddressBook = addressBook;
+                    }
+                }
+            }
+        }
+        if (activityBook != null) {
+            try {
+                storage.saveActivityBook(activityBook);
+            } catch (IOException e) {
+                failure = e;
+                synchronized (this) {
+                    if (pendingActivityBook == null) {
+                        pendingActivityBook = activityBook;
+                    }
+                }
+            }
+        }
+
+        if (failure != null) {
+            logger.warning("Could not save data: " + failure);
+            saveFailureHandler.accept(failure);
+        }
+        return failure;
+    }
+
+    /**
+     * Queues a write of the pending copies, unless one is already queued. Must be called holding the lock.
+     */
+    private void queueWrite() {
+        if (!isWriteQueued) {
+            isWriteQueued = true;
+            writer.execute(this::writePending);
+        }
+    }
+
+    // ================ InternalState methods ===========================
+
+    @Override
+    public Path getInternalStateFilePath() {
+        return storage.getInternalStateFilePath();
+    }
+
+    @Override
+    public Optional<InternalState> readInternalState() throws DataConversionException, IOException {
+        return storage.readInternalState();
+    }
+
+    @Override
+    public void saveInternalState(InternalState state) throws IOException {
+        storage.saveInternalState(state);
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        flush();
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * Saves a copy of {@code addressBook} in the background. Only the list of persons is copied, as persons are
+     * immutable, and none of the indexes of the address book are built for the copy.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        ReadOnlyAddressBook copy = new AddressBookSnapshot(List.copyOf(addressBook.getPersonList()));
+        synchronized (this) {
+            pendingAddressBook = copy;
+            queueWrite();
+        }
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code filePath} directly, once the copies waiting to be written are written.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        flush();
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Compacts the address book on the writer thread, once the copies waiting to be written are written.
+     */
+    @Override
+    public void compactAddressBook() throws IOException {
+        flush();
+        awaitWriter(writer.submit(() -> {
+            storage.compactAddressBook();
+            return null;
+        }));
+    }
+
+    // ================ ActivityBook methods ==============================
+
+    @Override
+    public Path getActivityBookFilePath() {
+        return storage.getActivityBookFilePath();
+    }
+
+    @Override
+    public Optional<ActivityBook> readActivityBook() throws DataConversionException, IOException {
+        flush();
+        return storage.readActivityBook();
+    }
+
+    /**
+     * Saves a copy of {@code activityBook} in the background. Activities change in place, so each activity changed
+     * since the last save is copied, while the copies of the others are reused. None of the indexes of the activity
+     * book are built for the copy.
+     */
+    @Override
+    public void saveActivityBook(ReadOnlyActivityBook activityBook) {
+        requireNonNull(activityBook);
+        Map<Long, Activity> activityCopies = new HashMap<>();
+        List<Activity> activities = new ArrayList<>(activityBook.getActivityList().size());
+        for (Activity activity : activityBook.getActivityList()) {
+            long stamp = activity.getModificationStamp();
+            Activity activityCopy = savedActivityCopies.get(stamp);
+            if (activityCopy == null || activityCopy.getPrimaryKey() != activity.getPrimaryKey()) {
+                activityCopy = activity.copy();
+            }
+            activityCopies.put(stamp, activityCopy);
+            activities.add(activityCopy);
+        }
+        savedActivityCopies = activityCopies;
+        ReadOnlyActivityBook copy = new ActivityBookSnapshot(Collections.unmodifiableList(activities));
+        synchronized (this) {
+            pendingActivityBook = copy;
+            queueWrite();
+        }
+    }
+
+    /**
+     * Compacts the activity book on the writer thread, once the copies waiting to be written are written.
+     */
+    @Override
+    public void compactActivityBook() throws IOException {
+        flush();
+        awaitWriter(writer.submit(() -> {
+            storage.compactActivityBook();
+            return null;
+        }));
+    }
+
+    /**
+     * An unchanging copy of the persons in an address book, without any of its indexes.
+     */
+    private static class AddressBookSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+
+        AddressBookSnapshot(List<Person> persons) {
+            this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public Optional<Person> getPersonByPrimaryKey(int primaryKey) {
+            return persons.stream().filter(person -> person.getPrimaryKey() == primaryKey).findFirst();
+        }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
+    }
+
+    /**
+     * An unchanging copy of the activities in an activity book, without any of its indexes.
+     */
+    private static class ActivityBookSnapshot implements ReadOnlyActivityBook {
+        private final ObservableList<Activity> activities;
+
+        ActivityBookSnapshot(List<Activity> activities) {
+            this.activities = FXCollections.unmodifiableObservableList(FXCollections.observableList(activities));
+        }
+
+        @Override
+        public ObservableList<Activity> getActivityList() {
+            return activities;
+        }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
+    }
+}
@@ -1,8 +1,6 @@
 package seedu.address.ui;
 
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import javafx.fxml.FXML;
@@ -12,9 +10,9 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import seedu.address.commons.util.Triplet;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.activity.Activity;
 import seedu.address.model.activity.Expense;
-import seedu.address.model.person.Person;
 import seedu.address.ui.util.UiUtil;
 
 /**
@@ -40,14 +38,14 @@ public class ActivityDetailsPanel extends UiPart<Region> {
     @FXML
     private VBox transferList;
 
-    public ActivityDetailsPanel(Activity viewedActivity, List<Person> participants) {
+    public ActivityDetailsPanel(Activity viewedActivity, ReadOnlyAddressBook addressBook) {
         super(FXML);
         this.activity = viewedActivity;
 
         title.setText(activity.getTitle().toString());
 
-        participants.stream()
-                .map((participant) -> participant.getName().toString())
+        activity.getParticipantIds().stream()
+                .map(participantId -> UiUtil.getContactName(addressBook, participantId))
                 .forEach(name -> participantTags.getChildren().add(new Label(name)));
 
         int numParticipants = activity.getParticipantCount();
@@ -59,20 +57,18 @@ public class ActivityDetailsPanel extends UiPart<Region> {
         List<Expense> expenses = activity.getExpenses();
         IntStream.range(0, expenses.size())
                 .forEach(index -> {
-                    ExpenseCard newNode = new ExpenseCard(expenses.get(index), participants, index + 1);
+                    ExpenseCard newNode = new ExpenseCard(expenses.get(index), addressBook, index + 1);
                     expenseHistory.getChildren().add(newNode.getRoot());
                 });
 
-        Map<Integer, Person> idMapping = participants.stream()
-                .collect(Collectors.toMap(p -> p.getPrimaryKey(), p -> p));
-
         // Retrieve required transfers to settle all debts within this activity
         List<Triplet<Integer, Integer, Double>> listTransfers = activity.getSolution();
 
         listTransfers.stream()
                 .forEach(transfer -> {
-                    Person sender = idMapping.get(transfer.getFirst());
-                    Person recipient = idMapping.get(transfer.getSecond());
+                    // Participants deleted since are shown by a placeholder name
+                    String sender = UiUtil.getContactName(addressBook, transfer.getFirst());
+                    String recipient = UiUtil.getContactName(addressBook, transfer.getSecond());
                     double transferAmt = transfer.getThird();
 
                     TransferCard newNode = new TransferCard(sender, recipient, transferAmt);
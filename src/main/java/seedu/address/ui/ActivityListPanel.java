@@ -1,13 +1,15 @@
 package seedu.address.ui;
 
+import java.util.function.BiFunction;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
+import javafx.beans.Observable;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.Page;
 import seedu.address.model.activity.Activity;
 
 /**
@@ -20,10 +22,17 @@ public class ActivityListPanel extends UiPart<Region> {
     @FXML
     private ListView<Activity> listView;
 
-    public ActivityListPanel(ObservableList<Activity> activityList) {
+    private final PagedListLoader<Activity> pagedListLoader;
+
+    /**
+     * Creates a panel showing the entries of {@code activityList}, which are loaded a page at a time from
+     * {@code pageSource} as the user scrolls.
+     */
+    public ActivityListPanel(Observable activityList, BiFunction<Integer, Integer, Page<Activity>> pageSource) {
         super(FXML);
+        pagedListLoader = new PagedListLoader<>(activityList, pageSource);
         logger.info("Created ActivityListPanel to list activity entries.");
-        listView.setItems(activityList);
+        listView.setItems(pagedListLoader.getLoadedItems());
         listView.setCellFactory(listView -> new ListViewCell());
     }
 
@@ -48,6 +57,7 @@ public class ActivityListPanel extends UiPart<Region> {
                 setText(null);
             } else {
                 setGraphic(new ActivityCard(activity, getIndex() + 1).getRoot());
+                pagedListLoader.onShown(getIndex());
             }
         }
     }
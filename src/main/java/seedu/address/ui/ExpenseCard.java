@@ -1,10 +1,7 @@
 package seedu.address.ui;
 
 import java.util.Arrays;
-import java.util.List;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
 import javafx.scene.Node;
@@ -12,8 +9,8 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.activity.Expense;
-import seedu.address.model.person.Person;
 import seedu.address.ui.util.UiUtil;
 
 /**
@@ -43,7 +40,7 @@ public class ExpenseCard extends UiPart<Region> {
     @FXML
     private Label amount;
 
-    public ExpenseCard(Expense expense, List<Person> activityParticipants, int displayIndex) {
+    public ExpenseCard(Expense expense, ReadOnlyAddressBook addressBook, int displayIndex) {
         super(FXML);
         this.index = displayIndex;
         this.expense = expense;
@@ -58,23 +55,13 @@ public class ExpenseCard extends UiPart<Region> {
         double expenseAmt = expense.getAmount().value;
         amount.setText(UiUtil.formatAmount(expenseAmt));
 
-        int expenseOwnerId = expense.getPersonId();
-        Optional<Person> expenseOwnerOpt = activityParticipants.stream()
-                .filter((participant) -> expenseOwnerId == participant.getPrimaryKey())
-                .findFirst();
-        assert expenseOwnerOpt.isPresent() : "Expense is missing a participant as owner!";
-
-        Person expenseOwner = expenseOwnerOpt.get();
         // Expense owner's label always appears first in the FlowPane and is coloured differently
-        paidBy.setText(String.format("Paid by: %s", expenseOwner.getName().toString()));
-
-        Set<Integer> involvedIds = Arrays.stream(expense.getInvolved())
-                .boxed()
-                .collect(Collectors.toUnmodifiableSet());
+        paidBy.setText(String.format("Paid by: %s", UiUtil.getContactName(addressBook, expense.getPersonId())));
 
         // Retrieve the name of each participant and create a separate tag to display each
-        activityParticipants.stream()
-                .filter((participant) -> involvedIds.contains(participant.getPrimaryKey()))
+        Arrays.stream(expense.getInvolved())
+                .mapToObj(addressBook::getPersonByPrimaryKey)
+                .flatMap(Optional::stream)
                 .map((participant) -> participant.getName().toString())
                 .forEach(name -> sharedBy.getChildren().add(new Label(name)));
 
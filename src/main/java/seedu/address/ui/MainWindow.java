@@ -87,8 +87,8 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the containers of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
-        activityListPanel = new ActivityListPanel(logic.getFilteredActivityList());
+        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), logic::getFilteredPersonPage);
+        activityListPanel = new ActivityListPanel(logic.getFilteredActivityList(), logic::getFilteredActivityPage);
 
         // Show contacts by default
         contentContainer.getChildren().add(personListPanel.getRoot());
@@ -176,9 +176,8 @@ public class MainWindow extends UiPart<Stage> {
         case VIEW_ACTIVITY:
             statusBarFooter.setMessage("Context: viewing an activity");
             Activity viewedActivity = newContext.getActivity().get();
-            List<Person> associatedPersons = logic.getAssociatedPersons(viewedActivity);
 
-            activityDetailsPanel = new ActivityDetailsPanel(viewedActivity, associatedPersons);
+            activityDetailsPanel = new ActivityDetailsPanel(viewedActivity, logic.getAddressBook());
             contentContainer.getChildren().add(activityDetailsPanel.getRoot());
             break;
         default:
@@ -187,6 +186,13 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Shows {@code message} in the status bar, until the next change of context.
+     */
+    void setStatusMessage(String message) {
+        statusBarFooter.setMessage(message);
+    }
+
     public PersonListPanel getPersonListPanel() {
         return personListPanel;
     }
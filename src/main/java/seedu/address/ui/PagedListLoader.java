@@ -0,0 +1,69 @@
+package seedu.address.ui;
+
+import static seedu.address.model.Model.PAGE_SIZE;
+
+import java.util.function.BiFunction;
+
+import javafx.application.Platform;
+import javafx.beans.Observable;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.Page;
+
+/**
+ * Supplies the entries shown in a list panel one page at a time, so that only the entries the user has
+ * scrolled to are copied into the panel. The next page is loaded once the last loaded entry is shown.
+ */
+class PagedListLoader<T> {
+
+    private final ObservableList<T> loadedItems = FXCollections.observableArrayList();
+    private final BiFunction<Integer, Integer, Page<T>> pageSource;
+    private boolean hasNext;
+
+    /**
+     * Creates a loader fetching pages from {@code pageSource}, which is called with an offset and a limit.
+     * The loaded entries are reloaded whenever {@code source}, the list that the pages are taken from, changes.
+     */
+    PagedListLoader(Observable source, BiFunction<Integer, Integer, Page<T>> pageSource) {
+        this.pageSource = pageSource;
+        source.addListener(observable -> reload());
+        reload();
+    }
+
+    /**
+     * Returns the entries loaded so far.
+     */
+    ObservableList<T> getLoadedItems() {
+        return loadedItems;
+    }
+
+    /**
+     * Notifies the loader that the entry at {@code index} is shown.
+     * Loads the next page if it is the last loaded entry.
+     */
+    void onShown(int index) {
+        if (hasNext && index == loadedItems.size() - 1) {
+            // the list view must not be changed while it is laying out its cells
+            Platform.runLater(this::loadNextPage);
+        }
+    }
+
+    private void loadNextPage() {
+        if (!hasNext) {
+            return;
+        }
+        Page<T> page = pageSource.apply(loadedItems.size(), PAGE_SIZE);
+        loadedItems.addAll(page.getItems());
+        hasNext = page.hasNext();
+    }
+
+    /**
+     * Reloads as many entries as are currently loaded, or a page if that is more, so that the user keeps
+     * their place in the list.
+     */
+    private void reload() {
+        Page<T> page = pageSource.apply(0, Math.max(PAGE_SIZE, loadedItems.size()));
+        loadedItems.setAll(page.getItems());
+        hasNext = page.hasNext();
+    }
+}
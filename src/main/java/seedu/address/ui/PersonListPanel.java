@@ -1,13 +1,15 @@
 package seedu.address.ui;
 
+import java.util.function.BiFunction;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
+import javafx.beans.Observable;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.Page;
 import seedu.address.model.person.Person;
 
 /**
@@ -20,10 +22,17 @@ public class PersonListPanel extends UiPart<Region> {
     @FXML
     private ListView<Person> listView;
 
-    public PersonListPanel(ObservableList<Person> personList) {
+    private final PagedListLoader<Person> pagedListLoader;
+
+    /**
+     * Creates a panel showing the entries of {@code personList}, which are loaded a page at a time from
+     * {@code pageSource} as the user scrolls.
+     */
+    public PersonListPanel(Observable personList, BiFunction<Integer, Integer, Page<Person>> pageSource) {
         super(FXML);
+        pagedListLoader = new PagedListLoader<>(personList, pageSource);
         logger.info("Created PersonListPanel to list person entries.");
-        listView.setItems(personList);
+        listView.setItems(pagedListLoader.getLoadedItems());
         listView.setCellFactory(listView -> new ListViewCell());
     }
 
@@ -40,6 +49,7 @@ public class PersonListPanel extends UiPart<Region> {
                 setText(null);
             } else {
                 setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                pagedListLoader.onShown(getIndex());
             }
         }
     }
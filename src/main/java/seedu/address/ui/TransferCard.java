@@ -3,7 +3,6 @@ package seedu.address.ui;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
-import seedu.address.model.person.Person;
 import seedu.address.ui.util.UiUtil;
 
 /**
@@ -13,8 +12,8 @@ import seedu.address.ui.util.UiUtil;
 public class TransferCard extends UiPart<Region> {
     private static final String FXML = "TransferCard.fxml";
 
-    private final Person source;
-    private final Person destination;
+    private final String source;
+    private final String destination;
     private final double amount;
 
     @FXML
@@ -24,15 +23,15 @@ public class TransferCard extends UiPart<Region> {
     @FXML
     private Label transferAmt;
 
-    public TransferCard(Person source, Person destination, double amount) {
+    public TransferCard(String source, String destination, double amount) {
         super(FXML);
 
         this.source = source;
         this.destination = destination;
         this.amount = amount;
 
-        fromPerson.setText(source.getName().toString());
-        toPerson.setText(destination.getName().toString());
+        fromPerson.setText(source);
+        toPerson.setText(destination);
         transferAmt.setText(UiUtil.formatAmount(amount));
     }
 
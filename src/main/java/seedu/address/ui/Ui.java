@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows {@code message} in the status bar. Can be called from any thread. */
+    void showStatusMessage(String message);
+
 }
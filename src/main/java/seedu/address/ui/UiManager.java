@@ -49,6 +49,15 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showStatusMessage(String message) {
+        Platform.runLater(() -> {
+            if (mainWindow != null) {
+                mainWindow.setStatusMessage(message);
+            }
+        });
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -1,11 +1,28 @@
 package seedu.address.ui.util;
 
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.activity.Amount;
 
 /**
  * Contains utility methods for formatting that are common to multiple UI components.
  */
 public final class UiUtil {
+    /** Shown in place of the name of a contact that is no longer in the address book. */
+    public static final String DELETED_CONTACT_NAME = "(deleted contact)";
+
+    /**
+     * Returns the name of the contact with the given primary key, or a placeholder if the contact has since been
+     * deleted.
+     * @param addressBook The {@code ReadOnlyAddressBook} to look the contact up in.
+     * @param primaryKey An {@code int} specifying the primary key of the contact.
+     * @return The name of the contact, or {@code DELETED_CONTACT_NAME}.
+     */
+    public static String getContactName(ReadOnlyAddressBook addressBook, int primaryKey) {
+        return addressBook.getPersonByPrimaryKey(primaryKey)
+                .map(person -> person.getName().toString())
+                .orElse(DELETED_CONTACT_NAME);
+    }
+
     /**
      * Returns a {@code String} describing the number of participants in this activity.
      * @param count An {@code int} specifying the number of participants.
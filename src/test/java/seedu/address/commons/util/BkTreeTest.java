@@ -0,0 +1,55 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    private final BkTree bkTree = new BkTree();
+
+    @BeforeEach
+    public void setUp() {
+        bkTree.add("alice");
+        bkTree.add("pauline");
+        bkTree.add("meier");
+        bkTree.add("meyer");
+        bkTree.add("kurz");
+        bkTree.add("kunz");
+    }
+
+    @Test
+    public void add_nullTerm_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> bkTree.add(null));
+    }
+
+    @Test
+    public void add_duplicateTerm_ignored() {
+        bkTree.add("alice");
+        assertEquals(6, bkTree.size());
+    }
+
+    @Test
+    public void search_withinDistance_returnsAllMatches() {
+        assertEquals(Map.of("meier", 1, "meyer", 0), bkTree.search("meyer", 1));
+        assertEquals(Map.of("kurz", 1, "kunz", 1), bkTree.search("kutz", 1));
+        assertEquals(Map.of("alice", 2), bkTree.search("alcie", 2));
+    }
+
+    @Test
+    public void search_noTermWithinDistance_returnsEmpty() {
+        assertEquals(Map.of(), bkTree.search("alcie", 1));
+        assertEquals(Map.of(), new BkTree().search("alice", 2));
+    }
+
+    @Test
+    public void clear_removesAllTerms() {
+        bkTree.clear();
+        assertEquals(0, bkTree.size());
+        assertEquals(Map.of(), bkTree.search("alice", 0));
+    }
+}
@@ -1,10 +1,17 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
@@ -20,4 +27,26 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void openInputStream_compressedOrPlainFile_readsContents(@TempDir Path testFolder) throws Exception {
+        String contents = "{ \"persons\" : [ ] }";
+        Path compressed = testFolder.resolve("compressed.json");
+        try (OutputStream out = FileUtil.openOutputStream(compressed, true)) {
+            out.write(contents.getBytes(StandardCharsets.UTF_8));
+        }
+        Path plain = testFolder.resolve("plain.json");
+        try (OutputStream out = FileUtil.openOutputStream(plain, false)) {
+            out.write(contents.getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertTrue(FileUtil.isCompressed(compressed));
+        assertFalse(FileUtil.isCompressed(plain));
+        try (InputStream in = FileUtil.openInputStream(compressed)) {
+            assertEquals(contents, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        try (InputStream in = FileUtil.openInputStream(plain)) {
+            assertEquals(contents, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
 }
@@ -1,9 +1,16 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -39,6 +46,30 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void readJsonArrayFile_otherFields_arrayElementsReadInOrder() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+
+        List<LocalDateTime> elements = new ArrayList<>();
+        assertTrue(JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "listOfLocalDateTimes", LocalDateTime.class,
+                elements::add));
+
+        assertEquals(SerializableTestClass.getListTestValues(), elements);
+    }
+
+    @Test
+    public void saveJsonArrayFile_failedWrite_fileLeftAsItWas() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+
+        assertThrows(IllegalStateException.class, () -> JsonUtil.saveJsonArrayFile(SERIALIZATION_FILE, "values",
+                List.of(1, 2), value -> {
+                    throw new IllegalStateException();
+                }, false, false));
+
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(SERIALIZATION_FILE));
+        assertFalse(Files.exists(SERIALIZATION_FILE.resolveSibling("serialize.json.tmp")));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,25 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null));
+    }
+
+    @Test
+    public void editDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.editDistance("", ""));
+        assertEquals(3, StringUtil.editDistance("", "abc")); // insertions only
+        assertEquals(0, StringUtil.editDistance("alice", "alice"));
+        assertEquals(1, StringUtil.editDistance("meier", "meyer")); // substitution
+        assertEquals(1, StringUtil.editDistance("benson", "bensn")); // deletion
+        assertEquals(2, StringUtil.editDistance("alcie", "alice")); // transposition counts as two edits
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -9,7 +9,10 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ACTIVITY;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalActivities.getTypicalActivityBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -20,6 +23,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -28,6 +32,7 @@ import seedu.address.model.Context;
 import seedu.address.model.InternalState;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyActivityBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
@@ -36,6 +41,8 @@ import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonInternalStateStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindStorage;
+import seedu.address.testutil.ActivityBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -77,7 +84,7 @@ public class LogicManagerTest {
     @Test
     public void execute_validCommand_success() throws Exception {
         String listCommand = ListCommand.COMMAND_WORD + " " + PREFIX_ACTIVITY;
-        String expectedMessage = String.format(ListCommand.MESSAGE_SUCCESS, "activities");
+        String expectedMessage = String.format(ListCommand.MESSAGE_SUCCESS, "activities", 0);
         assertCommandSuccess(listCommand, expectedMessage, model);
     }
 
@@ -108,6 +115,55 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_unchangedModel_notSavedAgain() throws Exception {
+        SaveCountingAddressBookStorage addressBookStorage =
+                new SaveCountingAddressBookStorage(temporaryFolder.resolve("countedAddressBook.json"));
+        SaveCountingActivityBookStorage activityBookStorage =
+                new SaveCountingActivityBookStorage(temporaryFolder.resolve("countedActivityBook.json"));
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonInternalStateStorage(temporaryFolder.resolve("state.json")), activityBookStorage);
+        logic = new LogicManager(model, storage);
+
+        // the books the model was created with were just read, so they are not saved
+        logic.execute(HelpCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD + " " + PREFIX_ACTIVITY);
+        assertEquals(0, addressBookStorage.saveCount);
+        assertEquals(0, activityBookStorage.saveCount);
+
+        // only the changed book is saved
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertEquals(1, addressBookStorage.saveCount);
+        assertEquals(0, activityBookStorage.saveCount);
+    }
+
+    @Test
+    public void execute_readOnlyCommandWithWriteBehindStorage_notSavedAgain() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new InternalState(),
+                getTypicalActivityBook());
+        SaveCountingAddressBookStorage addressBookStorage =
+                new SaveCountingAddressBookStorage(temporaryFolder.resolve("countedAddressBook.json"));
+        SaveCountingActivityBookStorage activityBookStorage =
+                new SaveCountingActivityBookStorage(temporaryFolder.resolve("countedActivityBook.json"));
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonInternalStateStorage(temporaryFolder.resolve("state.json")), activityBookStorage));
+        logic = new LogicManager(model, storage);
+
+        model.addActivity(new ActivityBuilder().withTitle("Supper").addPerson(ALICE).build());
+        logic.execute(ListCommand.COMMAND_WORD + " " + PREFIX_ACTIVITY);
+        storage.flush();
+        assertEquals(1, activityBookStorage.saveCount);
+
+        // taking the copies to write in the background does not count as a change
+        logic.execute(ListCommand.COMMAND_WORD + " " + PREFIX_ACTIVITY);
+        logic.execute(HelpCommand.COMMAND_WORD);
+        storage.close();
+        assertEquals(0, addressBookStorage.saveCount);
+        assertEquals(1, activityBookStorage.saveCount);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -185,4 +241,38 @@ public class LogicManagerTest {
             throw DUMMY_IO_EXCEPTION;
         }
     }
+
+    /**
+     * A stub class counting the number of times the address book is saved.
+     */
+    private static class SaveCountingAddressBookStorage extends JsonAddressBookStorage {
+        private int saveCount;
+
+        private SaveCountingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    /**
+     * A stub class counting the number of times the activity book is saved.
+     */
+    private static class SaveCountingActivityBookStorage extends JsonActivityBookStorage {
+        private int saveCount;
+
+        private SaveCountingActivityBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveActivityBook(ReadOnlyActivityBook activityBook, Path filePath) throws IOException {
+            saveCount++;
+            super.saveActivityBook(activityBook, filePath);
+        }
+    }
 }
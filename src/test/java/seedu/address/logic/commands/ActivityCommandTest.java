@@ -10,7 +10,6 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -162,14 +161,15 @@ public class ActivityCommandTest {
         }
 
         @Override
-        public Optional<Person> findPersonByName(String searchTerm) {
+        public List<Person> findPersonByName(String searchTerm) {
             requireNonNull(searchTerm);
+            List<Person> matches = new ArrayList<>();
             for (Person person : personList) {
                 if (person.getName().fullName.toLowerCase().equals(searchTerm.toLowerCase())) {
-                    return Optional.of(person);
+                    matches.add(person);
                 }
             }
-            return Optional.empty();
+            return matches;
         }
 
         @Override
@@ -8,7 +8,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Optional;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -108,14 +108,15 @@ public class AddCommandTest {
         }
 
         @Override
-        public Optional<Person> findPersonByName(String searchTerm) {
+        public List<Person> findPersonByName(String searchTerm) {
             requireNonNull(searchTerm);
+            List<Person> matches = new ArrayList<>();
             for (Person person : personsAdded) {
                 if (person.getName().fullName.toLowerCase().equals(searchTerm.toLowerCase())) {
-                    return Optional.of(person);
+                    matches.add(person);
                 }
             }
-            return Optional.empty();
+            return matches;
         }
 
         @Override
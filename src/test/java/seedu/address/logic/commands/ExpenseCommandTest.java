@@ -17,7 +17,9 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.activity.Activity;
 import seedu.address.model.activity.Amount;
 import seedu.address.model.activity.Expense;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.ActivityBuilder;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class ExpenseCommandTest {
@@ -151,6 +153,40 @@ public class ExpenseCommandTest {
         assertThrows(CommandException.class, () -> commandMultipleNames.execute(model));
     }
 
+    @Test
+    public void execute_notActivityViewContextSameFullName_throwsCommandException() {
+        Model model = new ModelManager();
+        model.addPerson(TypicalPersons.ALICE);
+        model.addPerson(new PersonBuilder(TypicalPersons.ALICE).withPrimaryKey(100).withPhone("11111111")
+                .withEmail("other@example.com").build());
+        model.addPerson(TypicalPersons.BENSON);
+
+        List<String> names = List.of(TypicalPersons.ALICE.getName().fullName, "Benson");
+        assertThrows(CommandException.class, () -> new ExpenseCommand(names, amount, notEmptyString).execute(model));
+        assertEquals(List.of(), model.getActivityBook().getActivityList());
+    }
+
+    @Test
+    public void execute_activityViewContextSameFullName_throwsCommandException() {
+        Person otherAlice = new PersonBuilder(TypicalPersons.ALICE).withPrimaryKey(100).withPhone("11111111")
+                .withEmail("other@example.com").build();
+        Activity validActivity = new ActivityBuilder()
+                .addPerson(TypicalPersons.ALICE)
+                .addPerson(otherAlice)
+                .addPerson(TypicalPersons.BENSON)
+                .build();
+        Model model = new ModelManager();
+        model.addPerson(TypicalPersons.ALICE);
+        model.addPerson(otherAlice);
+        model.addPerson(TypicalPersons.BENSON);
+        model.addActivity(validActivity);
+        model.setContext(new Context(validActivity));
+
+        List<String> names = List.of(TypicalPersons.ALICE.getName().fullName, "Benson");
+        assertThrows(CommandException.class, () -> new ExpenseCommand(names, amount, notEmptyString).execute(model));
+        assertEquals(List.of(), validActivity.getExpenses());
+    }
+
     @Test
     public void execute_notActivityViewContextPeoplePresent_addSuccessful() throws Exception {
         Model model = new ModelManager();
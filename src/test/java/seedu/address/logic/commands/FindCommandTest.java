@@ -5,11 +5,17 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -19,8 +25,16 @@ import seedu.address.model.InternalState;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.activity.Activity;
+import seedu.address.model.activity.Amount;
+import seedu.address.model.activity.Expense;
 import seedu.address.model.activity.TitleContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.query.AmountBound;
+import seedu.address.model.query.QueryTerms;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagFilter;
+import seedu.address.testutil.ActivityBuilder;
 import seedu.address.testutil.TypicalActivities;
 
 /**
@@ -125,6 +139,122 @@ public class FindCommandTest {
         assertEquals(expectedModel.getFilteredPersonList(), model.getFilteredPersonList());
     }
 
+    @Test
+    public void executeContactFind_fuzzyKeyword_similarContactFound() {
+        String searchTerm = "meyr~";
+        String[] keywords = splitSearchTerm(searchTerm);
+        String expectedMessage = String.format(Messages.MESSAGE_FOUND_BY_KEYWORD,
+                1, "contact", searchTerm);
+        expectedModel.updateFilteredPersonList(preparePredicate("Meyer"));
+        expectedModel.setContext(Context.newListContactContext());
+        model.setContext(Context.newListContactContext());
+
+        FindCommand command = new FindCommand(keywords, searchTerm);
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void executeContactFind_tagFilter_taggedContactsFound() {
+        String searchTerm = "tag/friends tag/!owesMoney";
+        TagFilter tagFilter = new TagFilter(List.of(Set.of(new Tag("friends"))), Set.of(new Tag("owesMoney")));
+        String expectedMessage = String.format(Messages.MESSAGE_FOUND_BY_KEYWORD,
+                2, "contacts", searchTerm);
+        expectedModel.updateFilteredPersonList(x -> x.equals(ALICE) || x.equals(DANIEL));
+        expectedModel.setContext(Context.newListContactContext());
+        model.setContext(Context.newListContactContext());
+
+        FindCommand command = new FindCommand(new String[0], tagFilter, searchTerm);
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void executeActivityFind_tagFilter_throwsCommandException() {
+        TagFilter tagFilter = new TagFilter(List.of(Set.of(new Tag("friends"))), Set.of());
+        FindCommand command = new FindCommand(new String[0], tagFilter, "tag/friends");
+        model.setContext(Context.newListActivityContext());
+        assertCommandFailure(command, model, FindCommand.WARNING_TAGS_FOR_CONTACTS_ONLY);
+    }
+
+    @Test
+    public void executeContactFind_compoundQuery_contactsMeetingAllTermsFound() {
+        Activity trip = prepareBaliTrip();
+        model.addActivity(trip);
+        expectedModel.addActivity(trip);
+
+        // Benson paid for everyone, so Carl and Daniel owe him, but only Daniel is a friend
+        String searchTerm = "tag:friends in:\"bali TRIP\" owes>5";
+        TagFilter tagFilter = new TagFilter(List.of(Set.of(new Tag("friends"))), Set.of());
+        QueryTerms queryTerms = new QueryTerms(List.of(), List.of("bali TRIP"),
+                List.of(new AmountBound(">5")), List.of());
+        String expectedMessage = String.format(Messages.MESSAGE_FOUND_BY_KEYWORD,
+                1, "contact", searchTerm);
+        expectedModel.updateFilteredPersonList(x -> x.equals(DANIEL));
+        expectedModel.setContext(Context.newListContactContext());
+        model.setContext(Context.newListContactContext());
+
+        FindCommand command = new FindCommand(new String[0], tagFilter, queryTerms, searchTerm);
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void executeContactFind_owesTermOnly_contactsOwingFound() {
+        Activity trip = prepareBaliTrip();
+        model.addActivity(trip);
+        expectedModel.addActivity(trip);
+
+        // Benson paid for everyone, so only Carl and Daniel owe anything
+        String searchTerm = "owes>5";
+        QueryTerms queryTerms = new QueryTerms(List.of(), List.of(), List.of(new AmountBound(">5")), List.of());
+        String expectedMessage = String.format(Messages.MESSAGE_FOUND_BY_KEYWORD,
+                2, "contacts", searchTerm);
+        expectedModel.updateFilteredPersonList(x -> x.equals(CARL) || x.equals(DANIEL));
+        expectedModel.setContext(Context.newListContactContext());
+        model.setContext(Context.newListContactContext());
+
+        FindCommand command = new FindCommand(new String[0], TagFilter.EMPTY, queryTerms, searchTerm);
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void executeContactFind_nameTerm_contactsWithAllWordsFound() {
+        String searchTerm = "name:meier name:benson";
+        QueryTerms queryTerms = new QueryTerms(List.of("meier", "benson"), List.of(), List.of(), List.of());
+        String expectedMessage = String.format(Messages.MESSAGE_FOUND_BY_KEYWORD,
+                1, "contact", searchTerm);
+        expectedModel.updateFilteredPersonList(x -> x.equals(BENSON));
+        expectedModel.setContext(Context.newListContactContext());
+        model.setContext(Context.newListContactContext());
+
+        FindCommand command = new FindCommand(new String[0], TagFilter.EMPTY, queryTerms, searchTerm);
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void executeContactFind_spentTerm_throwsCommandException() {
+        QueryTerms queryTerms = new QueryTerms(List.of(), List.of(), List.of(), List.of(new AmountBound(">5")));
+        FindCommand command = new FindCommand(new String[0], TagFilter.EMPTY, queryTerms, "spent>5");
+        model.setContext(Context.newListContactContext());
+        assertCommandFailure(command, model, FindCommand.WARNING_TERMS_FOR_ACTIVITIES_ONLY);
+    }
+
+    @Test
+    public void executeActivityFind_owesTerm_throwsCommandException() {
+        QueryTerms queryTerms = new QueryTerms(List.of(), List.of(), List.of(new AmountBound(">5")), List.of());
+        FindCommand command = new FindCommand(new String[0], TagFilter.EMPTY, queryTerms, "owes>5");
+        model.setContext(Context.newListActivityContext());
+        assertCommandFailure(command, model, FindCommand.WARNING_TERMS_FOR_CONTACTS_ONLY);
+    }
+
     // Tests for list activities context
     @Test
     public void executeActivityFind_noMatchingKeyword_noActivityFound() {
@@ -160,6 +290,52 @@ public class FindCommandTest {
         assertEquals(expectedModel.getFilteredActivityList(), model.getFilteredActivityList());
     }
 
+    @Test
+    public void executeActivityFind_prefixKeyword_activitiesFound() {
+        String searchTerm = "BREAK* lun";
+        String[] keywords = splitSearchTerm(searchTerm);
+        String expectedMessage = String.format(Messages.MESSAGE_FOUND_BY_KEYWORD,
+                1, "activity", searchTerm);
+        expectedModel.updateFilteredActivityList(prepareTitlePredicate("breakfast"));
+        expectedModel.setContext(Context.newListActivityContext());
+        model.setContext(Context.newListActivityContext());
+
+        FindCommand command = new FindCommand(keywords, searchTerm);
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(expectedModel.getFilteredActivityList(), model.getFilteredActivityList());
+    }
+
+    @Test
+    public void executeActivityFind_spentTerm_activitiesFound() {
+        Activity trip = prepareBaliTrip();
+        model.addActivity(trip);
+        expectedModel.addActivity(trip);
+
+        String searchTerm = "spent>29.99";
+        QueryTerms queryTerms = new QueryTerms(List.of(), List.of(), List.of(), List.of(new AmountBound(">29.99")));
+        String expectedMessage = String.format(Messages.MESSAGE_FOUND_BY_KEYWORD,
+                1, "activity", searchTerm);
+        expectedModel.updateFilteredActivityList(prepareTitlePredicate("bali"));
+        expectedModel.setContext(Context.newListActivityContext());
+        model.setContext(Context.newListActivityContext());
+
+        FindCommand command = new FindCommand(new String[0], TagFilter.EMPTY, queryTerms, searchTerm);
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(trip), model.getFilteredActivityList());
+    }
+
+    /**
+     * Returns an activity in which Benson paid $30 for himself, Carl and Daniel.
+     */
+    private Activity prepareBaliTrip() {
+        Activity trip = new ActivityBuilder().withPrimaryKey(100).withTitle("Bali trip")
+                .addPerson(BENSON).addPerson(CARL).addPerson(DANIEL).build();
+        trip.addExpense(new Expense(BENSON.getPrimaryKey(), new Amount(30), "villa"));
+        return trip;
+    }
+
     /**
      * Helper method used to parse the search term into keywords.
      */
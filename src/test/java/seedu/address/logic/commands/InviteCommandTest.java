@@ -4,9 +4,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -16,6 +18,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.activity.Activity;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.ActivityBuilder;
 import seedu.address.testutil.PersonBuilder;
 
@@ -75,6 +78,28 @@ public class InviteCommandTest {
 
     }
 
+    @Test
+    public void execute_viewActivityWithTag_inviteEveryoneTagged() throws CommandException {
+        Model model = new ModelManager();
+        model.addPerson(ALICE); // friends
+        model.addPerson(BENSON); // owesMoney, friends
+        model.addPerson(CARL); // no tags
+        Activity activity = new ActivityBuilder().build();
+        model.addActivity(activity);
+        model.setContext(new Context(activity));
+
+        InviteCommand inviteCommand = new InviteCommand(List.of(CARL.getName().fullName),
+                Set.of(new Tag("owesMoney")));
+        inviteCommand.execute(model);
+        assertEquals(List.of(CARL.getPrimaryKey(), BENSON.getPrimaryKey()), activity.getParticipantIds());
+
+        // people already in the activity are skipped
+        inviteCommand = new InviteCommand(new ArrayList<>(), Set.of(new Tag("friends")));
+        inviteCommand.execute(model);
+        assertEquals(List.of(CARL.getPrimaryKey(), BENSON.getPrimaryKey(), ALICE.getPrimaryKey()),
+                activity.getParticipantIds());
+    }
+
     @Test
     public void execute_viewActivityDuplicateEntries_inviteOne() throws CommandException {
         Model model = new ModelManager();
@@ -37,7 +37,8 @@ public class ListCommandTest {
         expectedModel = new ModelManager(
                 model.getAddressBook(), new UserPrefs(), new InternalState(), getTypicalActivityBook());
         expectedModel.setContext(Context.newListContactContext());
-        expectedMessage = String.format(ListCommand.MESSAGE_SUCCESS, "contacts");
+        expectedMessage = String.format(ListCommand.MESSAGE_SUCCESS, "contacts",
+                getTypicalAddressBook().getPersonList().size());
         expectedResult = new CommandResult(expectedMessage, Context.newListContactContext());
     }
 
@@ -62,7 +63,8 @@ public class ListCommandTest {
     @Test
     public void execute_activityListIsFiltered_showsEverything() {
         expectedModel.setContext(Context.newListActivityContext());
-        expectedMessage = String.format(ListCommand.MESSAGE_SUCCESS, "activities");
+        expectedMessage = String.format(ListCommand.MESSAGE_SUCCESS, "activities",
+                getTypicalActivityBook().getActivityList().size());
         expectedResult = new CommandResult(expectedMessage, Context.newListActivityContext());
 
         model.updateFilteredActivityList((activity) ->
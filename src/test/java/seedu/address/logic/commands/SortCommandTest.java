@@ -0,0 +1,184 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Context;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.activity.Activity;
+import seedu.address.model.activity.ActivitySortKey;
+import seedu.address.model.activity.Amount;
+import seedu.address.model.activity.Expense;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortKey;
+import seedu.address.testutil.ActivityBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for SortCommand.
+ */
+public class SortCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        model.addPerson(CARL);
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+    }
+
+    @Test
+    public void execute_sortContactsByName_sortedAndListed() {
+        model.updateFilteredPersonList(person -> person.equals(ALICE));
+
+        CommandResult result = new SortCommand(PersonSortKey.NAME).execute(model);
+
+        assertEquals(String.format(SortCommand.MESSAGE_SUCCESS, "contacts", "name"), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), model.getFilteredPersonList());
+        assertEquals(Context.newListContactContext(), model.getContext());
+    }
+
+    @Test
+    public void execute_sortContactsByBalance_mostOwingFirst() {
+        // Alice pays for herself and Benson, so Benson owes Alice
+        Activity dinner = new ActivityBuilder()
+                .withTitle("Dinner")
+                .addPerson(ALICE)
+                .addPerson(BENSON)
+                .addExpense(new Expense(ALICE.getPrimaryKey(), new Amount(30), "dinner"))
+                .build();
+        model.addActivity(dinner);
+
+        new SortCommand(PersonSortKey.BALANCE).execute(model);
+
+        assertEquals(Arrays.asList(BENSON, CARL, ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_expenseAddedAfterSortByBalance_orderUpdated() {
+        Activity dinner = new ActivityBuilder()
+                .withTitle("Dinner")
+                .addPerson(ALICE)
+                .addPerson(BENSON)
+                .addExpense(new Expense(ALICE.getPrimaryKey(), new Amount(30), "dinner"))
+                .build();
+        model.addActivity(dinner);
+        new SortCommand(PersonSortKey.BALANCE).execute(model);
+
+        // Benson now pays more than Alice, so Alice owes Benson
+        dinner.addExpense(new Expense(BENSON.getPrimaryKey(), new Amount(50), "drinks"));
+
+        assertEquals(Arrays.asList(ALICE, CARL, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_sortActivities_sortedAndListed() {
+        Activity lunch = new ActivityBuilder().withTitle("lunch").build();
+        Activity breakfast = new ActivityBuilder()
+                .withTitle("Breakfast")
+                .addPerson(ALICE)
+                .addExpense(new Expense(ALICE.getPrimaryKey(), new Amount(5), "coffee"))
+                .build();
+        Activity dinner = new ActivityBuilder()
+                .withTitle("dinner")
+                .addPerson(ALICE)
+                .addExpense(new Expense(ALICE.getPrimaryKey(), new Amount(20), "pizza"))
+                .build();
+        model.addActivity(lunch);
+        model.addActivity(breakfast);
+        model.addActivity(dinner);
+
+        new SortCommand(ActivitySortKey.TITLE).execute(model);
+        assertEquals(Arrays.asList(breakfast, dinner, lunch), model.getFilteredActivityList());
+        assertEquals(Context.newListActivityContext(), model.getContext());
+
+        new SortCommand(ActivitySortKey.SPENDING).execute(model);
+        assertEquals(Arrays.asList(dinner, breakfast, lunch), model.getFilteredActivityList());
+
+        new SortCommand(ActivitySortKey.RECENT).execute(model);
+        assertEquals(Arrays.asList(dinner, breakfast, lunch), model.getFilteredActivityList());
+    }
+
+    @Test
+    public void execute_expenseAddedAfterSortBySpending_orderUpdated() {
+        Activity lunch = new ActivityBuilder().withTitle("Lunch").addPerson(ALICE).build();
+        Activity dinner = new ActivityBuilder()
+                .withTitle("Dinner")
+                .addPerson(ALICE)
+                .addExpense(new Expense(ALICE.getPrimaryKey(), new Amount(20), "pizza"))
+                .build();
+        model.addActivity(lunch);
+        model.addActivity(dinner);
+        new SortCommand(ActivitySortKey.SPENDING).execute(model);
+
+        lunch.addExpense(new Expense(ALICE.getPrimaryKey(), new Amount(25), "noodles"));
+
+        assertEquals(Arrays.asList(lunch, dinner), model.getFilteredActivityList());
+    }
+
+    @Test
+    public void execute_sortByAdded_orderAddedRestored() {
+        new SortCommand(PersonSortKey.NAME).execute(model);
+
+        new SortCommand(PersonSortKey.ADDED).execute(model);
+
+        assertEquals(Arrays.asList(CARL, ALICE, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_sortByNameAfterEdit_usesNewName() {
+        Person renamedAlice = new PersonBuilder(ALICE).withName("zed Pauline").build();
+        model.setPerson(ALICE, renamedAlice);
+
+        new SortCommand(PersonSortKey.NAME).execute(model);
+
+        assertEquals(Arrays.asList(BENSON, CARL, renamedAlice), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_sort_storedOrderUnchanged() {
+        long addressBookVersion = model.getAddressBook().getVersion();
+        long activityBookVersion = model.getActivityBook().getVersion();
+
+        new SortCommand(PersonSortKey.NAME).execute(model);
+        new SortCommand(ActivitySortKey.RECENT).execute(model);
+
+        assertEquals(Arrays.asList(CARL, ALICE, BENSON), model.getAddressBook().getPersonList());
+        assertEquals(addressBookVersion, model.getAddressBook().getVersion());
+        assertEquals(activityBookVersion, model.getActivityBook().getVersion());
+    }
+
+    @Test
+    public void execute_personAddedAfterSort_listedInOrder() {
+        new SortCommand(PersonSortKey.NAME).execute(model);
+        Person aaron = new PersonBuilder().withPrimaryKey(100).withName("Aaron Tan").build();
+        model.addPerson(aaron);
+
+        assertEquals(Arrays.asList(aaron, ALICE, BENSON, CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        SortCommand sortByName = new SortCommand(PersonSortKey.NAME);
+        SortCommand sortByTitle = new SortCommand(ActivitySortKey.TITLE);
+
+        assertTrue(sortByName.equals(sortByName));
+        assertTrue(sortByName.equals(new SortCommand(PersonSortKey.NAME)));
+        assertFalse(sortByName.equals(new SortCommand(PersonSortKey.BALANCE)));
+        assertFalse(sortByName.equals(sortByTitle));
+        assertFalse(sortByName.equals(null));
+        assertFalse(sortByName.equals(1));
+    }
+}
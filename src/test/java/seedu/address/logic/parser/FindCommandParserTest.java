@@ -4,9 +4,16 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.query.AmountBound;
+import seedu.address.model.query.QueryTerms;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagFilter;
 
 public class FindCommandParserTest {
 
@@ -33,4 +40,37 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, "Alice Bob", expectedFindCommand);
     }
 
+    @Test
+    public void parse_tagFilters_returnsFindCommand() {
+        String userInput = "Alice tag/friends|family tag/!colleagues";
+        TagFilter expectedFilter = new TagFilter(List.of(Set.of(new Tag("friends"), new Tag("family"))),
+                Set.of(new Tag("colleagues")));
+        FindCommand expectedFindCommand = new FindCommand(new String[] {"Alice"}, expectedFilter, userInput);
+        assertParseSuccess(parser, userInput, expectedFindCommand);
+    }
+
+    @Test
+    public void parse_queryTerms_returnsFindCommand() {
+        String userInput = "owesome name:alice tag:friends in:\"Bali  trip\" owes>10 spent<2.50";
+        TagFilter expectedFilter = new TagFilter(List.of(Set.of(new Tag("friends"))), Set.of());
+        QueryTerms expectedTerms = new QueryTerms(List.of("alice"), List.of("Bali trip"),
+                List.of(new AmountBound(">10")), List.of(new AmountBound("<2.50")));
+        FindCommand expectedFindCommand = new FindCommand(new String[] {"owesome"}, expectedFilter, expectedTerms,
+                userInput);
+        assertParseSuccess(parser, userInput, expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidQueryTerm_throwsParseException() {
+        assertParseFailure(parser, "owes>ten", AmountBound.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "in:\"\"", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidTag_throwsParseException() {
+        assertParseFailure(parser, "tag/friends|", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "tag/!", Tag.MESSAGE_CONSTRAINTS);
+    }
+
 }
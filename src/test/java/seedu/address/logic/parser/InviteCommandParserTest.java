@@ -10,10 +10,12 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSucces
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.InviteCommand;
+import seedu.address.model.tag.Tag;
 
 public class InviteCommandParserTest {
     private InviteCommandParser parser = new InviteCommandParser();
@@ -49,5 +51,11 @@ public class InviteCommandParserTest {
                 new InviteCommand(invitees));
     }
 
+    @Test
+    public void parse_tagsOnly_success() {
+        assertParseSuccess(parser, PREAMBLE_WHITESPACE + " tag/finance tag/hr",
+                new InviteCommand(new ArrayList<>(), Set.of(new Tag("finance"), new Tag("hr"))));
+    }
+
 
 }
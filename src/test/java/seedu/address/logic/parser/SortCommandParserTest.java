@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.SortCommand.MESSAGE_USAGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ACTIVITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.activity.ActivitySortKey;
+import seedu.address.model.person.PersonSortKey;
+
+public class SortCommandParserTest {
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_validKey_success() {
+        assertParseSuccess(parser, " " + PREFIX_CONTACT + "name", new SortCommand(PersonSortKey.NAME));
+        assertParseSuccess(parser, " " + PREFIX_CONTACT + "BALANCE", new SortCommand(PersonSortKey.BALANCE));
+        assertParseSuccess(parser, " " + PREFIX_ACTIVITY + "spending ", new SortCommand(ActivitySortKey.SPENDING));
+        assertParseSuccess(parser, " " + PREFIX_ACTIVITY + "added", new SortCommand(ActivitySortKey.ADDED));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE);
+
+        // no list type
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, "name", expectedMessage);
+
+        // both list types
+        assertParseFailure(parser, " " + PREFIX_CONTACT + "name " + PREFIX_ACTIVITY + "title", expectedMessage);
+
+        // key of the other list type
+        assertParseFailure(parser, " " + PREFIX_CONTACT + "title", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_ACTIVITY + "balance", expectedMessage);
+    }
+}
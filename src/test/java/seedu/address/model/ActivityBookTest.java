@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalActivities.BREAKFAST;
 import static seedu.address.testutil.TypicalActivities.BREAKFAST_EMPTY;
@@ -10,12 +11,18 @@ import static seedu.address.testutil.TypicalActivities.getTypicalActivityBook;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.activity.Activity;
+import seedu.address.model.activity.Amount;
+import seedu.address.model.activity.Expense;
+import seedu.address.model.activity.Title;
+import seedu.address.model.activity.TitleContainsKeywordsPredicate;
 import seedu.address.model.activity.exceptions.ActivityNotFoundException;
 
 public class ActivityBookTest {
@@ -83,6 +90,91 @@ public class ActivityBookTest {
             -> activities.setActivity(BREAKFAST_SECOND, BREAKFAST_EMPTY));
     }
 
+    @Test
+    public void findActivity_afterRenameAndRemove_indexUpdated() {
+        ActivityBook activities = getTypicalActivityBook();
+        Activity renamedBreakfast = new Activity(BREAKFAST, new Title("Brunch"));
+        activities.setActivity(BREAKFAST, renamedBreakfast);
+
+        TitleContainsKeywordsPredicate breakfast = new TitleContainsKeywordsPredicate(List.of("breakfast"));
+        assertEquals(List.of(), activities.findActivity(breakfast));
+        assertEquals(List.of(renamedBreakfast), activities.findActivityByPrefix(List.of("BR")));
+
+        activities.removeActivity(LUNCH);
+        assertEquals(List.of(), activities.findActivity(new TitleContainsKeywordsPredicate(List.of("lunch"))));
+    }
+
+    @Test
+    public void getActivitiesOf_afterInviteAndRemove_indexUpdated() {
+        Activity dinner = new Activity(new Title("Dinner"), 1, 2);
+        activityBook.addActivity(dinner);
+        assertEquals(List.of(dinner), activityBook.getActivitiesOf(2));
+        assertEquals(List.of(), activityBook.getActivitiesOf(3));
+
+        dinner.invite(3);
+        assertEquals(List.of(dinner), activityBook.getActivitiesOf(3));
+
+        activityBook.removeActivity(dinner);
+        assertEquals(List.of(), activityBook.getActivitiesOf(2));
+    }
+
+    @Test
+    public void getVersion_activityChangedInPlace_versionChanged() {
+        Activity dinner = new Activity(new Title("Dinner"), 1, 2);
+        long emptyVersion = activityBook.getVersion();
+        activityBook.addActivity(dinner);
+        long addedVersion = activityBook.getVersion();
+        assertFalse(addedVersion == emptyVersion);
+
+        dinner.addExpense(new Expense(1, new Amount(10), "pizza"));
+        assertFalse(activityBook.getVersion() == addedVersion);
+    }
+
+    @Test
+    public void getVersion_activityOutsideBookChanged_versionUnchanged() {
+        Activity dinner = new Activity(new Title("Dinner"), 1, 2);
+        activityBook.addActivity(dinner);
+        long version = activityBook.getVersion();
+
+        // other activities created, copied or changed -> unchanged
+        Activity lunch = new Activity(new Title("Lunch"), 1, 2);
+        lunch.addExpense(new Expense(1, new Amount(10), "noodles"));
+        dinner.copy().addExpense(new Expense(1, new Amount(10), "pizza"));
+        assertEquals(version, activityBook.getVersion());
+
+        // removed activity changed -> unchanged
+        activityBook.removeActivity(dinner);
+        long removedVersion = activityBook.getVersion();
+        dinner.addExpense(new Expense(1, new Amount(10), "pizza"));
+        assertEquals(removedVersion, activityBook.getVersion());
+    }
+
+    @Test
+    public void getBalancesInCents_activitiesChangedAndRemoved_balancesUpdated() {
+        Activity dinner = new Activity(new Title("Dinner"), 1, 2);
+        Activity lunch = new Activity(new Title("Lunch"), 1, 3);
+        activityBook.addActivity(dinner);
+        activityBook.addActivity(lunch);
+        dinner.addExpense(new Expense(1, new Amount(10), "pizza"));
+        assertEquals(Map.of(1, 500L, 2, -500L, 3, 0L), activityBook.getBalancesInCents());
+
+        lunch.addExpense(new Expense(3, new Amount(4), "noodles"));
+        assertEquals(Map.of(1, 300L, 2, -500L, 3, 200L), activityBook.getBalancesInCents());
+
+        activityBook.removeActivity(dinner);
+        assertEquals(Map.of(1, -200L, 2, 0L, 3, 200L), activityBook.getBalancesInCents());
+    }
+
+    @Test
+    public void getSpendingInCents_activityChanged_spendingUpdated() {
+        Activity dinner = new Activity(new Title("Dinner"), 1, 2);
+        activityBook.addActivity(dinner);
+        assertEquals(0L, activityBook.getSpendingInCents(dinner));
+
+        dinner.addExpense(new Expense(1, new Amount(12.5), "pizza"));
+        assertEquals(1250L, activityBook.getSpendingInCents(dinner));
+    }
+
     @Test
     public void getActivityList_modifyList_throwsUnsupportedOperationException() {
         ActivityBook activities = getTypicalActivityBook();
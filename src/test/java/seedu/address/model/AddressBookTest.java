@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.NameContainsAllKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -92,12 +93,24 @@ public class AddressBookTest {
         assertEquals(expectedSearchResult, searchResult);
     }
 
+    @Test
+    public void findPerson_afterRename_indexUpdated() {
+        addressBook.addPerson(ALICE);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        addressBook.setPerson(ALICE, renamedAlice);
+
+        NameContainsKeywordsPredicate oldName = new NameContainsKeywordsPredicate(Arrays.asList("Pauline"));
+        assertEquals(Collections.emptyList(), addressBook.findPerson(oldName));
+        NameContainsAllKeywordsPredicate newName = new NameContainsAllKeywordsPredicate(Arrays.asList("alice", "TAN"));
+        assertEquals(Arrays.asList(renamedAlice), addressBook.findPerson(newName));
+    }
+
     @Test
     public void findPersonByName_personInAddressBook_returnsCorrect() {
         AddressBook addressBook = getTypicalAddressBook();
         String searchTerm = "alice pauline";
-        Optional<Person> searchResult = addressBook.findPersonByName(searchTerm);
-        Optional<Person> expectedSearchResult = Optional.of(ALICE);
+        List<Person> searchResult = addressBook.findPersonByName(searchTerm);
+        List<Person> expectedSearchResult = List.of(ALICE);
         assertEquals(expectedSearchResult, searchResult);
     }
 
@@ -106,21 +119,62 @@ public class AddressBookTest {
         AddressBook addressBook = getTypicalAddressBook();
         addressBook.addPerson(GEORGE_FIRSTNAME);
         String searchTerm = "George";
-        Optional<Person> searchResult = addressBook.findPersonByName(searchTerm);
-        Optional<Person> expectedSearchResult = Optional.of(GEORGE_FIRSTNAME);
+        List<Person> searchResult = addressBook.findPersonByName(searchTerm);
+        List<Person> expectedSearchResult = List.of(GEORGE_FIRSTNAME);
         assertEquals(expectedSearchResult, searchResult);
     }
 
+    @Test
+    public void findPersonByName_afterRenameAndRemove_indexUpdated() {
+        addressBook.addPerson(ALICE);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        addressBook.setPerson(ALICE, renamedAlice);
+        assertEquals(List.of(), addressBook.findPersonByName("alice pauline"));
+        assertEquals(List.of(renamedAlice), addressBook.findPersonByName("ALICE TAN"));
+
+        addressBook.removePerson(renamedAlice);
+        assertEquals(List.of(), addressBook.findPersonByName("alice tan"));
+    }
+
+    @Test
+    public void findPersonByName_sameFullName_returnsAll() {
+        Person otherAlice = new PersonBuilder(ALICE).withPrimaryKey(100).withPhone("11111111")
+                .withEmail("other@example.com").build();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(otherAlice);
+
+        assertEquals(List.of(ALICE, otherAlice), addressBook.findPersonByName("alice pauline"));
+    }
+
     @Test
     public void findPersonByName_personNotInAddressBook_returnsEmpty() {
         AddressBook addressBook = getTypicalAddressBook();
         String searchTerm = "Nonexistent person";
-        Optional<Person> searchResult = addressBook.findPersonByName(searchTerm);
-        Optional<Person> expectedSearchResult = Optional.empty();
+        List<Person> searchResult = addressBook.findPersonByName(searchTerm);
+        List<Person> expectedSearchResult = List.of();
         assertEquals(expectedSearchResult, searchResult);
     }
 
 
+    @Test
+    public void getPersonByPrimaryKey_personInAddressBook_returnsPerson() {
+        addressBook.addPerson(ALICE);
+        assertEquals(Optional.of(ALICE), addressBook.getPersonByPrimaryKey(ALICE.getPrimaryKey()));
+        assertTrue(addressBook.hasPrimaryKey(ALICE.getPrimaryKey()));
+    }
+
+    @Test
+    public void getPersonByPrimaryKey_afterEditAndRemove_indexUpdated() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(Optional.of(editedAlice), addressBook.getPersonByPrimaryKey(ALICE.getPrimaryKey()));
+
+        addressBook.removePerson(editedAlice);
+        assertEquals(Optional.empty(), addressBook.getPersonByPrimaryKey(ALICE.getPrimaryKey()));
+        assertFalse(addressBook.hasPrimaryKey(ALICE.getPrimaryKey()));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -140,6 +194,16 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
+
+        @Override
+        public Optional<Person> getPersonByPrimaryKey(int primaryKey) {
+            return persons.stream().filter(person -> person.getPrimaryKey() == primaryKey).findFirst();
+        }
     }
 
 }
@@ -0,0 +1,146 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class LazyFilteredListTest {
+
+    private final ObservableList<Integer> source = FXCollections.observableArrayList(
+            IntStream.range(0, 100).boxed().collect(Collectors.toList()));
+    private final LazyFilteredList<Integer> list = new LazyFilteredList<>(source);
+    private final OrderedIndex<Integer, Integer> reverseOrder = new OrderedIndex<>(
+            number -> number, Comparator.reverseOrder(), number -> number);
+    // the number of entries tested by isEven
+    private final int[] testCount = {0};
+    private final Predicate<Integer> isEven = number -> {
+        testCount[0]++;
+        return number % 2 == 0;
+    };
+
+    @BeforeEach
+    public void setUp() {
+        reverseOrder.setAll(source);
+    }
+
+    @Test
+    public void get_noPredicate_sourceEntries() {
+        assertEquals(100, list.size());
+        assertEquals(Integer.valueOf(42), list.get(42));
+    }
+
+    @Test
+    public void get_knownCount_onlyEntriesUpToIndexTested() {
+        list.setPredicate(isEven, 50);
+
+        assertEquals(50, list.size());
+        assertEquals(List.of(0, 2, 4), list.subList(0, 3));
+        assertEquals(5, testCount[0]);
+    }
+
+    @Test
+    public void size_unknownCount_allEntriesTested() {
+        list.setPredicate(isEven);
+
+        assertEquals(50, list.size());
+        assertEquals(100, testCount[0]);
+    }
+
+    @Test
+    public void get_indexPastEnd_throwsIndexOutOfBoundsException() {
+        list.setPredicate(isEven, 50);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(50));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    public void sourceChanged_knownCount_onlyChangedEntriesTested() {
+        list.setPredicate(isEven, 50);
+
+        source.addAll(100, 101);
+        source.remove(Integer.valueOf(0));
+
+        assertEquals(50, list.size());
+        assertEquals(3, testCount[0]);
+        assertEquals(Integer.valueOf(2), list.get(0));
+    }
+
+    @Test
+    public void setOrder_filteredEntries_inOrderOfIndex() {
+        list.setPredicate(isEven, 50);
+        list.setOrder(reverseOrder);
+
+        assertEquals(List.of(98, 96), list.subList(0, 2));
+
+        list.setOrder(null);
+        assertEquals(List.of(0, 2), list.subList(0, 2));
+    }
+
+    @Test
+    public void orderChanged_knownCount_onlyChangedEntriesTested() {
+        list.setPredicate(isEven, 50);
+        list.setOrder(reverseOrder);
+
+        reverseOrder.add(100);
+        reverseOrder.remove(98);
+
+        assertEquals(50, list.size());
+        assertEquals(2, testCount[0]);
+        assertEquals(List.of(100, 96), list.subList(0, 2));
+    }
+
+    @Test
+    public void addListener_sourceOrPredicateChanged_listenerNotified() {
+        int[] notifications = {0};
+        list.addListener((InvalidationListener) observable -> notifications[0]++);
+
+        source.add(100);
+        list.setPredicate(isEven);
+        list.setOrder(reverseOrder);
+
+        assertEquals(3, notifications[0]);
+    }
+
+    @Test
+    public void addListener_listChangeListener_toldOfReplacedEntries() {
+        list.setPredicate(number -> number < 2, 2);
+        List<String> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                changes.add(change.getRemoved() + " " + change.getList().subList(change.getFrom(), change.getTo()));
+            }
+        });
+
+        source.add(0, -1);
+
+        assertEquals(List.of("[0, 1] [-1, 0, 1]"), changes);
+    }
+
+    @Test
+    public void getEntries_knownCount_onlyEntriesUpToLastTested() {
+        list.setPredicate(isEven, 50);
+
+        assertEquals(List.of(4, 6), list.getEntries(2, 2));
+        assertEquals(7, testCount[0]);
+        assertEquals(List.of(), list.getEntries(60, 2));
+    }
+
+    @Test
+    public void setAll_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> list.setAll(List.of(1)));
+    }
+}
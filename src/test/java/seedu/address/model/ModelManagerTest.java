@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ENTRIES;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -16,16 +17,17 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.activity.Activity;
 import seedu.address.model.activity.Title;
 import seedu.address.model.person.NameContainsAllKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.ActivityBookBuilder;
+import seedu.address.testutil.ActivityBuilder;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalActivities;
@@ -42,6 +44,20 @@ public class ModelManagerTest {
         assertEquals(new ActivityBook(), new ActivityBook(modelManager.getActivityBook()));
     }
 
+    @Test
+    public void withOwnBooks_booksHeldWithoutCopying() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        ActivityBook activityBook = new ActivityBook();
+        ModelManager owner = ModelManager.withOwnBooks(addressBook, new UserPrefs(), new InternalState(),
+                activityBook);
+        assertSame(addressBook, owner.getAddressBook());
+        assertSame(activityBook, owner.getActivityBook());
+
+        // the constructor still copies the books
+        assertFalse(addressBook == new ModelManager(addressBook, new UserPrefs(), new InternalState(),
+                activityBook).getAddressBook());
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
@@ -85,6 +101,42 @@ public class ModelManagerTest {
         assertEquals(path, modelManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void getFilteredPersonPage_negativeOffset_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> modelManager.getFilteredPersonPage(-1, 1));
+    }
+
+    @Test
+    public void getFilteredPersonPage_filteredList_pagesOverFilteredEntries() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(GEORGE);
+        modelManager.updateFilteredPersonList(person -> !person.equals(BENSON));
+
+        Page<Person> firstPage = modelManager.getFilteredPersonPage(0, 1);
+        assertEquals(new Page<>(Arrays.asList(ALICE), 0, true), firstPage);
+        assertTrue(firstPage.hasNext());
+
+        Page<Person> lastPage = modelManager.getFilteredPersonPage(1, 5);
+        assertEquals(new Page<>(Arrays.asList(GEORGE), 1, false), lastPage);
+        assertFalse(lastPage.hasNext());
+
+        // past the end
+        assertEquals(new Page<>(List.of(), 7, false), modelManager.getFilteredPersonPage(7, 5));
+    }
+
+    @Test
+    public void getFilteredPersonPage_unknownCount_onlyEntriesUpToPageTested() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(GEORGE);
+        List<Person> tested = new ArrayList<>();
+        modelManager.updateFilteredPersonList(person -> tested.add(person));
+
+        assertTrue(modelManager.getFilteredPersonPage(0, 1).hasNext());
+        assertEquals(Arrays.asList(ALICE, BENSON), tested);
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.hasPerson(null));
@@ -179,8 +231,8 @@ public class ModelManagerTest {
     public void findPersonByName_exactNameMatch_returnsSingle() {
         modelManager.addPerson(ALICE);
         String searchTerm = "Alice Pauline";
-        Optional<Person> searchResult = modelManager.findPersonByName(searchTerm);
-        Optional<Person> expectedSearchResult = Optional.of(ALICE);
+        List<Person> searchResult = modelManager.findPersonByName(searchTerm);
+        List<Person> expectedSearchResult = List.of(ALICE);
         assertEquals(searchResult, expectedSearchResult);
     }
 
@@ -189,8 +241,8 @@ public class ModelManagerTest {
         modelManager.addPerson(GEORGE);
         modelManager.addPerson(GEORGE_FIRSTNAME);
         String searchTerm = "george";
-        Optional<Person> searchResult = modelManager.findPersonByName(searchTerm);
-        Optional<Person> expectedSearchResult = Optional.of(GEORGE_FIRSTNAME);
+        List<Person> searchResult = modelManager.findPersonByName(searchTerm);
+        List<Person> expectedSearchResult = List.of(GEORGE_FIRSTNAME);
         assertEquals(searchResult, expectedSearchResult);
     }
 
@@ -216,6 +268,20 @@ public class ModelManagerTest {
         assertTrue(modelManager.getFilteredActivityList().contains(TypicalActivities.LUNCH));
     }
 
+    @Test
+    public void updateFilteredActivityList_shownActivityRenamed_stillShown() {
+        Activity lunch = new ActivityBuilder().withTitle("Lunch").build();
+        Activity dinner = new ActivityBuilder().withTitle("Dinner").build();
+        modelManager.addActivity(lunch);
+        modelManager.addActivity(dinner);
+        modelManager.updateFilteredActivityList(List.of(lunch));
+
+        Activity brunch = new Activity(lunch, new Title("Brunch"));
+        modelManager.setActivity(lunch, brunch);
+
+        assertEquals(List.of(brunch), modelManager.getFilteredActivityList());
+    }
+
     @Test
     public void setActivityBookFilePath_nullPath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setActivityBookFilePath(null));
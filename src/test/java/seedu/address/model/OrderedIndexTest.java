@@ -0,0 +1,88 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class OrderedIndexTest {
+
+    // entries are primary keys, sorted by the score given to them, the highest first
+    private final Map<Integer, Integer> scores = new HashMap<>();
+    private final OrderedIndex<Integer, Integer> index = new OrderedIndex<>(
+            primaryKey -> scores.getOrDefault(primaryKey, 0), Comparator.reverseOrder(), primaryKey -> primaryKey);
+    private final List<String> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        scores.put(1, 10);
+        scores.put(2, 30);
+        scores.put(3, 20);
+        index.setAll(List.of(1, 2, 3));
+        index.addListener((removed, added) -> changes.add(removed + " " + added));
+    }
+
+    @Test
+    public void iterator_entriesInOrderOfSortKey() {
+        assertEquals(List.of(2, 3, 1), toList(index));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void add_sameSortKey_orderedByPrimaryKey() {
+        scores.put(4, 20);
+        scores.put(0, 20);
+        index.add(4);
+        index.add(0);
+
+        assertEquals(List.of(2, 0, 3, 4, 1), toList(index));
+    }
+
+    @Test
+    public void add_samePrimaryKey_replacesEntry() {
+        scores.put(1, 40);
+        index.add(1);
+
+        assertEquals(List.of(1, 2, 3), toList(index));
+        assertEquals(List.of("[1] [1]"), changes);
+    }
+
+    @Test
+    public void update_sortKeyChanged_entryMoved() {
+        scores.put(1, 25);
+        index.update(1);
+
+        assertEquals(List.of(2, 1, 3), toList(index));
+        assertEquals(List.of("[1] [1]"), changes);
+    }
+
+    @Test
+    public void update_sortKeyUnchangedOrEntryMissing_nothingChanged() {
+        index.update(1);
+        index.update(5);
+
+        assertEquals(List.of(2, 3, 1), toList(index));
+        assertEquals(List.of(), changes);
+    }
+
+    @Test
+    public void remove_entryMissing_listenersNotTold() {
+        index.remove(2);
+        index.remove(2);
+
+        assertEquals(List.of(3, 1), toList(index));
+        assertEquals(List.of("[2] []"), changes);
+    }
+
+    private static List<Integer> toList(OrderedIndex<?, Integer> index) {
+        List<Integer> entries = new ArrayList<>();
+        index.forEach(entries::add);
+        return entries;
+    }
+}
@@ -8,9 +8,12 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.Triplet;
+import seedu.address.model.activity.exceptions.ExpenseLoadException;
 import seedu.address.model.activity.exceptions.PersonNotInActivityException;
 import seedu.address.testutil.ActivityBuilder;
 import seedu.address.testutil.TypicalActivities;
@@ -549,6 +552,93 @@ public class ActivityTest {
         assertEquals(512.25, activity.getTotalSpending());
     }
 
+    @Test
+    public void loadExpenses_expenseLoader_loadedOnFirstUse() {
+        int aid = TypicalPersons.ALICE.getPrimaryKey();
+        int eid = TypicalPersons.ELLE.getPrimaryKey();
+        Activity loaded = new ActivityBuilder()
+            .withTitle("test")
+            .addPerson(TypicalPersons.ALICE)
+            .addPerson(TypicalPersons.ELLE)
+            .addExpense(new Expense(aid, new Amount(30), "lunch"))
+            .addExpense(new Expense(eid, new Amount(10), "tea", aid))
+            .build();
+        int[] loadCount = {0};
+        Activity lazy = new Activity(loaded.getPrimaryKey(), loaded.getTitle(), loaded.getTotalSpending(), () -> {
+            loadCount[0]++;
+            return List.of(new Expense(aid, new Amount(30), "lunch"), new Expense(eid, new Amount(10), "tea", aid));
+        }, aid, eid);
+        long stamp = lazy.getModificationStamp();
+
+        // header details -> expenses not loaded
+        assertEquals(40.0, lazy.getTotalSpending());
+        assertEquals(2, lazy.getParticipantCount());
+        assertFalse(lazy.isLoaded());
+
+        // equality and renaming -> expenses not loaded
+        assertEquals(lazy, new Activity(lazy, loaded.getTitle()));
+        assertEquals(loaded.hashCode(), lazy.hashCode());
+        assertNotEquals(loaded, lazy);
+        assertFalse(lazy.isLoaded());
+        assertEquals(0, loadCount[0]);
+
+        // copy -> loads its expenses on its own
+        Activity copy = lazy.copy();
+        assertFalse(copy.isLoaded());
+
+        // balances -> expenses loaded once, without counting as a change
+        long modificationCount = Activity.getModificationCount();
+        assertEquals(loaded.getTransferAmount(aid), lazy.getTransferAmount(aid));
+        assertEquals(modificationCount, Activity.getModificationCount());
+        assertEquals(loaded, lazy);
+        assertTrue(lazy.isLoaded());
+        assertEquals(1, loadCount[0]);
+        assertEquals(stamp, lazy.getModificationStamp());
+
+        copy.loadExpenses();
+        assertEquals(loaded, copy);
+        assertEquals(2, loadCount[0]);
+    }
+
+    @Test
+    public void loadExpenses_failingLoader_leftUnloaded() {
+        int aid = TypicalPersons.ALICE.getPrimaryKey();
+        Activity lazy = new Activity(0, new Title("test"), 0, () -> {
+            throw new ExpenseLoadException("missing");
+        }, aid);
+        assertThrows(ExpenseLoadException.class, () -> lazy.getExpenses());
+        assertFalse(lazy.isLoaded());
+
+        // expense of someone not in the activity -> rejected
+        Activity stranger = new Activity(0, new Title("test"), 0, () ->
+                List.of(new Expense(TypicalPersons.ELLE.getPrimaryKey(), new Amount(1), "tea")), aid);
+        assertThrows(ExpenseLoadException.class, () -> stranger.getExpenses());
+        assertFalse(stranger.isLoaded());
+    }
+
+    @Test
+    public void constructor_balanceSnapshot_balancesRestored() {
+        int aid = TypicalPersons.ALICE.getPrimaryKey();
+        int eid = TypicalPersons.ELLE.getPrimaryKey();
+        Activity a = new ActivityBuilder()
+            .withTitle("test")
+            .addPerson(TypicalPersons.ALICE)
+            .addPerson(TypicalPersons.ELLE)
+            .addExpense(new Expense(aid, new Amount(30), "testing"))
+            .build();
+
+        Activity restored = new Activity(a.getPrimaryKey(), a.getTitle(), a.getExpenses(), a.getBalanceSnapshot(),
+                aid, eid);
+        assertEquals(a, restored);
+        assertEquals(a.getTransferMatrix(), restored.getTransferMatrix());
+
+        // snapshot naming someone not participating
+        BalanceSnapshot stranger = new BalanceSnapshot(Set.of(aid, eid),
+                List.of(new Triplet<>(TypicalPersons.BOB.getPrimaryKey(), aid, 15.0)));
+        assertThrows(IllegalArgumentException.class, () ->
+                new Activity(a.getPrimaryKey(), a.getTitle(), a.getExpenses(), stranger, aid, eid));
+    }
+
     @Test
     public void hasPerson() {
         Activity lunch = TypicalActivities.LUNCH;
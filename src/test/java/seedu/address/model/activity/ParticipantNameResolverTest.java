@@ -0,0 +1,115 @@
+package seedu.address.model.activity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ANDY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.ActivityBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParticipantNameResolverTest {
+
+    private final ParticipantNameResolver resolver = new ParticipantNameResolver(Arrays.asList(ALICE, BENSON));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ParticipantNameResolver(null));
+    }
+
+    @Test
+    public void findPersonByName_participantsOnly() {
+        assertEquals(List.of(ALICE), resolver.findPersonByName("aLiCe pauline"));
+        assertEquals(List.of(), resolver.findPersonByName(ANDY.getName().fullName));
+    }
+
+    @Test
+    public void findPersonByName_sameFullName_returnsAll() {
+        Person otherAlice = new PersonBuilder(ALICE).withPrimaryKey(100).withPhone("11111111").build();
+        ParticipantNameResolver namesakes = new ParticipantNameResolver(Arrays.asList(ALICE, BENSON, otherAlice));
+
+        assertEquals(List.of(ALICE, otherAlice), namesakes.findPersonByName(ALICE.getName().fullName));
+    }
+
+    @Test
+    public void findPersonAll_participantsOnly() {
+        assertEquals(Arrays.asList(ALICE), resolver.findPersonAll(Arrays.asList("Pauline")));
+        assertEquals(Collections.emptyList(), resolver.findPersonAll(Arrays.asList("Daniel")));
+    }
+
+    @Test
+    public void findPersonSimilar_participantsOnly() {
+        assertEquals(Arrays.asList(BENSON), resolver.findPersonSimilar(Arrays.asList("Meyer")));
+    }
+
+    @Test
+    public void getParticipantResolver_unchanged_cached() {
+        AddressBook addressBook = addressBookOf(ALICE, ANDY, BENSON, DANIEL);
+        Activity activity = new ActivityBuilder().addPerson(ALICE).addPerson(BENSON).build();
+
+        ParticipantNameResolver first = activity.getParticipantResolver(addressBook);
+        assertEquals(Arrays.asList(ALICE, BENSON), first.getParticipants());
+        assertSame(first, activity.getParticipantResolver(addressBook));
+    }
+
+    @Test
+    public void getParticipantResolver_afterInviteAndDisinvite_rebuilt() {
+        AddressBook addressBook = addressBookOf(ALICE, ANDY, BENSON, DANIEL);
+        Activity activity = new ActivityBuilder().addPerson(ALICE).addPerson(BENSON).build();
+        activity.getParticipantResolver(addressBook);
+
+        activity.invite(DANIEL);
+        assertEquals(Arrays.asList(BENSON, DANIEL),
+                activity.getParticipantResolver(addressBook).findPersonAll(Arrays.asList("Meier")));
+
+        activity.disinvite(BENSON);
+        assertEquals(Arrays.asList(DANIEL),
+                activity.getParticipantResolver(addressBook).findPersonAll(Arrays.asList("Meier")));
+    }
+
+    @Test
+    public void getParticipantResolver_afterPersonEdited_rebuilt() {
+        AddressBook addressBook = addressBookOf(ALICE, ANDY, BENSON, DANIEL);
+        Activity activity = new ActivityBuilder().addPerson(ALICE).addPerson(BENSON).build();
+        ParticipantNameResolver before = activity.getParticipantResolver(addressBook);
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Keys").build();
+        addressBook.setPerson(ALICE, renamedAlice);
+
+        ParticipantNameResolver after = activity.getParticipantResolver(addressBook);
+        assertFalse(before == after);
+        assertEquals(List.of(renamedAlice), after.findPersonByName("Alicia Keys"));
+        assertEquals(List.of(), after.findPersonByName(ALICE.getName().fullName));
+    }
+
+    @Test
+    public void getParticipantResolver_renamedCopyInvites_originalRebuilt() {
+        AddressBook addressBook = addressBookOf(ALICE, ANDY, BENSON, DANIEL);
+        Activity activity = new ActivityBuilder().addPerson(ALICE).build();
+        activity.getParticipantResolver(addressBook);
+
+        // the renamed copy shares the participants of the original
+        new Activity(activity, new Title("Renamed")).invite(DANIEL);
+        assertEquals(Arrays.asList(ALICE, DANIEL), activity.getParticipantResolver(addressBook).getParticipants());
+    }
+
+    private static AddressBook addressBookOf(Person... persons) {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : persons) {
+            addressBook.addPerson(person);
+        }
+        return addressBook;
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.model.activity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalActivities.BREAKFAST;
+import static seedu.address.testutil.TypicalActivities.BREAKFAST_SECOND;
+import static seedu.address.testutil.TypicalActivities.LUNCH;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TitleTokenIndexTest {
+
+    private final TitleTokenIndex titleTokenIndex = new TitleTokenIndex();
+
+    @BeforeEach
+    public void setUp() {
+        titleTokenIndex.add(BREAKFAST); // "Breakfast"
+        titleTokenIndex.add(BREAKFAST_SECOND); // "Second Breakfast"
+        titleTokenIndex.add(LUNCH); // "Lunch"
+    }
+
+    @Test
+    public void add_nullActivity_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> titleTokenIndex.add(null));
+    }
+
+    @Test
+    public void findAny_mixedCaseKeywords_returnsUnion() {
+        assertEquals(Set.of(BREAKFAST, BREAKFAST_SECOND, LUNCH),
+                Set.copyOf(titleTokenIndex.findAny(List.of("BREAKFAST", "lunch"))));
+        assertEquals(List.of(BREAKFAST_SECOND), titleTokenIndex.findAny(List.of("second")));
+        assertEquals(Collections.emptyList(), titleTokenIndex.findAny(List.of("break")));
+    }
+
+    @Test
+    public void findAnyByPrefix_prefixes_returnsWordsStartingWithPrefix() {
+        assertEquals(Set.of(BREAKFAST, BREAKFAST_SECOND), Set.copyOf(titleTokenIndex.findAnyByPrefix(List.of("BR"))));
+        assertEquals(Set.of(BREAKFAST_SECOND, LUNCH), Set.copyOf(titleTokenIndex.findAnyByPrefix(List.of("s", "l"))));
+        assertEquals(Collections.emptyList(), titleTokenIndex.findAnyByPrefix(List.of("dinner", "")));
+    }
+
+    @Test
+    public void remove_activity_noLongerFound() {
+        titleTokenIndex.remove(BREAKFAST);
+        assertEquals(List.of(BREAKFAST_SECOND), titleTokenIndex.findAny(List.of("breakfast")));
+        assertEquals(List.of(BREAKFAST_SECOND), titleTokenIndex.findAnyByPrefix(List.of("break")));
+    }
+}
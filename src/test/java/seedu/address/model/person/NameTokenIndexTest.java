@@ -0,0 +1,107 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ANDY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class NameTokenIndexTest {
+
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+
+    @BeforeEach
+    public void setUp() {
+        nameTokenIndex.add(ALICE);
+        nameTokenIndex.add(ANDY);
+        nameTokenIndex.add(BENSON);
+        nameTokenIndex.add(DANIEL);
+    }
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameTokenIndex.add(null));
+    }
+
+    @Test
+    public void findAny_emptyKeywords_returnsEmpty() {
+        assertEquals(Collections.emptyList(), nameTokenIndex.findAny(Collections.emptyList()));
+    }
+
+    @Test
+    public void findAny_mixedCaseKeywords_returnsUnion() {
+        List<Person> expected = Arrays.asList(ALICE, ANDY, BENSON, DANIEL);
+        assertEquals(expected, nameTokenIndex.findAny(Arrays.asList("pAULINE", "meier")));
+    }
+
+    @Test
+    public void findAny_partialWord_returnsEmpty() {
+        assertEquals(Collections.emptyList(), nameTokenIndex.findAny(Arrays.asList("Paul")));
+    }
+
+    @Test
+    public void findAll_emptyKeywords_returnsEmpty() {
+        assertEquals(Collections.emptyList(), nameTokenIndex.findAll(Collections.emptyList()));
+    }
+
+    @Test
+    public void findAll_multipleKeywords_returnsIntersection() {
+        assertEquals(Arrays.asList(ANDY), nameTokenIndex.findAll(Arrays.asList("pauline", "ANDY")));
+        assertEquals(Collections.emptyList(), nameTokenIndex.findAll(Arrays.asList("Andy", "Meier")));
+    }
+
+    @Test
+    public void findSimilar_misspeltKeywords_returnsClosestFirst() {
+        // "meyer" is one edit from "meier"
+        assertEquals(Arrays.asList(BENSON, DANIEL), nameTokenIndex.findSimilar(Arrays.asList("Meyer")));
+        // every keyword must be near some word of the name
+        assertEquals(Arrays.asList(ALICE), nameTokenIndex.findSimilar(Arrays.asList("alcie", "PAULIN")));
+        assertEquals(Collections.emptyList(), nameTokenIndex.findSimilar(Arrays.asList("alcie", "Meier")));
+    }
+
+    @Test
+    public void findSimilar_removedPerson_notFound() {
+        nameTokenIndex.remove(BENSON);
+        nameTokenIndex.remove(DANIEL);
+        assertEquals(Collections.emptyList(), nameTokenIndex.findSimilar(Arrays.asList("Meyer")));
+    }
+
+    @Test
+    public void estimate_keywords_notLessThanFound() {
+        assertEquals(4, nameTokenIndex.estimateAny(Arrays.asList("pAULINE", "meier")));
+        assertEquals(0, nameTokenIndex.estimateAny(Collections.emptyList()));
+        assertEquals(1, nameTokenIndex.estimateAll(Arrays.asList("pauline", "ANDY")));
+        assertEquals(0, nameTokenIndex.estimateAll(Arrays.asList("Paul", "Meier")));
+    }
+
+    @Test
+    public void hasSimilarWord_misspeltKeyword_sameAsFindSimilar() {
+        assertTrue(NameTokenIndex.hasSimilarWord(BENSON, "Meyer"));
+        assertTrue(NameTokenIndex.hasSimilarWord(ALICE, "alcie"));
+        assertFalse(NameTokenIndex.hasSimilarWord(ALICE, "Meyer"));
+        assertFalse(NameTokenIndex.hasSimilarWord(ALICE, " "));
+    }
+
+    @Test
+    public void remove_person_noLongerFound() {
+        nameTokenIndex.remove(ALICE);
+        assertEquals(Arrays.asList(ANDY), nameTokenIndex.findAny(Arrays.asList("Pauline")));
+        assertEquals(Collections.emptyList(), nameTokenIndex.findAny(Arrays.asList("Alice")));
+    }
+
+    @Test
+    public void clear_removesAllPersons() {
+        nameTokenIndex.clear();
+        assertEquals(Collections.emptyList(), nameTokenIndex.findAny(Arrays.asList("Pauline", "Meier")));
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class AmountBoundTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AmountBound(null));
+    }
+
+    @Test
+    public void constructor_invalidBound_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AmountBound("10"));
+    }
+
+    @Test
+    public void isValidBound() {
+        // invalid bounds
+        assertFalse(AmountBound.isValidBound("")); // empty string
+        assertFalse(AmountBound.isValidBound("10")); // no comparison
+        assertFalse(AmountBound.isValidBound(">")); // no amount
+        assertFalse(AmountBound.isValidBound("=10")); // unsupported comparison
+        assertFalse(AmountBound.isValidBound(">-10")); // negative amount
+        assertFalse(AmountBound.isValidBound(">1.234")); // too many decimal places
+
+        // valid bounds
+        assertTrue(AmountBound.isValidBound(">10"));
+        assertTrue(AmountBound.isValidBound("<2.5"));
+        assertTrue(AmountBound.isValidBound(">0.01"));
+    }
+
+    @Test
+    public void test_strictComparison() {
+        AmountBound lowerBound = new AmountBound(">10");
+        assertTrue(lowerBound.test(10.01));
+        assertFalse(lowerBound.test(10));
+        assertFalse(lowerBound.test(-20));
+
+        AmountBound upperBound = new AmountBound("<2.50");
+        assertTrue(upperBound.test(-20));
+        assertFalse(upperBound.test(2.5));
+    }
+
+    @Test
+    public void equals() {
+        AmountBound bound = new AmountBound(">10");
+
+        assertTrue(bound.equals(bound));
+        assertTrue(bound.equals(new AmountBound(">10.00")));
+        assertFalse(bound.equals(null));
+        assertFalse(bound.equals(new AmountBound("<10")));
+        assertFalse(bound.equals(new AmountBound(">11")));
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class QueryTest {
+
+    private final List<Integer> entries = List.of(1, 2, 3, 4, 5, 6);
+
+    @Test
+    public void withLookup_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Query<>(() -> entries).withLookup(null, () -> entries,
+            x -> true));
+        assertThrows(NullPointerException.class, () -> new Query<>(() -> entries).withLookup(() -> 0, null,
+            x -> true));
+        assertThrows(NullPointerException.class, () -> new Query<>(() -> entries).withLookup(() -> 0, () -> entries,
+            null));
+    }
+
+    @Test
+    public void execute_noConditions_returnsEmpty() {
+        assertTrue(new Query<>(() -> entries).execute().isEmpty());
+    }
+
+    @Test
+    public void execute_filtersOnly_scansAllEntries() {
+        Set<Integer> matches = new Query<>(() -> entries)
+                .withFilter(x -> x % 2 == 0)
+                .execute();
+        assertEquals(Set.of(2, 4, 6), Set.copyOf(matches));
+    }
+
+    @Test
+    public void execute_lookupsAndFilters_intersected() {
+        Set<Integer> matches = new Query<>(() -> entries)
+                .withLookup(() -> 4, () -> List.of(entries.get(0), entries.get(1), entries.get(2), entries.get(3)),
+                    x -> x <= 4)
+                .withLookup(() -> 3, () -> List.of(entries.get(1), entries.get(3), entries.get(4)),
+                    x -> x == 2 || x == 4 || x == 5)
+                .withFilter(x -> x > 2)
+                .execute();
+        assertEquals(Set.of(4), Set.copyOf(matches));
+    }
+
+    @Test
+    public void execute_lookups_onlySmallestEstimateLookedUp() {
+        List<String> lookedUp = new ArrayList<>();
+        List<Integer> tested = new ArrayList<>();
+        Set<Integer> matches = new Query<>(() -> entries)
+                .withLookup(() -> 6, () -> {
+                    lookedUp.add("all");
+                    return entries;
+                }, x -> true)
+                .withLookup(() -> 1, () -> {
+                    lookedUp.add("three");
+                    return List.of(entries.get(2));
+                }, x -> x == 3)
+                .withFilter(x -> tested.add(x))
+                .execute();
+        assertEquals(Set.of(3), Set.copyOf(matches));
+        assertEquals(List.of("three"), lookedUp);
+        assertEquals(List.of(3), tested);
+    }
+
+    @Test
+    public void execute_otherLookups_testedOnCandidates() {
+        Set<Integer> matches = new Query<>(() -> entries)
+                .withLookup(() -> 2, () -> List.of(entries.get(1), entries.get(3)), x -> x == 2 || x == 4)
+                .withLookup(() -> 3, () -> {
+                    throw new AssertionError("larger lookup should not be made");
+                }, x -> x % 4 == 0)
+                .execute();
+        assertEquals(Set.of(4), Set.copyOf(matches));
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag OWES_MONEY = new Tag("owesMoney");
+
+    private final TagIndex tagIndex = new TagIndex();
+
+    @BeforeEach
+    public void setUp() {
+        tagIndex.add(ALICE); // friends
+        tagIndex.add(BENSON); // friends, owesMoney
+        tagIndex.add(CARL); // no tags
+    }
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tagIndex.add(null));
+    }
+
+    @Test
+    public void filter_emptyFilter_returnsEveryone() {
+        assertArrayEquals(keysOf(ALICE, BENSON, CARL), tagIndex.filter(TagFilter.EMPTY));
+    }
+
+    @Test
+    public void filter_anyOfGroups_returnsIntersectionOfUnions() {
+        assertArrayEquals(keysOf(ALICE, BENSON), tagIndex.filter(new TagFilter(List.of(Set.of(FRIENDS)), Set.of())));
+        assertArrayEquals(keysOf(BENSON), tagIndex.filter(
+                new TagFilter(List.of(Set.of(FRIENDS), Set.of(OWES_MONEY)), Set.of())));
+        assertArrayEquals(keysOf(), tagIndex.filter(new TagFilter(List.of(Set.of(new Tag("unused"))), Set.of())));
+    }
+
+    @Test
+    public void filter_noneOf_excludesTagged() {
+        assertArrayEquals(keysOf(ALICE, CARL), tagIndex.filter(new TagFilter(List.of(), Set.of(OWES_MONEY))));
+        assertArrayEquals(keysOf(ALICE), tagIndex.filter(new TagFilter(List.of(Set.of(FRIENDS)), Set.of(OWES_MONEY))));
+    }
+
+    @Test
+    public void filter_largePrimaryKeys_foundAfterRemovals() {
+        Person far = new PersonBuilder(ALICE).withPrimaryKey(Integer.MAX_VALUE - 1).build();
+        tagIndex.remove(ALICE);
+        tagIndex.add(far);
+        assertArrayEquals(keysOf(BENSON, far), tagIndex.filter(new TagFilter(List.of(Set.of(FRIENDS)), Set.of())));
+        tagIndex.remove(far);
+        tagIndex.add(ALICE);
+        assertArrayEquals(keysOf(ALICE, BENSON, CARL), tagIndex.filter(TagFilter.EMPTY));
+    }
+
+    @Test
+    public void estimate_filter_smallestGroupCounted() {
+        assertEquals(3, tagIndex.estimate(TagFilter.EMPTY));
+        assertEquals(1, tagIndex.estimate(new TagFilter(List.of(Set.of(FRIENDS), Set.of(OWES_MONEY)), Set.of())));
+        assertEquals(0, tagIndex.estimate(new TagFilter(List.of(Set.of(new Tag("unused"))), Set.of())));
+    }
+
+    @Test
+    public void remove_person_noLongerFiltered() {
+        tagIndex.remove(BENSON);
+        assertArrayEquals(keysOf(ALICE), tagIndex.filter(new TagFilter(List.of(Set.of(FRIENDS)), Set.of())));
+        assertArrayEquals(keysOf(ALICE, CARL), tagIndex.filter(TagFilter.EMPTY));
+    }
+
+    private static int[] keysOf(Person... persons) {
+        return Arrays.stream(persons).mapToInt(Person::getPrimaryKey).sorted().toArray();
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalActivities.BREAKFAST;
+import static seedu.address.testutil.TypicalActivities.getTypicalActivityBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ActivityBook;
+import seedu.address.model.activity.Activity;
+import seedu.address.model.activity.Amount;
+import seedu.address.model.activity.Expense;
+import seedu.address.testutil.ActivityBuilder;
+
+public class BinaryActivityBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readActivityBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryActivityBookStorage(testFolder.resolve("missing.bin")).readActivityBook().isPresent());
+    }
+
+    @Test
+    public void readActivityBook_jsonFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("activitybook.bin");
+        FileUtil.writeToFile(filePath, "{ \"activityList\" : [ ] }");
+        assertThrows(DataConversionException.class, () -> new BinaryActivityBookStorage(filePath).readActivityBook());
+    }
+
+    @Test
+    public void readAndSaveActivityBook_allInOrder_success() throws Exception {
+        BinaryActivityBookStorage storage = new BinaryActivityBookStorage(testFolder.resolve("activitybook.bin"));
+        ActivityBook original = getTypicalActivityBook();
+        storage.saveActivityBook(original);
+        assertEquals(original, storage.readActivityBook().get());
+
+        original.removeActivity(BREAKFAST);
+        storage.saveActivityBook(original);
+        assertEquals(original, storage.readActivityBook().get());
+    }
+
+    @Test
+    public void readAndSaveActivityBook_compressed_success() throws Exception {
+        Path filePath = testFolder.resolve("activitybook.bin");
+        ActivityBook original = getTypicalActivityBook();
+        new BinaryActivityBookStorage(filePath, true).saveActivityBook(original);
+        assertTrue(FileUtil.isCompressed(filePath));
+        assertEquals(original, new BinaryActivityBookStorage(filePath).readActivityBook().get());
+    }
+
+    @Test
+    public void readAndSaveActivityBook_expenseDetails_keptExactly() throws Exception {
+        Activity trip = new ActivityBuilder().withTitle("Trip")
+                .addPerson(ALICE).addPerson(BENSON).addPerson(CARL).build();
+        int alice = ALICE.getPrimaryKey();
+        int benson = BENSON.getPrimaryKey();
+        int carl = CARL.getPrimaryKey();
+        trip.addExpense(new Expense(alice, new Amount(12.34), "dinner"));
+        trip.addExpense(new Expense(benson, new Amount(9), "dinner", carl, alice));
+        trip.addExpense(new Expense(carl, new Amount(20), "taxi", alice, benson));
+        trip.addExpense(new Expense(alice, new Amount(10.0 / 3), "", true, benson));
+        trip.addExpense(new Expense(benson, new Amount(5), "snacks"));
+        trip.deleteExpense(4);
+        ActivityBook original = new ActivityBook();
+        original.addActivity(trip);
+
+        BinaryActivityBookStorage storage = new BinaryActivityBookStorage(testFolder.resolve("activitybook.bin"));
+        storage.saveActivityBook(original);
+        Activity readBack = storage.readActivityBook().get().getActivityList().get(0);
+
+        assertEquals(trip, readBack);
+        List<Expense> expenses = trip.getExpenses();
+        List<Expense> readBackExpenses = readBack.getExpenses();
+        for (int i = 0; i < expenses.size(); i++) {
+            assertEquals(expenses.get(i).getAmount().value, readBackExpenses.get(i).getAmount().value);
+            assertArrayEquals(expenses.get(i).getInvolved(), readBackExpenses.get(i).getInvolved());
+            assertEquals(expenses.get(i).isSettlement(), readBackExpenses.get(i).isSettlement());
+            assertEquals(expenses.get(i).isDeleted(), readBackExpenses.get(i).isDeleted());
+        }
+        for (Integer id : trip.getParticipantIds()) {
+            assertEquals(trip.getTransferAmount(id), readBack.getTransferAmount(id));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalActivities.getTypicalActivityBook;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ActivityBook;
+import seedu.address.model.AddressBook;
+
+public class DataFormatConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                DataFormatConverter.getBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                DataFormatConverter.getBinaryFilePath(Paths.get("data", "addressbook")));
+    }
+
+    @Test
+    public void getSqlFilePath() {
+        assertEquals(Paths.get("data", "activitybook.mv.db"),
+                DataFormatConverter.getSqlFilePath(Paths.get("data", "activitybook.json")));
+    }
+
+    @Test
+    public void convertAddressBook_jsonToSql_sameAddressBook() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        SqlAddressBookStorage sqlStorage = new SqlAddressBookStorage(
+                DataFormatConverter.getSqlFilePath(jsonStorage.getAddressBookFilePath()));
+        AddressBook original = getTypicalAddressBook();
+        jsonStorage.saveAddressBook(original);
+
+        assertTrue(DataFormatConverter.convertAddressBook(List.of(jsonStorage), sqlStorage));
+        assertEquals(original, new AddressBook(sqlStorage.readAddressBook().get()));
+        assertFalse(DataFormatConverter.convertAddressBook(List.of(jsonStorage), sqlStorage));
+    }
+
+    @Test
+    public void convertAddressBook_bothWays_sameAddressBook() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        AddressBook original = getTypicalAddressBook();
+        jsonStorage.saveAddressBook(original);
+
+        assertTrue(DataFormatConverter.convertAddressBook(List.of(jsonStorage), binaryStorage));
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        binaryStorage.saveAddressBook(original);
+        setLastModified(binaryStorage.getAddressBookFilePath(), 2000);
+        setLastModified(jsonStorage.getAddressBookFilePath(), 1000);
+        assertTrue(DataFormatConverter.convertAddressBook(List.of(binaryStorage), jsonStorage));
+        assertEquals(original, new AddressBook(jsonStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void convertActivityBook_targetNewer_notConverted() throws Exception {
+        JsonActivityBookStorage jsonStorage = new JsonActivityBookStorage(testFolder.resolve("activitybook.json"));
+        BinaryActivityBookStorage binaryStorage =
+                new BinaryActivityBookStorage(testFolder.resolve("activitybook.bin"));
+        jsonStorage.saveActivityBook(getTypicalActivityBook());
+        binaryStorage.saveActivityBook(new ActivityBook());
+        setLastModified(jsonStorage.getActivityBookFilePath(), 1000);
+        setLastModified(binaryStorage.getActivityBookFilePath(), 2000);
+
+        assertFalse(DataFormatConverter.convertActivityBook(List.of(jsonStorage), binaryStorage));
+        assertTrue(binaryStorage.readActivityBook().get().getActivityList().isEmpty());
+    }
+
+    @Test
+    public void convertActivityBook_severalSources_newestConverted() throws Exception {
+        JsonActivityBookStorage jsonStorage = new JsonActivityBookStorage(testFolder.resolve("activitybook.json"));
+        BinaryActivityBookStorage binaryStorage =
+                new BinaryActivityBookStorage(testFolder.resolve("activitybook.bin"));
+        MappedActivityBookStorage mappedStorage =
+                new MappedActivityBookStorage(testFolder.resolve("activitybook.ledger"));
+        jsonStorage.saveActivityBook(new ActivityBook());
+        binaryStorage.saveActivityBook(getTypicalActivityBook());
+        setLastModified(jsonStorage.getActivityBookFilePath(), 1000);
+        setLastModified(binaryStorage.getActivityBookFilePath(), 2000);
+
+        assertTrue(DataFormatConverter.convertActivityBook(List.of(jsonStorage, binaryStorage), mappedStorage));
+        assertEquals(getTypicalActivityBook(), new MappedActivityBookStorage(mappedStorage.getActivityBookFilePath())
+                .readActivityBook().get());
+    }
+
+    @Test
+    public void convertActivityBook_missingSource_notConverted() throws Exception {
+        assertFalse(DataFormatConverter.convertActivityBook(
+                List.of(new JsonActivityBookStorage(testFolder.resolve("activitybook.json"))),
+                new BinaryActivityBookStorage(testFolder.resolve("activitybook.bin"))));
+    }
+
+    private static void setLastModified(Path filePath, long seconds) throws Exception {
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(seconds * 1000));
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ActivityBook;
+import seedu.address.model.activity.Activity;
+import seedu.address.model.activity.Amount;
+import seedu.address.model.activity.Expense;
+import seedu.address.testutil.ActivityBuilder;
+
+public class JournaledActivityBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+    private JournaledActivityBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("activitybook.json");
+        journalPath = testFolder.resolve("activitybook.json.journal");
+        storage = new JournaledActivityBookStorage(new JsonActivityBookStorage(filePath));
+    }
+
+    @Test
+    public void saveActivityBook_activityChangedInPlace_changeJournaled() throws Exception {
+        Activity dinner = new ActivityBuilder().withTitle("Dinner").addPerson(ALICE).addPerson(BENSON).build();
+        Activity lunch = new ActivityBuilder().withTitle("Lunch").addPerson(ALICE).build();
+        ActivityBook original = new ActivityBook();
+        original.addActivity(dinner);
+        original.addActivity(lunch);
+        storage.saveActivityBook(original);
+        ActivityBook snapshot = readSnapshot();
+
+        dinner.addExpense(new Expense(ALICE.getPrimaryKey(), new Amount(20), "pizza"));
+        original.removeActivity(lunch);
+        storage.saveActivityBook(original);
+
+        assertEquals(snapshot, readSnapshot());
+        assertTrue(Files.exists(journalPath));
+        assertEquals(original.getActivityList(), readBack().getActivityList());
+    }
+
+    @Test
+    public void saveActivityBook_reordered_orderJournaled() throws Exception {
+        Activity dinner = new ActivityBuilder().withTitle("Dinner").addPerson(ALICE).build();
+        Activity lunch = new ActivityBuilder().withTitle("Lunch").addPerson(ALICE).build();
+        ActivityBook original = new ActivityBook();
+        original.addActivity(dinner);
+        original.addActivity(lunch);
+        storage.saveActivityBook(original);
+
+        original.setActivities(List.of(lunch, dinner));
+        storage.saveActivityBook(original);
+
+        assertEquals(List.of(lunch, dinner), readBack().getActivityList());
+    }
+
+    @Test
+    public void compactActivityBook_changesJournaled_savedInFull() throws Exception {
+        Activity dinner = new ActivityBuilder().withTitle("Dinner").addPerson(ALICE).addPerson(BENSON).build();
+        ActivityBook original = new ActivityBook();
+        original.addActivity(dinner);
+        storage.saveActivityBook(original);
+        dinner.addExpense(new Expense(BENSON.getPrimaryKey(), new Amount(12), "drinks"));
+        storage.saveActivityBook(original);
+
+        storage.compactActivityBook();
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original.getActivityList(), readSnapshot().getActivityList());
+    }
+
+    private ActivityBook readSnapshot() throws Exception {
+        return new JsonActivityBookStorage(filePath).readActivityBook().get();
+    }
+
+    private ActivityBook readBack() throws Exception {
+        return new JournaledActivityBookStorage(new JsonActivityBookStorage(filePath)).readActivityBook().get();
+    }
+}
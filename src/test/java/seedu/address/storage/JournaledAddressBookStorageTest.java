@@ -0,0 +1,100 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+    private JournaledAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        journalPath = testFolder.resolve("addressbook.json.journal");
+        storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changedSinceLastSave_onlyChangesJournaled() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalPath));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Mayer").build());
+        List<Person> reversed = new ArrayList<>(original.getPersonList());
+        Collections.reverse(reversed);
+        original.setPersons(reversed);
+        storage.saveAddressBook(original);
+
+        // the full copy is left as it was
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().map(
+                AddressBook::new).get());
+        assertTrue(Files.exists(journalPath));
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastChange_ignored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.write(journalPath, "{\"person\":{\"na".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void compactAddressBook_changesJournaled_savedInFull() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // changes made after the last save are included as well
+        original.removePerson(ALICE);
+        storage.compactAddressBook();
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().map(AddressBook::new).get());
+        assertEquals(original, readBack());
+    }
+
+    private AddressBook readBack() throws Exception {
+        return new AddressBook(new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath))
+                .readAddressBook().get());
+    }
+}
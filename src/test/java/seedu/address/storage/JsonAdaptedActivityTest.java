@@ -1,11 +1,18 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.activity.Activity;
+import seedu.address.model.activity.Amount;
+import seedu.address.model.activity.Expense;
 import seedu.address.model.activity.Title;
+import seedu.address.testutil.ActivityBuilder;
 
 public class JsonAdaptedActivityTest {
 
@@ -17,5 +24,47 @@ public class JsonAdaptedActivityTest {
         JsonAdaptedActivity activity = new JsonAdaptedActivity(chaletActivity);
         assertEquals(chaletActivity, activity.toModelType());
     }
-    // Only implemented 1 test
+
+    @Test
+    public void toModelType_savedBalances_restored() throws Exception {
+        Activity trip = createTrip();
+        String json = JsonUtil.toJsonString(new JsonAdaptedActivity(trip));
+        Activity readBack = JsonUtil.fromJsonString(json, JsonAdaptedActivity.class).toModelType();
+
+        assertEquals(trip, readBack);
+        assertEquals(trip.getBalanceSnapshot(), readBack.getBalanceSnapshot());
+        assertEquals(trip.getSolution().size(), readBack.getSolution().size());
+        for (Integer id : trip.getParticipantIds()) {
+            assertEquals(trip.getTransferAmount(id), readBack.getTransferAmount(id));
+        }
+    }
+
+    @Test
+    public void toModelType_balancesOfOtherExpenses_workedOutAgain() throws Exception {
+        // the balances of the trip saved with an expense edited by hand
+        String json = JsonUtil.toJsonString(new JsonAdaptedActivity(createTrip(12.34)))
+                .replace("\"amount\" : 12.34", "\"amount\" : 40.0");
+        Activity readBack = JsonUtil.fromJsonString(json, JsonAdaptedActivity.class).toModelType();
+
+        Activity expected = createTrip(40);
+        assertEquals(expected, readBack);
+        assertEquals(expected.getBalanceSnapshot(), readBack.getBalanceSnapshot());
+    }
+
+    private static Activity createTrip() {
+        return createTrip(12.34);
+    }
+
+    private static Activity createTrip(double dinnerAmount) {
+        Activity trip = new ActivityBuilder().withTitle("Trip")
+                .addPerson(ALICE).addPerson(BENSON).addPerson(CARL).build();
+        int alice = ALICE.getPrimaryKey();
+        int benson = BENSON.getPrimaryKey();
+        int carl = CARL.getPrimaryKey();
+        trip.addExpense(new Expense(alice, new Amount(dinnerAmount), "dinner"));
+        trip.addExpense(new Expense(benson, new Amount(9), "dinner", carl, alice));
+        trip.addExpense(new Expense(carl, new Amount(20), "taxi", alice, benson));
+        trip.addExpense(new Expense(alice, new Amount(0), "", true, benson));
+        return trip;
+    }
 }
@@ -0,0 +1,217 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalActivities.BREAKFAST;
+import static seedu.address.testutil.TypicalActivities.getTypicalActivityBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ActivityBook;
+import seedu.address.model.activity.Activity;
+import seedu.address.model.activity.Amount;
+import seedu.address.model.activity.Expense;
+import seedu.address.testutil.ActivityBuilder;
+
+public class MappedActivityBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readActivityBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new MappedActivityBookStorage(testFolder.resolve("missing.ledger")).readActivityBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readActivityBook_missingExpenseFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("activitybook.ledger");
+        new MappedActivityBookStorage(filePath).saveActivityBook(getTypicalActivityBook());
+        Files.delete(filePath.resolveSibling("activitybook.ledger.expenses"));
+        assertThrows(DataConversionException.class, () -> new MappedActivityBookStorage(filePath).readActivityBook());
+    }
+
+    @Test
+    public void readActivityBook_notIndexFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("activitybook.ledger");
+        new MappedActivityBookStorage(filePath).saveActivityBook(getTypicalActivityBook());
+        FileUtil.writeToFile(filePath, "{ \"activityList\" : [ ] }");
+        assertThrows(DataConversionException.class, () -> new MappedActivityBookStorage(filePath).readActivityBook());
+    }
+
+    @Test
+    public void readAndSaveActivityBook_allInOrder_success() throws Exception {
+        MappedActivityBookStorage storage = new MappedActivityBookStorage(testFolder.resolve("activitybook.ledger"));
+        ActivityBook original = getTypicalActivityBook();
+        storage.saveActivityBook(original);
+        assertEquals(original, storage.readActivityBook().get());
+
+        original.removeActivity(BREAKFAST);
+        storage.saveActivityBook(original);
+        assertEquals(original, storage.readActivityBook().get());
+    }
+
+    @Test
+    public void readAndSaveActivityBook_expenseDetails_keptExactly() throws Exception {
+        Activity trip = createTrip();
+        trip.addExpense(new Expense(ALICE.getPrimaryKey(), new Amount(10.0 / 3), "", true, BENSON.getPrimaryKey()));
+        trip.addExpense(new Expense(BENSON.getPrimaryKey(), new Amount(5), "snacks"));
+        trip.deleteExpense(4);
+        ActivityBook original = new ActivityBook();
+        original.addActivity(trip);
+
+        MappedActivityBookStorage storage = new MappedActivityBookStorage(testFolder.resolve("activitybook.ledger"));
+        storage.saveActivityBook(original);
+        Activity readBack = storage.readActivityBook().get().getActivityList().get(0);
+
+        assertEquals(trip, readBack);
+        List<Expense> expenses = trip.getExpenses();
+        List<Expense> readBackExpenses = readBack.getExpenses();
+        for (int i = 0; i < expenses.size(); i++) {
+            assertEquals(expenses.get(i).getAmount().value, readBackExpenses.get(i).getAmount().value);
+            assertArrayEquals(expenses.get(i).getInvolved(), readBackExpenses.get(i).getInvolved());
+            assertEquals(expenses.get(i).isSettlement(), readBackExpenses.get(i).isSettlement());
+            assertEquals(expenses.get(i).isDeleted(), readBackExpenses.get(i).isDeleted());
+        }
+        for (Integer id : trip.getParticipantIds()) {
+            assertEquals(trip.getTransferAmount(id), readBack.getTransferAmount(id));
+        }
+    }
+
+    @Test
+    public void saveActivityBook_expenseAdded_onlyRecordAppended() throws Exception {
+        Path filePath = testFolder.resolve("activitybook.ledger");
+        Path expensesFilePath = filePath.resolveSibling("activitybook.ledger.expenses");
+        MappedActivityBookStorage storage = new MappedActivityBookStorage(filePath);
+        ActivityBook activityBook = getTypicalActivityBook();
+        Activity trip = createTrip();
+        activityBook.addActivity(trip);
+        storage.saveActivityBook(activityBook);
+        byte[] savedRecords = Files.readAllBytes(expensesFilePath);
+
+        trip.addExpense(new Expense(CARL.getPrimaryKey(), new Amount(7), "museum"));
+        storage.saveActivityBook(activityBook);
+
+        byte[] records = Files.readAllBytes(expensesFilePath);
+        assertEquals(savedRecords.length + MappedActivityBookStorage.RECORD_SIZE, records.length);
+        for (int i = 0; i < savedRecords.length; i++) {
+            assertEquals(savedRecords[i], records[i]);
+        }
+        assertEquals(activityBook, new MappedActivityBookStorage(filePath).readActivityBook().get());
+    }
+
+    @Test
+    public void saveActivityBook_expenseDeleted_recordKeptInPlace() throws Exception {
+        Path filePath = testFolder.resolve("activitybook.ledger");
+        Path expensesFilePath = filePath.resolveSibling("activitybook.ledger.expenses");
+        MappedActivityBookStorage storage = new MappedActivityBookStorage(filePath);
+        Activity trip = createTrip();
+        ActivityBook activityBook = new ActivityBook();
+        activityBook.addActivity(trip);
+        storage.saveActivityBook(activityBook);
+        long savedSize = Files.size(expensesFilePath);
+
+        trip.deleteExpense(2);
+        storage.saveActivityBook(activityBook);
+
+        assertEquals(savedSize, Files.size(expensesFilePath));
+        Activity readBack = new MappedActivityBookStorage(filePath).readActivityBook().get().getActivityList().get(0);
+        assertEquals(trip, readBack);
+        for (int i = 0; i < trip.getExpenses().size(); i++) {
+            assertEquals(trip.getExpenses().get(i).isDeleted(), readBack.getExpenses().get(i).isDeleted());
+        }
+    }
+
+    @Test
+    public void saveActivityBook_afterRead_appendsToReadFiles() throws Exception {
+        Path filePath = testFolder.resolve("activitybook.ledger");
+        ActivityBook activityBook = new ActivityBook();
+        activityBook.addActivity(createTrip());
+        new MappedActivityBookStorage(filePath).saveActivityBook(activityBook);
+
+        MappedActivityBookStorage storage = new MappedActivityBookStorage(filePath);
+        ActivityBook readBack = storage.readActivityBook().get();
+        readBack.getActivityList().get(0).addExpense(new Expense(BENSON.getPrimaryKey(), new Amount(3), "ferry"));
+        storage.saveActivityBook(readBack);
+
+        assertEquals(readBack, new MappedActivityBookStorage(filePath).readActivityBook().get());
+    }
+
+    @Test
+    public void readActivityBook_recordsNotInIndex_ignored() throws Exception {
+        Path filePath = testFolder.resolve("activitybook.ledger");
+        Path expensesFilePath = filePath.resolveSibling("activitybook.ledger.expenses");
+        ActivityBook activityBook = new ActivityBook();
+        Activity trip = createTrip();
+        activityBook.addActivity(trip);
+        new MappedActivityBookStorage(filePath).saveActivityBook(activityBook);
+        byte[] index = Files.readAllBytes(filePath);
+
+        // an expense was being added when the app stopped, after its record was written but before the index was
+        MappedActivityBookStorage storage = new MappedActivityBookStorage(filePath);
+        ActivityBook readBack = storage.readActivityBook().get();
+        readBack.getActivityList().get(0).addExpense(new Expense(CARL.getPrimaryKey(), new Amount(7), "museum"));
+        storage.saveActivityBook(readBack);
+        Files.write(filePath, index);
+        // followed by part of another record
+        Files.write(expensesFilePath, new byte[] {1, 2, 3}, StandardOpenOption.APPEND);
+
+        storage = new MappedActivityBookStorage(filePath);
+        readBack = storage.readActivityBook().get();
+        assertEquals(activityBook, readBack);
+
+        // the records left over are dropped on the next save
+        storage.saveActivityBook(readBack);
+        assertEquals((long) MappedActivityBookStorage.RECORD_SIZE * (trip.getExpenses().size() + 1),
+                Files.size(expensesFilePath));
+        assertEquals(activityBook, new MappedActivityBookStorage(filePath).readActivityBook().get());
+    }
+
+    @Test
+    public void saveActivityBook_expenseChanged_filesRewritten() throws Exception {
+        Path filePath = testFolder.resolve("activitybook.ledger");
+        MappedActivityBookStorage storage = new MappedActivityBookStorage(filePath);
+        ActivityBook activityBook = getTypicalActivityBook();
+        Activity trip = createTrip();
+        activityBook.addActivity(trip);
+        storage.saveActivityBook(activityBook);
+
+        ActivityBook changed = new ActivityBook();
+        Activity changedTrip = new ActivityBuilder().withTitle("Trip")
+                .addPerson(ALICE).addPerson(BENSON).addPerson(CARL).build();
+        changedTrip.addExpense(new Expense(CARL.getPrimaryKey(), new Amount(1), "stamps"));
+        changed.addActivity(changedTrip);
+        storage.saveActivityBook(changed);
+
+        ActivityBook readBack = new MappedActivityBookStorage(filePath).readActivityBook().get();
+        assertEquals(changed, readBack);
+        assertEquals(2L * MappedActivityBookStorage.RECORD_SIZE,
+                Files.size(filePath.resolveSibling("activitybook.ledger.expenses")));
+    }
+
+    private static Activity createTrip() {
+        Activity trip = new ActivityBuilder().withTitle("Trip")
+                .addPerson(ALICE).addPerson(BENSON).addPerson(CARL).build();
+        int alice = ALICE.getPrimaryKey();
+        int benson = BENSON.getPrimaryKey();
+        int carl = CARL.getPrimaryKey();
+        trip.addExpense(new Expense(alice, new Amount(12.34), "dinner"));
+        trip.addExpense(new Expense(benson, new Amount(9), "dinner", carl, alice));
+        trip.addExpense(new Expense(carl, new Amount(20), "taxi", alice, benson));
+        return trip;
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelConverterTest {
+
+    private static final int COUNT = ParallelConverter.BATCH_SIZE * 2 + 7;
+
+    @Test
+    public void convertAll_manyElements_orderKept() throws Exception {
+        List<Integer> numbers = IntStream.range(0, COUNT).boxed().collect(Collectors.toList());
+        List<String> converted = ParallelConverter.convertAll(numbers, Object::toString, "number");
+        assertEquals(numbers.stream().map(Object::toString).collect(Collectors.toList()), converted);
+    }
+
+    @Test
+    public void convertAll_invalidElements_firstReportedWithPosition() {
+        List<Integer> numbers = IntStream.range(0, COUNT).boxed().collect(Collectors.toList());
+        assertThrows(IllegalValueException.class, "Invalid number 300: odd", () ->
+                ParallelConverter.convertAll(numbers, ParallelConverterTest::rejectOddAfter299, "number"));
+    }
+
+    @Test
+    public void handle_manyElements_passedOnInOrder() throws Exception {
+        List<String> handled = new ArrayList<>();
+        ParallelConverter<Integer, String> converter = new ParallelConverter<>(Object::toString, handled::add,
+                "number");
+        for (int i = 0; i < COUNT; i++) {
+            converter.handle(i);
+        }
+        converter.finish();
+        assertEquals(IntStream.range(0, COUNT).mapToObj(Integer::toString).collect(Collectors.toList()), handled);
+    }
+
+    @Test
+    public void handle_handlerFailsBeforeInvalidElement_handlerFailureReported() throws Exception {
+        ParallelConverter<Integer, Integer> converter = new ParallelConverter<>(
+                ParallelConverterTest::rejectOddAfter299, number -> {
+                    if (number == 298) {
+                        throw new IllegalValueException("duplicate");
+                    }
+                }, "number");
+        assertThrows(IllegalValueException.class, "duplicate", () -> {
+            for (int i = 0; i < COUNT; i++) {
+                converter.handle(i);
+            }
+            converter.finish();
+        });
+    }
+
+    private static Integer rejectOddAfter299(Integer number) throws IllegalValueException {
+        if (number >= 299 && number % 2 == 1) {
+            throw new IllegalValueException("odd");
+        }
+        return number;
+    }
+}
@@ -0,0 +1,181 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalActivities.BREAKFAST;
+import static seedu.address.testutil.TypicalActivities.getTypicalActivityBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ActivityBook;
+import seedu.address.model.activity.Activity;
+import seedu.address.model.activity.Amount;
+import seedu.address.model.activity.Expense;
+import seedu.address.model.activity.exceptions.ExpenseLoadException;
+import seedu.address.testutil.ActivityBuilder;
+
+public class ShardedActivityBookStorageTest {
+
+    private static final FileTime OLD_TIME = FileTime.fromMillis(1000);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readActivityBook_missingManifest_emptyResult() throws Exception {
+        assertFalse(new ShardedActivityBookStorage(testFolder.resolve("manifest.json")).readActivityBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readActivityBook_missingShard_throwsDataConversionException() throws Exception {
+        ShardedActivityBookStorage storage = new ShardedActivityBookStorage(testFolder.resolve("manifest.json"));
+        storage.saveActivityBook(getTypicalActivityBook());
+        Files.delete(storage.getShardFilePath(BREAKFAST.getPrimaryKey()));
+        assertThrows(DataConversionException.class, () -> storage.readActivityBook());
+    }
+
+    @Test
+    public void readActivityBook_invalidShard_throwsDataConversionException() throws Exception {
+        ShardedActivityBookStorage storage = new ShardedActivityBookStorage(testFolder.resolve("manifest.json"));
+        storage.saveActivityBook(getTypicalActivityBook());
+        FileUtil.writeToFile(storage.getShardFilePath(BREAKFAST.getPrimaryKey()), "{ \"title\" : \"\" }");
+        assertThrows(DataConversionException.class, () -> storage.readActivityBook());
+    }
+
+    @Test
+    public void readAndSaveActivityBook_allInOrder_success() throws Exception {
+        ShardedActivityBookStorage storage = new ShardedActivityBookStorage(testFolder.resolve("manifest.json"));
+        ActivityBook original = getTypicalActivityBook();
+        storage.saveActivityBook(original);
+        assertEquals(original, storage.readActivityBook().get());
+
+        original.removeActivity(BREAKFAST);
+        storage.saveActivityBook(original);
+        assertEquals(original, storage.readActivityBook().get());
+        assertFalse(Files.exists(storage.getShardFilePath(BREAKFAST.getPrimaryKey())));
+    }
+
+    @Test
+    public void saveActivityBook_compact_readBack() throws Exception {
+        ShardedActivityBookStorage storage =
+                new ShardedActivityBookStorage(testFolder.resolve("manifest.json"), true, false);
+        ActivityBook original = createActivityBook();
+        storage.saveActivityBook(original);
+        assertEquals(original, new ShardedActivityBookStorage(storage.getActivityBookFilePath()).readActivityBook()
+                .get());
+    }
+
+    @Test
+    public void saveActivityBook_activityChanged_onlyItsFileRewritten() throws Exception {
+        Path filePath = testFolder.resolve("manifest.json");
+        new ShardedActivityBookStorage(filePath).saveActivityBook(createActivityBook());
+        ShardedActivityBookStorage storage = new ShardedActivityBookStorage(filePath);
+        ActivityBook activityBook = storage.readActivityBook().get();
+        Activity trip = activityBook.getActivityList().get(0);
+        Activity dinner = activityBook.getActivityList().get(1);
+        Files.setLastModifiedTime(storage.getShardFilePath(trip.getPrimaryKey()), OLD_TIME);
+        Files.setLastModifiedTime(storage.getShardFilePath(dinner.getPrimaryKey()), OLD_TIME);
+
+        trip.addExpense(new Expense(BENSON.getPrimaryKey(), new Amount(4), "ferry"));
+        storage.saveActivityBook(activityBook);
+
+        assertTrue(Files.getLastModifiedTime(storage.getShardFilePath(trip.getPrimaryKey())).compareTo(OLD_TIME) > 0);
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(storage.getShardFilePath(dinner.getPrimaryKey())));
+        assertEquals(activityBook, new ShardedActivityBookStorage(filePath).readActivityBook().get());
+    }
+
+    @Test
+    public void saveActivityBook_leftOverShard_deleted() throws Exception {
+        ShardedActivityBookStorage storage = new ShardedActivityBookStorage(testFolder.resolve("manifest.json"));
+        FileUtil.createParentDirsOfFile(storage.getShardFilePath(999));
+        FileUtil.writeToFile(storage.getShardFilePath(999), "{}");
+        storage.saveActivityBook(createActivityBook());
+        assertFalse(Files.exists(storage.getShardFilePath(999)));
+    }
+
+    @Test
+    public void saveActivityBook_shardLikeFileNextToManifest_notDeleted() throws Exception {
+        ShardedActivityBookStorage storage = new ShardedActivityBookStorage(testFolder.resolve("manifest.json"));
+        Path unrelatedFile = testFolder.resolve("activity-999.json");
+        FileUtil.writeToFile(unrelatedFile, "{}");
+        storage.saveActivityBook(createActivityBook());
+        storage.saveActivityBook(new ActivityBook());
+        assertTrue(Files.exists(unrelatedFile));
+        assertEquals(testFolder.resolve("manifest.json.shards"), storage.getShardFilePath(999).getParent());
+    }
+
+    @Test
+    public void readActivityBook_lazy_expensesReadOnFirstUse() throws Exception {
+        Path filePath = testFolder.resolve("manifest.json");
+        ActivityBook original = createActivityBook();
+        new ShardedActivityBookStorage(filePath).saveActivityBook(original);
+
+        ShardedActivityBookStorage storage = new ShardedActivityBookStorage(filePath, false, true);
+        ActivityBook activityBook = storage.readActivityBook().get();
+        Activity trip = activityBook.getActivityList().get(0);
+        Activity originalTrip = original.getActivityList().get(0);
+        assertFalse(trip.isLoaded());
+        assertEquals(originalTrip.getTitle(), trip.getTitle());
+        assertEquals(originalTrip.getParticipantIds(), trip.getParticipantIds());
+        assertEquals(originalTrip.getTotalSpending(), trip.getTotalSpending());
+
+        trip.loadExpenses();
+        assertTrue(trip.isLoaded());
+        activityBook.getActivityList().forEach(Activity::loadExpenses);
+        assertEquals(original, activityBook);
+    }
+
+    @Test
+    public void saveActivityBook_lazyActivityUnchanged_notLoaded() throws Exception {
+        Path filePath = testFolder.resolve("manifest.json");
+        new ShardedActivityBookStorage(filePath).saveActivityBook(createActivityBook());
+
+        ShardedActivityBookStorage storage = new ShardedActivityBookStorage(filePath, false, true);
+        ActivityBook activityBook = storage.readActivityBook().get();
+        Activity trip = activityBook.getActivityList().get(0);
+        Activity dinner = activityBook.getActivityList().get(1);
+        dinner.addExpense(new Expense(ALICE.getPrimaryKey(), new Amount(8), "soup"));
+        storage.saveActivityBook(activityBook);
+
+        assertFalse(trip.isLoaded());
+        ActivityBook readBack = new ShardedActivityBookStorage(filePath, false, true).readActivityBook().get();
+        activityBook.getActivityList().forEach(Activity::loadExpenses);
+        readBack.getActivityList().forEach(Activity::loadExpenses);
+        assertEquals(activityBook, readBack);
+    }
+
+    @Test
+    public void readActivityBook_lazyMissingShard_failsOnFirstUse() throws Exception {
+        Path filePath = testFolder.resolve("manifest.json");
+        new ShardedActivityBookStorage(filePath).saveActivityBook(createActivityBook());
+        ShardedActivityBookStorage storage = new ShardedActivityBookStorage(filePath, false, true);
+        ActivityBook activityBook = storage.readActivityBook().get();
+        Activity trip = activityBook.getActivityList().get(0);
+        Files.delete(storage.getShardFilePath(trip.getPrimaryKey()));
+
+        assertThrows(ExpenseLoadException.class, () -> trip.getExpenses());
+        assertFalse(trip.isLoaded());
+    }
+
+    private static ActivityBook createActivityBook() {
+        Activity trip = new ActivityBuilder().withTitle("Trip").addPerson(ALICE).addPerson(BENSON).build();
+        trip.addExpense(new Expense(ALICE.getPrimaryKey(), new Amount(12.34), "dinner"));
+        Activity dinner = new ActivityBuilder().withTitle("Dinner").addPerson(ALICE).build();
+        ActivityBook activityBook = new ActivityBook();
+        activityBook.addActivity(trip);
+        activityBook.addActivity(dinner);
+        return activityBook;
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.storage.SqlAddressBookStorageTest.execute;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalActivities.BREAKFAST;
+import static seedu.address.testutil.TypicalActivities.getTypicalActivityBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ActivityBook;
+import seedu.address.model.activity.Activity;
+import seedu.address.model.activity.Amount;
+import seedu.address.model.activity.Expense;
+import seedu.address.testutil.ActivityBuilder;
+
+public class SqlActivityBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readActivityBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new SqlActivityBookStorage(testFolder.resolve("missing.mv.db")).readActivityBook().isPresent());
+    }
+
+    @Test
+    public void readActivityBook_missingInvolvedPersons_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("activitybook.mv.db");
+        ActivityBook activityBook = new ActivityBook();
+        activityBook.addActivity(createTrip());
+        new SqlActivityBookStorage(filePath).saveActivityBook(activityBook);
+        execute(filePath, "DELETE FROM involved WHERE expense_position = 1 AND position = 0");
+        assertThrows(DataConversionException.class, () -> new SqlActivityBookStorage(filePath).readActivityBook());
+    }
+
+    @Test
+    public void readAndSaveActivityBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("activitybook.mv.db");
+        SqlActivityBookStorage storage = new SqlActivityBookStorage(filePath);
+        ActivityBook original = getTypicalActivityBook();
+        storage.saveActivityBook(original);
+        assertEquals(original, storage.readActivityBook().get());
+
+        original.removeActivity(BREAKFAST);
+        original.addActivity(createTrip());
+        storage.saveActivityBook(original);
+        assertEquals(original, new SqlActivityBookStorage(filePath).readActivityBook().get());
+    }
+
+    @Test
+    public void readAndSaveActivityBook_expenseDetails_keptExactly() throws Exception {
+        Activity trip = createTrip();
+        trip.addExpense(new Expense(ALICE.getPrimaryKey(), new Amount(10.0 / 3), "", true, BENSON.getPrimaryKey()));
+        trip.addExpense(new Expense(BENSON.getPrimaryKey(), new Amount(5), "snacks"));
+        trip.deleteExpense(4);
+        ActivityBook original = new ActivityBook();
+        original.addActivity(trip);
+
+        Path filePath = testFolder.resolve("activitybook.mv.db");
+        new SqlActivityBookStorage(filePath).saveActivityBook(original);
+        Activity readBack = new SqlActivityBookStorage(filePath).readActivityBook().get().getActivityList().get(0);
+
+        assertEquals(trip, readBack);
+        List<Expense> expenses = trip.getExpenses();
+        List<Expense> readBackExpenses = readBack.getExpenses();
+        for (int i = 0; i < expenses.size(); i++) {
+            assertEquals(expenses.get(i).getAmount().value, readBackExpenses.get(i).getAmount().value);
+            assertArrayEquals(expenses.get(i).getInvolved(), readBackExpenses.get(i).getInvolved());
+            assertEquals(expenses.get(i).isSettlement(), readBackExpenses.get(i).isSettlement());
+            assertEquals(expenses.get(i).isDeleted(), readBackExpenses.get(i).isDeleted());
+        }
+        for (Integer id : trip.getParticipantIds()) {
+            assertEquals(trip.getTransferAmount(id), readBack.getTransferAmount(id));
+        }
+    }
+
+    @Test
+    public void saveActivityBook_expensesAddedAndDeleted_otherRowsKept() throws Exception {
+        Path filePath = testFolder.resolve("activitybook.mv.db");
+        ActivityBook activityBook = new ActivityBook();
+        activityBook.addActivity(createTrip());
+        activityBook.addActivity(new ActivityBuilder().withTitle("Dinner").addPerson(ALICE).build());
+        new SqlActivityBookStorage(filePath).saveActivityBook(activityBook);
+
+        SqlActivityBookStorage storage = new SqlActivityBookStorage(filePath);
+        ActivityBook readBack = storage.readActivityBook().get();
+        Activity trip = readBack.getActivityList().get(0);
+        Activity dinner = readBack.getActivityList().get(1);
+        // changes made to the database that the storage does not know of
+        execute(filePath, "UPDATE expenses SET description = 'supper' WHERE activity_key = " + trip.getPrimaryKey()
+                + " AND position = 0");
+        execute(filePath, "UPDATE activities SET title = 'Lunch' WHERE primary_key = " + dinner.getPrimaryKey());
+
+        trip.deleteExpense(1);
+        trip.addExpense(new Expense(CARL.getPrimaryKey(), new Amount(7), "museum"));
+        storage.saveActivityBook(readBack);
+
+        List<Activity> saved = new SqlActivityBookStorage(filePath).readActivityBook().get().getActivityList();
+        Activity savedTrip = saved.get(0);
+        Activity savedDinner = saved.get(1);
+        assertEquals("supper", savedTrip.getExpenses().get(0).getDescription());
+        assertEquals(trip.getExpenses().get(1).isDeleted(), savedTrip.getExpenses().get(1).isDeleted());
+        assertEquals(trip.getExpenses().get(3), savedTrip.getExpenses().get(3));
+        assertEquals("Lunch", savedDinner.getTitle().title);
+    }
+
+    @Test
+    public void saveActivityBook_expenseChanged_laterRowsRewritten() throws Exception {
+        Path filePath = testFolder.resolve("activitybook.mv.db");
+        SqlActivityBookStorage storage = new SqlActivityBookStorage(filePath);
+        ActivityBook activityBook = new ActivityBook();
+        Activity trip = createTrip();
+        activityBook.addActivity(trip);
+        storage.saveActivityBook(activityBook);
+
+        Activity changedTrip = new Activity(trip.getPrimaryKey(), trip.getTitle(),
+                ALICE.getPrimaryKey(), CARL.getPrimaryKey());
+        changedTrip.addExpense(new Expense(ALICE.getPrimaryKey(), new Amount(12.34), "dinner"));
+        changedTrip.addExpense(new Expense(CARL.getPrimaryKey(), new Amount(1), "stamps"));
+        activityBook.setActivity(trip, changedTrip);
+        storage.saveActivityBook(activityBook);
+
+        assertEquals(activityBook, new SqlActivityBookStorage(filePath).readActivityBook().get());
+    }
+
+    private static Activity createTrip() {
+        Activity trip = new ActivityBuilder().withTitle("Trip")
+                .addPerson(ALICE).addPerson(BENSON).addPerson(CARL).build();
+        int alice = ALICE.getPrimaryKey();
+        int benson = BENSON.getPrimaryKey();
+        int carl = CARL.getPrimaryKey();
+        trip.addExpense(new Expense(alice, new Amount(12.34), "dinner"));
+        trip.addExpense(new Expense(benson, new Amount(9), "dinner", carl, alice));
+        trip.addExpense(new Expense(carl, new Amount(20), "taxi", alice, benson));
+        return trip;
+    }
+}
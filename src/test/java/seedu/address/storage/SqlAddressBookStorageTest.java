@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class SqlAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_notDatabaseFile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new SqlAddressBookStorage(testFolder.resolve("addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new SqlAddressBookStorage(testFolder.resolve("missing.mv.db")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_invalidPerson_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.mv.db");
+        new SqlAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        execute(filePath, "UPDATE persons SET phone = 'not a phone' WHERE primary_key = " + ALICE.getPrimaryKey());
+        assertThrows(DataConversionException.class, () -> new SqlAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.mv.db");
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withTags("owesMoney").withEmail("benson@example.com")
+                .build());
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new SqlAddressBookStorage(filePath).readAddressBook().get()));
+
+        // saving a new order renumbers the persons
+        AddressBook reordered = new AddressBook();
+        for (int i = original.getPersonList().size() - 1; i >= 0; i--) {
+            reordered.addPerson(original.getPersonList().get(i));
+        }
+        storage.saveAddressBook(reordered);
+        assertEquals(reordered, new AddressBook(new SqlAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personChanged_onlyItsRowWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.mv.db");
+        new SqlAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        // a change made to the database that the storage does not know of
+        execute(filePath, "UPDATE persons SET address = 'Somewhere else' WHERE primary_key = "
+                + CARL.getPrimaryKey());
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(addressBook);
+
+        AddressBook readBack = new AddressBook(new SqlAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(editedAlice, readBack.getPersonByPrimaryKey(ALICE.getPrimaryKey()).get());
+        assertEquals("Somewhere else",
+                readBack.getPersonByPrimaryKey(CARL.getPrimaryKey()).get().getAddress().value);
+    }
+
+    /**
+     * Executes {@code sql} on the database in the file at {@code filePath}.
+     */
+    static void execute(Path filePath, String sql) throws Exception {
+        try (Connection connection = new SqlDatabase(filePath).open();
+                Statement statement = connection.createStatement()) {
+            statement.executeUpdate(sql);
+            connection.commit();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalActivities.getTypicalActivityBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ActivityBook;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.activity.Activity;
+import seedu.address.model.activity.Amount;
+import seedu.address.model.activity.Expense;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.ActivityBuilder;
+
+public class WarmStartImageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getImageFilePath_addressBookFile_sibling() {
+        assertEquals(Path.of("data", WarmStartImage.FILE_NAME),
+                WarmStartImage.getImageFilePath(Path.of("data", "addressbook.json")));
+    }
+
+    @Test
+    public void restore_missingImage_emptyResult() {
+        WarmStartImage image = new WarmStartImage(testFolder.resolve(WarmStartImage.FILE_NAME));
+        assertFalse(image.restore(List.of(testFolder.resolve("addressbook.json"))).isPresent());
+    }
+
+    @Test
+    public void saveAndRestore_unchangedFiles_sameBooks() throws Exception {
+        List<Path> sourceFilePaths = saveSourceFiles();
+        WarmStartImage image = new WarmStartImage(testFolder.resolve(WarmStartImage.FILE_NAME));
+        AddressBook addressBook = getTypicalAddressBook();
+        ActivityBook activityBook = getTypicalActivityBook();
+        activityBook.addActivity(getTrip());
+        image.save(addressBook, activityBook, sourceFilePaths);
+
+        WarmStartImage.Contents restored = image.restore(sourceFilePaths).get();
+        assertEquals(addressBook, restored.getAddressBook());
+        assertEquals(activityBook, restored.getActivityBook());
+        for (int i = 0; i < activityBook.getActivityList().size(); i++) {
+            Activity activity = activityBook.getActivityList().get(i);
+            Activity restoredActivity = restored.getActivityBook().getActivityList().get(i);
+            assertEquals(activity.getBalanceSnapshot(), restoredActivity.getBalanceSnapshot());
+            for (Integer id : activity.getParticipantIds()) {
+                assertEquals(activity.getTransferAmount(id), restoredActivity.getTransferAmount(id));
+            }
+        }
+    }
+
+    @Test
+    public void restore_imageRestored_imageDeleted() throws Exception {
+        List<Path> sourceFilePaths = saveSourceFiles();
+        WarmStartImage image = new WarmStartImage(testFolder.resolve(WarmStartImage.FILE_NAME));
+        image.save(getTypicalAddressBook(), getTypicalActivityBook(), sourceFilePaths);
+
+        assertTrue(image.restore(sourceFilePaths).isPresent());
+        assertFalse(Files.exists(image.getFilePath()));
+        assertFalse(image.restore(sourceFilePaths).isPresent());
+    }
+
+    @Test
+    public void restore_sourceFileChanged_emptyResult() throws Exception {
+        List<Path> sourceFilePaths = saveSourceFiles();
+        WarmStartImage image = new WarmStartImage(testFolder.resolve(WarmStartImage.FILE_NAME));
+        image.save(getTypicalAddressBook(), getTypicalActivityBook(), sourceFilePaths);
+
+        FileUtil.writeToFile(sourceFilePaths.get(0), "{ \"persons\" : [ ] }");
+        assertFalse(image.restore(sourceFilePaths).isPresent());
+        assertFalse(Files.exists(image.getFilePath()));
+    }
+
+    @Test
+    public void restore_fileAddedNextToSourceFile_emptyResult() throws Exception {
+        List<Path> sourceFilePaths = saveSourceFiles();
+        WarmStartImage image = new WarmStartImage(testFolder.resolve(WarmStartImage.FILE_NAME));
+        image.save(getTypicalAddressBook(), getTypicalActivityBook(), sourceFilePaths);
+
+        FileUtil.writeToFile(testFolder.resolve("activitybook.json.journal"), "");
+        assertFalse(image.restore(sourceFilePaths).isPresent());
+    }
+
+    @Test
+    public void restore_corruptedImage_emptyResult() throws Exception {
+        List<Path> sourceFilePaths = saveSourceFiles();
+        WarmStartImage image = new WarmStartImage(testFolder.resolve(WarmStartImage.FILE_NAME));
+        image.save(getTypicalAddressBook(), getTypicalActivityBook(), sourceFilePaths);
+
+        byte[] bytes = Files.readAllBytes(image.getFilePath());
+        Files.write(image.getFilePath(), Arrays.copyOf(bytes, bytes.length / 2));
+        assertFalse(image.restore(sourceFilePaths).isPresent());
+    }
+
+    @Test
+    public void restore_duplicatePersonsInImage_emptyResult() throws Exception {
+        List<Path> sourceFilePaths = saveSourceFiles();
+        WarmStartImage image = new WarmStartImage(testFolder.resolve(WarmStartImage.FILE_NAME));
+        image.save(new AddressBookStub(List.of(ALICE, ALICE)), getTypicalActivityBook(), sourceFilePaths);
+
+        assertFalse(image.restore(sourceFilePaths).isPresent());
+        assertFalse(Files.exists(image.getFilePath()));
+    }
+
+    @Test
+    public void restore_negativePrimaryKeyInImage_emptyResult() throws Exception {
+        List<Path> sourceFilePaths = saveSourceFiles();
+        WarmStartImage image = new WarmStartImage(testFolder.resolve(WarmStartImage.FILE_NAME));
+        Person negativeKey = new Person(-2, ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(),
+                ALICE.getTags());
+        image.save(new AddressBookStub(List.of(negativeKey)), getTypicalActivityBook(), sourceFilePaths);
+
+        assertFalse(image.restore(sourceFilePaths).isPresent());
+    }
+
+    private List<Path> saveSourceFiles() throws Exception {
+        Path addressBookFilePath = testFolder.resolve("addressbook.json");
+        Path activityBookFilePath = testFolder.resolve("activitybook.json");
+        new JsonAddressBookStorage(addressBookFilePath).saveAddressBook(getTypicalAddressBook());
+        new JsonActivityBookStorage(activityBookFilePath).saveActivityBook(getTypicalActivityBook());
+        return List.of(addressBookFilePath, activityBookFilePath);
+    }
+
+    private static Activity getTrip() {
+        Activity trip = new ActivityBuilder().withTitle("Trip")
+                .addPerson(ALICE).addPerson(BENSON).addPerson(CARL).build();
+        int alice = ALICE.getPrimaryKey();
+        int benson = BENSON.getPrimaryKey();
+        int carl = CARL.getPrimaryKey();
+        trip.addExpense(new Expense(alice, new Amount(12.34), "dinner"));
+        trip.addExpense(new Expense(benson, new Amount(9), "dinner", carl, alice));
+        trip.addExpense(new Expense(alice, new Amount(10.0 / 3), "", true, benson));
+        trip.addExpense(new Expense(carl, new Amount(5), "snacks"));
+        trip.deleteExpense(3);
+        return trip;
+    }
+
+    /**
+     * A stub ReadOnlyAddressBook whose persons can violate the constraints of an address book.
+     */
+    private static class AddressBookStub implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons = FXCollections.observableArrayList();
+
+        AddressBookStub(Collection<Person> persons) {
+            this.persons.setAll(persons);
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public Optional<Person> getPersonByPrimaryKey(int primaryKey) {
+            return persons.stream().filter(person -> person.getPrimaryKey() == primaryKey).findFirst();
+        }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
+    }
+}
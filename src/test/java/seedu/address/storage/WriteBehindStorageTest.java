@@ -0,0 +1,169 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ActivityBook;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyActivityBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.activity.Activity;
+import seedu.address.model.activity.Amount;
+import seedu.address.model.activity.Expense;
+import seedu.address.testutil.ActivityBuilder;
+
+public class WriteBehindStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private StorageManagerStub storageManager;
+    private WriteBehindStorage writeBehindStorage;
+
+    @BeforeEach
+    public void setUp() {
+        storageManager = new StorageManagerStub(testFolder);
+        writeBehindStorage = new WriteBehindStorage(storageManager);
+    }
+
+    @Test
+    public void saveAddressBook_changedAfterSave_savedCopyWritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        writeBehindStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        writeBehindStorage.flush();
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveActivityBook_changedAfterSave_savedCopyWritten() throws Exception {
+        Activity dinner = new ActivityBuilder().withTitle("Dinner").addPerson(ALICE).addPerson(BENSON).build();
+        ActivityBook original = new ActivityBook();
+        original.addActivity(dinner);
+        Activity expected = dinner.copy();
+
+        writeBehindStorage.saveActivityBook(original);
+        dinner.addExpense(new Expense(ALICE.getPrimaryKey(), new Amount(20), "pizza"));
+        writeBehindStorage.flush();
+
+        assertEquals(List.of(expected), storageManager.readActivityBook().get().getActivityList());
+    }
+
+    @Test
+    public void saveAddressBook_savedWhileWriting_onlyLatestCopyWritten() throws Exception {
+        storageManager.writeStarted = new CountDownLatch(1);
+        storageManager.writeAllowed = new CountDownLatch(1);
+        AddressBook addressBook = new AddressBook();
+        writeBehindStorage.saveAddressBook(addressBook);
+        storageManager.writeStarted.await();
+
+        // the first copy is being written, so these are coalesced into a single write
+        addressBook.addPerson(ALICE);
+        writeBehindStorage.saveAddressBook(addressBook);
+        addressBook.addPerson(BENSON);
+        writeBehindStorage.saveAddressBook(addressBook);
+        storageManager.writeAllowed.countDown();
+        writeBehindStorage.flush();
+
+        assertEquals(2, storageManager.savedAddressBooks.size());
+        assertEquals(addressBook, new AddressBook(storageManager.savedAddressBooks.get(1)));
+    }
+
+    @Test
+    public void saveActivityBook_activityUnchangedSinceLastSave_copyReused() throws Exception {
+        Activity dinner = new ActivityBuilder().withTitle("Dinner").addPerson(ALICE).addPerson(BENSON).build();
+        Activity lunch = new ActivityBuilder().withTitle("Lunch").addPerson(ALICE).addPerson(BENSON).build();
+        ActivityBook original = new ActivityBook();
+        original.addActivity(dinner);
+        original.addActivity(lunch);
+        writeBehindStorage.saveActivityBook(original);
+        writeBehindStorage.flush();
+
+        lunch.addExpense(new Expense(ALICE.getPrimaryKey(), new Amount(20), "pizza"));
+        writeBehindStorage.saveActivityBook(original);
+        writeBehindStorage.flush();
+
+        List<Activity> first = storageManager.savedActivityBooks.get(0).getActivityList();
+        List<Activity> second = storageManager.savedActivityBooks.get(1).getActivityList();
+        assertTrue(first.get(0) == second.get(0));
+        assertFalse(first.get(1) == second.get(1));
+        assertEquals(List.of(dinner, lunch), second);
+    }
+
+    @Test
+    public void flush_writeFails_failureReportedAndWrittenAgain() throws Exception {
+        List<IOException> failures = new ArrayList<>();
+        writeBehindStorage.setSaveFailureHandler(failures::add);
+        storageManager.isFailing = true;
+        writeBehindStorage.saveAddressBook(getTypicalAddressBook());
+
+        // reported once by the queued write, and again by the flush retrying it
+        assertThrows(IOException.class, () -> writeBehindStorage.flush());
+        assertEquals(List.of(StorageManagerStub.FAILURE, StorageManagerStub.FAILURE), failures);
+
+        storageManager.isFailing = false;
+        writeBehindStorage.flush();
+        assertEquals(getTypicalAddressBook(), new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    /**
+     * A {@code StorageManager} writing to JSON files that records the books it saves. It can be made to
+     * fail to save, or to wait before saving.
+     */
+    private static class StorageManagerStub extends StorageManager {
+        private static final IOException FAILURE = new IOException("dummy exception");
+
+        private final List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+        private final List<ReadOnlyActivityBook> savedActivityBooks = new ArrayList<>();
+        private volatile boolean isFailing;
+        private CountDownLatch writeStarted;
+        private CountDownLatch writeAllowed;
+
+        private StorageManagerStub(Path folder) {
+            super(new JsonAddressBookStorage(folder.resolve("ab")), new JsonUserPrefsStorage(folder.resolve("prefs")),
+                    new JsonInternalStateStorage(folder.resolve("state")),
+                    new JsonActivityBookStorage(folder.resolve("acb")));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            if (isFailing) {
+                throw FAILURE;
+            }
+            if (writeStarted != null) {
+                writeStarted.countDown();
+                try {
+                    writeAllowed.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                writeStarted = null;
+            }
+            savedAddressBooks.add(addressBook);
+            super.saveAddressBook(addressBook);
+        }
+
+        @Override
+        public void saveActivityBook(ReadOnlyActivityBook activityBook) throws IOException {
+            savedActivityBooks.add(activityBook);
+            super.saveActivityBook(activityBook);
+        }
+    }
+}
@@ -2,8 +2,10 @@ package seedu.address.stub;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -12,17 +14,42 @@ import seedu.address.model.ActivityBook;
 import seedu.address.model.Context;
 import seedu.address.model.InternalState;
 import seedu.address.model.Model;
+import seedu.address.model.Page;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.activity.Activity;
+import seedu.address.model.activity.ActivitySortKey;
+import seedu.address.model.activity.TitleContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsAllKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortKey;
+import seedu.address.model.tag.TagFilter;
 
 /**
  * A default model stub that have all of the methods failing.
  */
 public class ModelStub implements Model {
+    @Override
+    public void sortPersons(PersonSortKey key) {
+        throw new AssertionError("This method (sortPersons) should not be called.");
+    }
+
+    @Override
+    public void sortActivities(ActivitySortKey key) {
+        throw new AssertionError("This method (sortActivities) should not be called.");
+    }
+
+    @Override
+    public Page<Person> getFilteredPersonPage(int offset, int limit) {
+        throw new AssertionError("This method (getFilteredPersonPage) should not be called.");
+    }
+
+    @Override
+    public Page<Activity> getFilteredActivityPage(int offset, int limit) {
+        throw new AssertionError("This method (getFilteredActivityPage) should not be called.");
+    }
+
     @Override
     public void setInternalState(InternalState internalState) {
         throw new AssertionError("This method (setInternalState) should not be called.");
@@ -104,10 +131,40 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public Optional<Person> findPersonByName(String searchTerm) {
+    public ArrayList<Person> findPersonSimilar(List<String> keywords) {
+        throw new AssertionError("This method (findPersonSimilar) should not be called.");
+    }
+
+    @Override
+    public ArrayList<Person> findPersonByTags(TagFilter filter) {
+        throw new AssertionError("This method (findPersonByTags) should not be called.");
+    }
+
+    @Override
+    public int estimatePersonAny(NameContainsKeywordsPredicate predicate) {
+        throw new AssertionError("This method (estimatePersonAny) should not be called.");
+    }
+
+    @Override
+    public int estimatePersonAll(NameContainsAllKeywordsPredicate predicate) {
+        throw new AssertionError("This method (estimatePersonAll) should not be called.");
+    }
+
+    @Override
+    public int estimatePersonByTags(TagFilter filter) {
+        throw new AssertionError("This method (estimatePersonByTags) should not be called.");
+    }
+
+    @Override
+    public List<Person> findPersonByName(String searchTerm) {
         throw new AssertionError("This method (findPersonByName) should not be called.");
     }
 
+    @Override
+    public Optional<Person> getPersonByPrimaryKey(int primaryKey) {
+        throw new AssertionError("This method (getPersonByPrimaryKey) should not be called.");
+    }
+
     @Override
     public void deletePerson(Person target) {
         throw new AssertionError("This method (deletePerson) should not be called.");
@@ -142,6 +199,21 @@ public class ModelStub implements Model {
         throw new AssertionError("This method (setActivity) should not be called.");
     }
 
+    @Override
+    public ArrayList<Activity> findActivityAny(TitleContainsKeywordsPredicate predicate) {
+        throw new AssertionError("This method (findActivityAny) should not be called.");
+    }
+
+    @Override
+    public ArrayList<Activity> findActivityByPrefix(List<String> prefixes) {
+        throw new AssertionError("This method (findActivityByPrefix) should not be called.");
+    }
+
+    @Override
+    public int estimateActivityAny(TitleContainsKeywordsPredicate predicate) {
+        throw new AssertionError("This method (estimateActivityAny) should not be called.");
+    }
+
     @Override
     public void addActivity(Activity activity) {
         throw new AssertionError("This method (addActivity) should not be called.");
@@ -162,6 +234,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method (updateFilteredPersonList) should not be called.");
     }
 
+    @Override
+    public void updateFilteredPersonList(Set<Integer> primaryKeys) {
+        throw new AssertionError("This method (updateFilteredPersonList) should not be called.");
+    }
+
     @Override
     public ObservableList<Activity> getFilteredActivityList() {
         throw new AssertionError("This method (getFilteredActivityList) should not be called.");
@@ -172,6 +249,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method (updateFilteredActivityList) should not be called.");
     }
 
+    @Override
+    public void updateFilteredActivityList(Collection<Activity> activities) {
+        throw new AssertionError("This method (updateFilteredActivityList) should not be called.");
+    }
+
     @Override
     public List<Person> getAssociatedPersons(Activity activity) {
         throw new AssertionError("This method should not be called.");
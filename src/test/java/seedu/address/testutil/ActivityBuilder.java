@@ -18,11 +18,13 @@ public class ActivityBuilder {
     private Title title;
     private ArrayList<Integer> participantIds;
     private ArrayList<Expense> expenses;
+    private int primaryKey;
 
     public ActivityBuilder() {
         title = new Title(DEFAULT_TITLE);
         participantIds = new ArrayList<>();
         expenses = new ArrayList<>();
+        primaryKey = -1;
     }
 
     /**
@@ -32,6 +34,15 @@ public class ActivityBuilder {
         title = activityToCopy.getTitle();
         participantIds = new ArrayList<>(activityToCopy.getParticipantIds());
         expenses = new ArrayList<>(activityToCopy.getExpenses());
+        primaryKey = -1;
+    }
+
+    /**
+     * Sets the primary key of the {@code Activity} that we are building.
+     */
+    public ActivityBuilder withPrimaryKey(int primaryKey) {
+        this.primaryKey = primaryKey;
+        return this;
     }
 
     /**
@@ -66,7 +77,8 @@ public class ActivityBuilder {
      * @throws PersonNotInActivityException if any of the expenses are by a person not found in the activity.
      */
     public Activity build() throws PersonNotInActivityException {
-        Activity result = new Activity(title, participantIds.toArray(new Integer[participantIds.size()]));
+        Integer[] ids = participantIds.toArray(new Integer[participantIds.size()]);
+        Activity result = primaryKey == -1 ? new Activity(title, ids) : new Activity(primaryKey, title, ids);
         if (!expenses.isEmpty()) {
             result.addExpense(expenses.toArray(new Expense[1]));
         }
@@ -52,6 +52,14 @@ public class PersonBuilder {
         primaryKey = personToCopy.getPrimaryKey();
     }
 
+    /**
+     * Sets the primary key of the {@code Person} that we are building.
+     */
+    public PersonBuilder withPrimaryKey(int primaryKey) {
+        this.primaryKey = primaryKey;
+        return this;
+    }
+
     /**
      * Sets the {@code Name} of the {@code Person} that we are building.
      */